@@ -47,98 +47,114 @@ public class LexerDataTable {
     initrparMainTransitions();
     CharRegexTable rparMain = new CharRegexTable(1, rparMainTransitions, rparMainAccepts);
     RuleData rpar = new RuleData(rparMain, null, 7, false);
+    initlbracketMainAccepts();
+    initlbracketMainTransitions();
+    CharRegexTable lbracketMain = new CharRegexTable(1, lbracketMainTransitions, lbracketMainAccepts);
+    RuleData lbracket = new RuleData(lbracketMain, null, 8, false);
+    initrbracketMainAccepts();
+    initrbracketMainTransitions();
+    CharRegexTable rbracketMain = new CharRegexTable(1, rbracketMainTransitions, rbracketMainAccepts);
+    RuleData rbracket = new RuleData(rbracketMain, null, 9, false);
     initlcurlMainAccepts();
     initlcurlMainTransitions();
     CharRegexTable lcurlMain = new CharRegexTable(1, lcurlMainTransitions, lcurlMainAccepts);
-    RuleData lcurl = new RuleData(lcurlMain, null, 8, false);
+    RuleData lcurl = new RuleData(lcurlMain, null, 10, false);
     initrcurlMainAccepts();
     initrcurlMainTransitions();
     CharRegexTable rcurlMain = new CharRegexTable(1, rcurlMainTransitions, rcurlMainAccepts);
-    RuleData rcurl = new RuleData(rcurlMain, null, 9, false);
+    RuleData rcurl = new RuleData(rcurlMain, null, 11, false);
     initaddMainAccepts();
     initaddMainTransitions();
     CharRegexTable addMain = new CharRegexTable(1, addMainTransitions, addMainAccepts);
-    RuleData add = new RuleData(addMain, null, 10, false);
+    RuleData add = new RuleData(addMain, null, 12, false);
     initsubMainAccepts();
     initsubMainTransitions();
     CharRegexTable subMain = new CharRegexTable(1, subMainTransitions, subMainAccepts);
-    RuleData sub = new RuleData(subMain, null, 11, false);
+    RuleData sub = new RuleData(subMain, null, 13, false);
     initmulMainAccepts();
     initmulMainTransitions();
     CharRegexTable mulMain = new CharRegexTable(1, mulMainTransitions, mulMainAccepts);
-    RuleData mul = new RuleData(mulMain, null, 12, false);
+    RuleData mul = new RuleData(mulMain, null, 14, false);
     initdivMainAccepts();
     initdivMainTransitions();
     CharRegexTable divMain = new CharRegexTable(1, divMainTransitions, divMainAccepts);
-    RuleData div = new RuleData(divMain, null, 13, false);
+    RuleData div = new RuleData(divMain, null, 15, false);
     initremMainAccepts();
     initremMainTransitions();
     CharRegexTable remMain = new CharRegexTable(1, remMainTransitions, remMainAccepts);
-    RuleData rem = new RuleData(remMain, null, 14, false);
+    RuleData rem = new RuleData(remMain, null, 16, false);
     initeqMainAccepts();
     initeqMainTransitions();
     CharRegexTable eqMain = new CharRegexTable(1, eqMainTransitions, eqMainAccepts);
-    RuleData eq = new RuleData(eqMain, null, 15, false);
+    RuleData eq = new RuleData(eqMain, null, 17, false);
     initneMainAccepts();
     initneMainTransitions();
     CharRegexTable neMain = new CharRegexTable(1, neMainTransitions, neMainAccepts);
-    RuleData ne = new RuleData(neMain, null, 16, false);
+    RuleData ne = new RuleData(neMain, null, 18, false);
     initltMainAccepts();
     initltMainTransitions();
     CharRegexTable ltMain = new CharRegexTable(1, ltMainTransitions, ltMainAccepts);
-    RuleData lt = new RuleData(ltMain, null, 17, false);
+    RuleData lt = new RuleData(ltMain, null, 19, false);
     initleMainAccepts();
     initleMainTransitions();
     CharRegexTable leMain = new CharRegexTable(2, leMainTransitions, leMainAccepts);
-    RuleData le = new RuleData(leMain, null, 18, false);
+    RuleData le = new RuleData(leMain, null, 20, false);
     initgtMainAccepts();
     initgtMainTransitions();
     CharRegexTable gtMain = new CharRegexTable(1, gtMainTransitions, gtMainAccepts);
-    RuleData gt = new RuleData(gtMain, null, 19, false);
+    RuleData gt = new RuleData(gtMain, null, 21, false);
     initgeMainAccepts();
     initgeMainTransitions();
     CharRegexTable geMain = new CharRegexTable(2, geMainTransitions, geMainAccepts);
-    RuleData ge = new RuleData(geMain, null, 20, false);
+    RuleData ge = new RuleData(geMain, null, 22, false);
     initvarMainAccepts();
     initvarMainTransitions();
     CharRegexTable varMain = new CharRegexTable(2, varMainTransitions, varMainAccepts);
-    RuleData var = new RuleData(varMain, null, 21, false);
+    RuleData var = new RuleData(varMain, null, 23, false);
     initfunctionMainAccepts();
     initfunctionMainTransitions();
-    CharRegexTable functionMain = new CharRegexTable(6, functionMainTransitions, functionMainAccepts);
-    RuleData function = new RuleData(functionMain, null, 22, false);
+    CharRegexTable functionMain = new CharRegexTable(5, functionMainTransitions, functionMainAccepts);
+    RuleData function = new RuleData(functionMain, null, 24, false);
     init_ifMainAccepts();
     init_ifMainTransitions();
     CharRegexTable _ifMain = new CharRegexTable(1, _ifMainTransitions, _ifMainAccepts);
-    RuleData _if = new RuleData(_ifMain, null, 23, false);
+    RuleData _if = new RuleData(_ifMain, null, 25, false);
     init_elseMainAccepts();
     init_elseMainTransitions();
-    CharRegexTable _elseMain = new CharRegexTable(2, _elseMainTransitions, _elseMainAccepts);
-    RuleData _else = new RuleData(_elseMain, null, 24, false);
+    CharRegexTable _elseMain = new CharRegexTable(1, _elseMainTransitions, _elseMainAccepts);
+    RuleData _else = new RuleData(_elseMain, null, 26, false);
     init_returnMainAccepts();
     init_returnMainTransitions();
     CharRegexTable _returnMain = new CharRegexTable(3, _returnMainTransitions, _returnMainAccepts);
-    RuleData _return = new RuleData(_returnMain, null, 25, false);
+    RuleData _return = new RuleData(_returnMain, null, 27, false);
+    init_whileMainAccepts();
+    init_whileMainTransitions();
+    CharRegexTable _whileMain = new CharRegexTable(2, _whileMainTransitions, _whileMainAccepts);
+    RuleData _while = new RuleData(_whileMain, null, 28, false);
+    init_forMainAccepts();
+    init_forMainTransitions();
+    CharRegexTable _forMain = new CharRegexTable(2, _forMainTransitions, _forMainAccepts);
+    RuleData _for = new RuleData(_forMain, null, 29, false);
     inittextMainAccepts();
     inittextMainTransitions();
     CharRegexTable textMain = new CharRegexTable(2, textMainTransitions, textMainAccepts);
-    RuleData text = new RuleData(textMain, null, 26, false);
+    RuleData text = new RuleData(textMain, null, 30, false);
     initintegerMainAccepts();
     initintegerMainTransitions();
     CharRegexTable integerMain = new CharRegexTable(1, integerMainTransitions, integerMainAccepts);
-    RuleData integer = new RuleData(integerMain, null, 27, false);
+    RuleData integer = new RuleData(integerMain, null, 31, false);
     initidMainAccepts();
     initidMainTransitions();
     CharRegexTable idMain = new CharRegexTable(1, idMainTransitions, idMainAccepts);
-    RuleData id = new RuleData(idMain, null, 28, false);
+    RuleData id = new RuleData(idMain, null, 32, false);
     initspaceMainAccepts();
     initspaceMainTransitions();
     CharRegexTable spaceMain = new CharRegexTable(1, spaceMainTransitions, spaceMainAccepts);
-    RuleData space = new RuleData(spaceMain, null, 29, false);
+    RuleData space = new RuleData(spaceMain, null, 33, false);
     initcommentMainAccepts();
     initcommentMainTransitions();
     CharRegexTable commentMain = new CharRegexTable(1, commentMainTransitions, commentMainAccepts);
-    RuleData comment = new RuleData(commentMain, null, 30, false);
+    RuleData comment = new RuleData(commentMain, null, 34, false);
 
     EnumMap<RuleEnum,RuleData> datas = new EnumMap<RuleEnum,RuleData>(RuleEnum.class);
     datas.put(RuleEnum.assign, assign);
@@ -149,6 +165,8 @@ public class LexerDataTable {
     datas.put(RuleEnum.eol, eol);
     datas.put(RuleEnum.lpar, lpar);
     datas.put(RuleEnum.rpar, rpar);
+    datas.put(RuleEnum.lbracket, lbracket);
+    datas.put(RuleEnum.rbracket, rbracket);
     datas.put(RuleEnum.lcurl, lcurl);
     datas.put(RuleEnum.rcurl, rcurl);
     datas.put(RuleEnum.add, add);
@@ -167,6 +185,8 @@ public class LexerDataTable {
     datas.put(RuleEnum._if, _if);
     datas.put(RuleEnum._else, _else);
     datas.put(RuleEnum._return, _return);
+    datas.put(RuleEnum._while, _while);
+    datas.put(RuleEnum._for, _for);
     datas.put(RuleEnum.text, text);
     datas.put(RuleEnum.integer, integer);
     datas.put(RuleEnum.id, id);
@@ -256,6 +276,26 @@ public class LexerDataTable {
     rparMainTransitions = new int[][] {{0,-1},{0,-1,41,0,42,-1}};
   }
   
+  private boolean[] lbracketMainAccepts;
+  private void initlbracketMainAccepts() {
+    lbracketMainAccepts = new boolean[] {true,false};
+  }
+    
+  private int[][] lbracketMainTransitions;
+  private void initlbracketMainTransitions() {
+    lbracketMainTransitions = new int[][] {{0,-1},{0,-1,91,0,92,-1}};
+  }
+  
+  private boolean[] rbracketMainAccepts;
+  private void initrbracketMainAccepts() {
+    rbracketMainAccepts = new boolean[] {true,false};
+  }
+    
+  private int[][] rbracketMainTransitions;
+  private void initrbracketMainTransitions() {
+    rbracketMainTransitions = new int[][] {{0,-1},{0,-1,93,0,94,-1}};
+  }
+  
   private boolean[] lcurlMainAccepts;
   private void initlcurlMainAccepts() {
     lcurlMainAccepts = new boolean[] {true,false};
@@ -403,7 +443,7 @@ public class LexerDataTable {
     
   private int[][] functionMainTransitions;
   private void initfunctionMainTransitions() {
-    functionMainTransitions = new int[][] {{0,-1},{0,-1,111,7,112,-1},{0,-1,99,8,100,-1},{0,-1,105,1,106,-1},{0,-1,117,5,118,-1},{0,-1,110,2,111,-1},{0,-1,102,4,103,-1},{0,-1,110,0,111,-1},{0,-1,116,3,117,-1}};
+    functionMainTransitions = new int[][] {{0,-1},{0,-1,105,3,106,-1},{0,-1,117,6,118,-1},{0,-1,111,7,112,-1},{0,-1,99,8,100,-1},{0,-1,102,2,103,-1},{0,-1,110,4,111,-1},{0,-1,110,0,111,-1},{0,-1,116,1,117,-1}};
   }
   
   private boolean[] _ifMainAccepts;
@@ -423,7 +463,7 @@ public class LexerDataTable {
     
   private int[][] _elseMainTransitions;
   private void init_elseMainTransitions() {
-    _elseMainTransitions = new int[][] {{0,-1},{0,-1,115,3,116,-1},{0,-1,101,4,102,-1},{0,-1,101,0,102,-1},{0,-1,108,1,109,-1}};
+    _elseMainTransitions = new int[][] {{0,-1},{0,-1,101,4,102,-1},{0,-1,115,3,116,-1},{0,-1,101,0,102,-1},{0,-1,108,2,109,-1}};
   }
   
   private boolean[] _returnMainAccepts;
@@ -433,7 +473,27 @@ public class LexerDataTable {
     
   private int[][] _returnMainTransitions;
   private void init_returnMainTransitions() {
-    _returnMainTransitions = new int[][] {{0,-1},{0,-1,101,6,102,-1},{0,-1,117,4,118,-1},{0,-1,114,1,115,-1},{0,-1,114,5,115,-1},{0,-1,110,0,111,-1},{0,-1,116,2,117,-1}};
+    _returnMainTransitions = new int[][] {{0,-1},{0,-1,117,4,118,-1},{0,-1,101,6,102,-1},{0,-1,114,2,115,-1},{0,-1,114,5,115,-1},{0,-1,110,0,111,-1},{0,-1,116,1,117,-1}};
+  }
+  
+  private boolean[] _whileMainAccepts;
+  private void init_whileMainAccepts() {
+    _whileMainAccepts = new boolean[] {true,false,false,false,false,false};
+  }
+    
+  private int[][] _whileMainTransitions;
+  private void init_whileMainTransitions() {
+    _whileMainTransitions = new int[][] {{0,-1},{0,-1,105,4,106,-1},{0,-1,119,5,120,-1},{0,-1,101,0,102,-1},{0,-1,108,3,109,-1},{0,-1,104,1,105,-1}};
+  }
+  
+  private boolean[] _forMainAccepts;
+  private void init_forMainAccepts() {
+    _forMainAccepts = new boolean[] {true,false,false,false};
+  }
+    
+  private int[][] _forMainTransitions;
+  private void init_forMainTransitions() {
+    _forMainTransitions = new int[][] {{0,-1},{0,-1,111,3,112,-1},{0,-1,102,1,103,-1},{0,-1,114,0,115,-1}};
   }
   
   private boolean[] textMainAccepts;
@@ -463,7 +523,7 @@ public class LexerDataTable {
     
   private int[][] idMainTransitions;
   private void initidMainTransitions() {
-    idMainTransitions = new int[][] {{0,0,9,-1,11,0,13,-1,14,0,32,-1,33,0,40,-1,42,0,44,-1,45,0,46,-1,47,0,58,-1,60,0,61,-1,62,0},{0,0,9,-1,11,0,13,-1,14,0,32,-1,33,0,40,-1,42,0,44,-1,45,0,46,-1,47,0,58,-1,60,0,61,-1,62,0}};
+    idMainTransitions = new int[][] {{0,0,9,-1,11,0,13,-1,14,0,32,-1,33,0,40,-1,42,0,44,-1,45,0,46,-1,47,0,58,-1,60,0,61,-1,62,0,91,-1,92,0,93,-1,94,0},{0,0,9,-1,11,0,13,-1,14,0,32,-1,33,0,40,-1,42,0,44,-1,45,0,46,-1,47,0,58,-1,60,0,61,-1,62,0,91,-1,92,0,93,-1,94,0}};
   }
   
   private boolean[] spaceMainAccepts;
@@ -8,6 +8,8 @@ public enum NonTerminalEnum {
 block,
 eoi,
 instr,
+for_init,
+for_step,
 args,
 init,
 expr,
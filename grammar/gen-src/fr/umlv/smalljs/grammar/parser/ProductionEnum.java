@@ -16,8 +16,15 @@ instr_expr,
 instr_var_decl,
 instr_var_assign,
 instr_field_assign,
+instr_element_assign,
 instr_if,
 instr_return,
+instr_while,
+instr_for,
+for_init_var_decl,
+for_init_var_assign,
+for_step_var_assign,
+for_step_expr,
 expr_star_2_element,
 expr_star_2_rec,
 expr_star_2_empty,
@@ -43,8 +50,10 @@ init_star_6_rec,
 init_star_6_empty,
 init_star_6_through,
 expr_new,
+expr_array,
 expr_field_access,
 expr_method_call,
+expr_element_access,
 expr_mul,
 expr_div,
 expr_rem,
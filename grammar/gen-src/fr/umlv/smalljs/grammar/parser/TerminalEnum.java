@@ -12,6 +12,8 @@ semicolon,
 eol,
 lpar,
 rpar,
+lbracket,
+rbracket,
 lcurl,
 rcurl,
 add,
@@ -30,6 +32,8 @@ function,
 _if,
 _else,
 _return,
+_while,
+_for,
 text,
 integer,
 id,
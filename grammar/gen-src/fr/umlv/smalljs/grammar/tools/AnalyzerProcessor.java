@@ -96,6 +96,12 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
            }
                  case rpar: {
                        return;
+           }
+                 case lbracket: {
+                       return;
+           }
+                 case rbracket: {
+                       return;
            }
                  case lcurl: {
                        return;
@@ -150,6 +156,12 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
            }
                  case _return: {
                        return;
+           }
+                 case _while: {
+                       return;
+           }
+                 case _for: {
+                       return;
            }
                  case text: {
          data=dataViewer.view(buffer);
@@ -253,6 +265,14 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
                                           Expr expr=(Expr)stack.pop_Object();
                                                 stack.push_Object(grammarEvaluator.instr_field_assign(expr,id,expr2));
                       
+          }
+          return;
+                    case instr_element_assign: { // not synthetic
+                                 Expr expr3=(Expr)stack.pop_Object();
+                                          Expr expr2=(Expr)stack.pop_Object();
+                                          Expr expr=(Expr)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.instr_element_assign(expr,expr2,expr3));
+                      
           }
           return;
                     case instr_if: { // not synthetic
@@ -267,6 +287,49 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
                                  Expr expr=(Expr)stack.pop_Object();
                                                 stack.push_Object(grammarEvaluator.instr_return(expr));
                       
+          }
+          return;
+                    case instr_while: { // not synthetic
+                                 Block block=(Block)stack.pop_Object();
+                                          Expr expr=(Expr)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.instr_while(expr,block));
+                      
+          }
+          return;
+                    case instr_for: { // not synthetic
+                                 Block block=(Block)stack.pop_Object();
+                                          Expr for_step=(Expr)stack.pop_Object();
+                                          Expr expr=(Expr)stack.pop_Object();
+                                          Expr for_init=(Expr)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.instr_for(for_init,expr,for_step,block));
+                      
+          }
+          return;
+                    case for_init_var_decl: { // not synthetic
+                                 Expr expr=(Expr)stack.pop_Object();
+                                          Literal<String> id=(Literal<String>)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.for_init_var_decl(id,expr));
+                      
+          }
+          return;
+                    case for_init_var_assign: { // not synthetic
+                                 Expr expr=(Expr)stack.pop_Object();
+                                          Literal<String> id=(Literal<String>)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.for_init_var_assign(id,expr));
+                      
+          }
+          return;
+                    case for_step_var_assign: { // not synthetic
+                                 Expr expr=(Expr)stack.pop_Object();
+                                          Literal<String> id=(Literal<String>)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.for_step_var_assign(id,expr));
+                      
+          }
+          return;
+                    case for_step_expr: { // not synthetic
+                                 Expr expr=(Expr)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.for_step_expr(expr));
+                      
           }
           return;
                     case expr_star_2_element: { // STAR_SINGLETON
@@ -420,6 +483,12 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
                                  List<Expr[]> init_star_6=(List<Expr[]>)stack.pop_Object();
                                                 stack.push_Object(grammarEvaluator.expr_new(init_star_6));
                       
+          }
+          return;
+                    case expr_array: { // not synthetic
+                                 List<Expr> args=(List<Expr>)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.expr_array(args));
+                      
           }
           return;
                     case expr_field_access: { // not synthetic
@@ -435,6 +504,13 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
                                           Expr expr=(Expr)stack.pop_Object();
                                                 stack.push_Object(grammarEvaluator.expr_method_call(expr,id,args));
                       
+          }
+          return;
+                    case expr_element_access: { // not synthetic
+                                 Expr expr2=(Expr)stack.pop_Object();
+                                          Expr expr=(Expr)stack.pop_Object();
+                                                stack.push_Object(grammarEvaluator.expr_element_access(expr,expr2));
+                      
           }
           return;
                     case expr_mul: { // not synthetic
@@ -552,6 +628,12 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
               return;
                          case rpar:
               
+              return;
+                         case lbracket:
+              
+              return;
+                         case rbracket:
+              
               return;
                          case lcurl:
               
@@ -606,6 +688,12 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
               return;
                          case _return:
               
+              return;
+                         case _while:
+              
+              return;
+                         case _for:
+              
               return;
                          case text:
               stack.pop_Object();
@@ -635,6 +723,12 @@ public class AnalyzerProcessor<B extends LexerBuffer,D>
               return;
                          case instr:
               stack.pop_Object();
+              return;
+                         case for_init:
+              stack.pop_Object();
+              return;
+                         case for_step:
+              stack.pop_Object();
               return;
                          case args:
               stack.pop_Object();
@@ -39,6 +39,11 @@ public interface GrammarEvaluator {
    *  <code>instr ::= expr dot id assign expr eoi</code>
    */
   public Expr instr_field_assign(Expr expr,Literal<String> id,Expr expr2);
+  /** This methods is called after the reduction of the non terminal instr
+   *  by the grammar production instr_element_assign.
+   *  <code>instr ::= expr lbracket expr rbracket assign expr eoi</code>
+   */
+  public Expr instr_element_assign(Expr expr,Expr expr2,Expr expr3);
   /** This methods is called after the reduction of the non terminal instr
    *  by the grammar production instr_if.
    *  <code>instr ::= _if expr block _else block</code>
@@ -49,6 +54,36 @@ public interface GrammarEvaluator {
    *  <code>instr ::= _return expr eoi</code>
    */
   public Expr instr_return(Expr expr);
+  /** This methods is called after the reduction of the non terminal instr
+   *  by the grammar production instr_while.
+   *  <code>instr ::= _while expr block</code>
+   */
+  public Expr instr_while(Expr expr,Block block);
+  /** This methods is called after the reduction of the non terminal instr
+   *  by the grammar production instr_for.
+   *  <code>instr ::= _for lpar for_init semicolon expr semicolon for_step rpar block</code>
+   */
+  public Expr instr_for(Expr for_init,Expr expr,Expr for_step,Block block);
+  /** This methods is called after the reduction of the non terminal for_init
+   *  by the grammar production for_init_var_decl.
+   *  <code>for_init ::= var id assign expr</code>
+   */
+  public Expr for_init_var_decl(Literal<String> id,Expr expr);
+  /** This methods is called after the reduction of the non terminal for_init
+   *  by the grammar production for_init_var_assign.
+   *  <code>for_init ::= id assign expr</code>
+   */
+  public Expr for_init_var_assign(Literal<String> id,Expr expr);
+  /** This methods is called after the reduction of the non terminal for_step
+   *  by the grammar production for_step_var_assign.
+   *  <code>for_step ::= id assign expr</code>
+   */
+  public Expr for_step_var_assign(Literal<String> id,Expr expr);
+  /** This methods is called after the reduction of the non terminal for_step
+   *  by the grammar production for_step_expr.
+   *  <code>for_step ::= expr</code>
+   */
+  public Expr for_step_expr(Expr expr);
   /** This methods is called after the reduction of the non terminal args
    *  by the grammar production args.
    *  <code>args ::= expr_star_2</code>
@@ -94,6 +129,11 @@ public interface GrammarEvaluator {
    *  <code>expr ::= lcurl init_star_6 rcurl</code>
    */
   public Expr expr_new(List<Expr[]> init_star);
+  /** This methods is called after the reduction of the non terminal expr
+   *  by the grammar production expr_array.
+   *  <code>expr ::= lbracket args rbracket</code>
+   */
+  public Expr expr_array(List<Expr> args);
   /** This methods is called after the reduction of the non terminal expr
    *  by the grammar production expr_field_access.
    *  <code>expr ::= expr dot id</code>
@@ -104,6 +144,11 @@ public interface GrammarEvaluator {
    *  <code>expr ::= expr dot id lpar args rpar</code>
    */
   public Expr expr_method_call(Expr expr,Literal<String> id,List<Expr> args);
+  /** This methods is called after the reduction of the non terminal expr
+   *  by the grammar production expr_element_access.
+   *  <code>expr ::= expr lbracket expr rbracket</code>
+   */
+  public Expr expr_element_access(Expr expr,Expr expr2);
   /** This methods is called after the reduction of the non terminal expr
    *  by the grammar production expr_mul.
    *  <code>expr ::= expr mul expr</code>
@@ -10,39 +10,43 @@ import fr.umlv.smalljs.grammar.parser.TerminalEnum;
 
 public class ToolsDataTable {
   public static ToolsTable<RuleEnum,TerminalEnum> createToolsTable() {
-      EnumSet<RuleEnum> spawns = EnumSet.of(RuleEnum.lcurl,RuleEnum.text,RuleEnum.id,RuleEnum.semicolon,RuleEnum.rcurl,RuleEnum.rpar,RuleEnum.comment,RuleEnum.eq,RuleEnum._else,RuleEnum.add,RuleEnum.comma,RuleEnum.ge,RuleEnum.function,RuleEnum.var,RuleEnum._return,RuleEnum.dot,RuleEnum.sub,RuleEnum.gt,RuleEnum.integer,RuleEnum.lt,RuleEnum.div,RuleEnum.lpar,RuleEnum.mul,RuleEnum.ne,RuleEnum.rem,RuleEnum._if,RuleEnum.colon,RuleEnum.assign,RuleEnum.le,RuleEnum.eol);
+      EnumSet<RuleEnum> spawns = EnumSet.of(RuleEnum.lpar,RuleEnum._for,RuleEnum.colon,RuleEnum.ne,RuleEnum.rbracket,RuleEnum.id,RuleEnum.div,RuleEnum._if,RuleEnum.integer,RuleEnum.comment,RuleEnum.le,RuleEnum.dot,RuleEnum.assign,RuleEnum.lcurl,RuleEnum.rem,RuleEnum.eq,RuleEnum.lbracket,RuleEnum.comma,RuleEnum.text,RuleEnum.ge,RuleEnum._else,RuleEnum.var,RuleEnum.gt,RuleEnum.semicolon,RuleEnum.rpar,RuleEnum.sub,RuleEnum.eol,RuleEnum._return,RuleEnum.add,RuleEnum.mul,RuleEnum.rcurl,RuleEnum.function,RuleEnum._while,RuleEnum.lt);
       EnumSet<RuleEnum> discards = EnumSet.allOf(RuleEnum.class);
       EnumMap<RuleEnum,TerminalEnum> terminal = new EnumMap<RuleEnum,TerminalEnum>(RuleEnum.class);
-              terminal.put(RuleEnum.lcurl,TerminalEnum.lcurl);
-              terminal.put(RuleEnum.text,TerminalEnum.text);
+              terminal.put(RuleEnum.lpar,TerminalEnum.lpar);
+              terminal.put(RuleEnum._for,TerminalEnum._for);
+              terminal.put(RuleEnum.colon,TerminalEnum.colon);
+              terminal.put(RuleEnum.ne,TerminalEnum.ne);
+              terminal.put(RuleEnum.rbracket,TerminalEnum.rbracket);
               terminal.put(RuleEnum.id,TerminalEnum.id);
-              terminal.put(RuleEnum.semicolon,TerminalEnum.semicolon);
-              terminal.put(RuleEnum.rcurl,TerminalEnum.rcurl);
-              terminal.put(RuleEnum.rpar,TerminalEnum.rpar);
+              terminal.put(RuleEnum.div,TerminalEnum.div);
+              terminal.put(RuleEnum._if,TerminalEnum._if);
+              terminal.put(RuleEnum.integer,TerminalEnum.integer);
+              terminal.put(RuleEnum.le,TerminalEnum.le);
+              terminal.put(RuleEnum.dot,TerminalEnum.dot);
+              terminal.put(RuleEnum.assign,TerminalEnum.assign);
+              terminal.put(RuleEnum.lcurl,TerminalEnum.lcurl);
+              terminal.put(RuleEnum.rem,TerminalEnum.rem);
               terminal.put(RuleEnum.eq,TerminalEnum.eq);
-              terminal.put(RuleEnum._else,TerminalEnum._else);
-              terminal.put(RuleEnum.add,TerminalEnum.add);
+              terminal.put(RuleEnum.lbracket,TerminalEnum.lbracket);
               terminal.put(RuleEnum.comma,TerminalEnum.comma);
+              terminal.put(RuleEnum.text,TerminalEnum.text);
               terminal.put(RuleEnum.ge,TerminalEnum.ge);
-              terminal.put(RuleEnum.function,TerminalEnum.function);
+              terminal.put(RuleEnum._else,TerminalEnum._else);
               terminal.put(RuleEnum.var,TerminalEnum.var);
-              terminal.put(RuleEnum._return,TerminalEnum._return);
-              terminal.put(RuleEnum.dot,TerminalEnum.dot);
-              terminal.put(RuleEnum.sub,TerminalEnum.sub);
               terminal.put(RuleEnum.gt,TerminalEnum.gt);
-              terminal.put(RuleEnum.integer,TerminalEnum.integer);
-              terminal.put(RuleEnum.lt,TerminalEnum.lt);
-              terminal.put(RuleEnum.div,TerminalEnum.div);
-              terminal.put(RuleEnum.lpar,TerminalEnum.lpar);
-              terminal.put(RuleEnum.mul,TerminalEnum.mul);
-              terminal.put(RuleEnum.ne,TerminalEnum.ne);
-              terminal.put(RuleEnum.rem,TerminalEnum.rem);
-              terminal.put(RuleEnum._if,TerminalEnum._if);
-              terminal.put(RuleEnum.colon,TerminalEnum.colon);
-              terminal.put(RuleEnum.assign,TerminalEnum.assign);
-              terminal.put(RuleEnum.le,TerminalEnum.le);
+              terminal.put(RuleEnum.semicolon,TerminalEnum.semicolon);
+              terminal.put(RuleEnum.rpar,TerminalEnum.rpar);
+              terminal.put(RuleEnum.sub,TerminalEnum.sub);
               terminal.put(RuleEnum.eol,TerminalEnum.eol);
-            EnumSet<RuleEnum> unconditionals = EnumSet.of(RuleEnum.comment,RuleEnum.space);
+              terminal.put(RuleEnum._return,TerminalEnum._return);
+              terminal.put(RuleEnum.add,TerminalEnum.add);
+              terminal.put(RuleEnum.mul,TerminalEnum.mul);
+              terminal.put(RuleEnum.rcurl,TerminalEnum.rcurl);
+              terminal.put(RuleEnum.function,TerminalEnum.function);
+              terminal.put(RuleEnum._while,TerminalEnum._while);
+              terminal.put(RuleEnum.lt,TerminalEnum.lt);
+            EnumSet<RuleEnum> unconditionals = EnumSet.of(RuleEnum.space,RuleEnum.comment);
       return new ToolsTable<RuleEnum,TerminalEnum>(spawns,discards,unconditionals,terminal);
   }
 }
\ No newline at end of file
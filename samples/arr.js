@@ -0,0 +1,4 @@
+var a = [1, 2, 3];
+a[1] = a[0] + a[2];
+print(a[1]);
+print(a);
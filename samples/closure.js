@@ -0,0 +1,11 @@
+function counter() {
+  var c = 0;
+  return function() {
+    c = c + 1;
+    return c;
+  };
+}
+
+var next = counter();
+next();
+print(next(), next());
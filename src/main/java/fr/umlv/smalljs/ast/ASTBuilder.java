@@ -1,6 +1,7 @@
 package fr.umlv.smalljs.ast;
 
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -8,6 +9,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
 import fr.umlv.smalljs.ast.Expr.FieldAccess;
 import fr.umlv.smalljs.ast.Expr.FieldAssignment;
 import fr.umlv.smalljs.ast.Expr.Fun;
@@ -18,7 +21,9 @@ import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
 import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
 import fr.umlv.smalljs.ast.Expr.MethodCall;
 import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
 import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
 import fr.umlv.smalljs.grammar.tools.Analyzers;
 import fr.umlv.smalljs.grammar.tools.GrammarEvaluator;
 import fr.umlv.smalljs.grammar.tools.TerminalEvaluator;
@@ -33,11 +38,23 @@ public class ASTBuilder implements GrammarEvaluator {
   }
 
   public static Script createScript(Reader reader) {
-    LocationTracker tracker = new LocationTracker();
-    ReaderWrapper buffer = new ReaderWrapper(reader, tracker);
-    ASTBuilder astBuilder = new ASTBuilder(tracker);
-    Analyzers.run(buffer, new TerminalBuilder(tracker), astBuilder, null, null);
-    return astBuilder.script;
+    return Parser.parse(reader);
+  }
+
+  // the parser generated by Tatoo from smalljs.ebnf, kept to check and benchmark the hand-written one (see Parser)
+  public static Script createScriptWithTatoo(Reader reader) {
+    return TatooAnalyzer.run(reader);
+  }
+
+  // the classes of the Tatoo runtime are only loaded if this class is used
+  private static class TatooAnalyzer {
+    static Script run(Reader reader) {
+      LocationTracker tracker = new LocationTracker();
+      ReaderWrapper buffer = new ReaderWrapper(reader, tracker);
+      ASTBuilder astBuilder = new ASTBuilder(tracker);
+      Analyzers.run(buffer, new TerminalBuilder(tracker), astBuilder, null, null);
+      return astBuilder.script;
+    }
   }
 
   static class TerminalBuilder implements TerminalEvaluator<CharSequence> {
@@ -105,6 +122,10 @@ public class ASTBuilder implements GrammarEvaluator {
     return new FieldAssignment(expr, id.value(), expr2, expr.lineNumber());
   }
   @Override
+  public Expr instr_element_assign(Expr expr, Expr expr2, Expr expr3) {
+    return new ElementAssignment(expr, expr2, expr3, expr.lineNumber());
+  }
+  @Override
   public Expr instr_return(Expr expr) {
     return new Return(expr, expr.lineNumber());
   }
@@ -112,6 +133,33 @@ public class ASTBuilder implements GrammarEvaluator {
   public Expr instr_if(Expr expr, Block block, Block block2) {
     return new If(expr, block, block2, expr.lineNumber());
   }
+  @Override
+  public Expr instr_while(Expr expr, Block block) {
+    return new While(expr, block, expr.lineNumber());
+  }
+  @Override
+  public Expr instr_for(Expr for_init, Expr expr, Expr for_step, Block block) {
+    var body = new ArrayList<>(block.instrs());
+    body.add(for_step);
+    return new Block(List.of(for_init, new While(expr, new Block(List.copyOf(body), block.lineNumber()), expr.lineNumber())),
+        for_init.lineNumber());
+  }
+  @Override
+  public Expr for_init_var_decl(Literal<String> id, Expr expr) {
+    return instr_var_decl(id, expr);
+  }
+  @Override
+  public Expr for_init_var_assign(Literal<String> id, Expr expr) {
+    return instr_var_assign(id, expr);
+  }
+  @Override
+  public Expr for_step_var_assign(Literal<String> id, Expr expr) {
+    return instr_var_assign(id, expr);
+  }
+  @Override
+  public Expr for_step_expr(Expr expr) {
+    return expr;
+  }
   
   @Override
   public List<Expr> args(List<Expr> expr_star) {
@@ -159,6 +207,10 @@ public class ASTBuilder implements GrammarEvaluator {
         init_star.stream().mapToInt(x -> x[0].lineNumber()).findFirst().orElse(1 + tracker.getLineNumber()));
   }
   @Override
+  public Expr expr_array(List<Expr> args) {
+    return new NewArray(args, args.stream().mapToInt(Expr::lineNumber).findFirst().orElse(1 + tracker.getLineNumber()));
+  }
+  @Override
   public Expr expr_field_access(Expr expr, Literal<String> id) {
     return new FieldAccess(expr, id.value(), expr.lineNumber());
   }
@@ -166,6 +218,10 @@ public class ASTBuilder implements GrammarEvaluator {
   public Expr expr_method_call(Expr expr, Literal<String> id, List<Expr> args) {
     return new MethodCall(expr, id.value(), args, expr.lineNumber());
   }
+  @Override
+  public Expr expr_element_access(Expr expr, Expr expr2) {
+    return new ElementAccess(expr, expr2, expr.lineNumber());
+  }
   
   @Override
   public Expr expr_add(Expr expr, Expr expr2) {
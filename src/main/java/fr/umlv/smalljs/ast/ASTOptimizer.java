@@ -0,0 +1,430 @@
+package fr.umlv.smalljs.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
+import fr.umlv.smalljs.ast.Expr.FieldAccess;
+import fr.umlv.smalljs.ast.Expr.FieldAssignment;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.ast.Expr.FunCall;
+import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
+import fr.umlv.smalljs.ast.Expr.Literal;
+import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
+import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
+import fr.umlv.smalljs.ast.Expr.MethodCall;
+import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
+import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.rt.InlineGuard;
+
+// rewrite the AST of a script before it is interpreted, so all the interpreters benefit from the optimizations.
+// The builtins (the operators, print and global) are functions of the global environment,
+// a pass only uses the semantics of a builtin if its name is never declared, assigned or used as a parameter
+// or as a field name in an assignment anywhere in the script
+public class ASTOptimizer {
+  public enum Pass {
+    // a method call to a builtin on global (global.print(x)) or through apply (print.apply(x)) is a function call
+    BUILTIN_INLINING,
+    // a call to a small non-recursive function declared once at top level is replaced by the body of the function,
+    // the inlined body is only used while the global variable is bound to a function (see InlineGuard)
+    FUNCTION_INLINING,
+    // the local variables initialized with a constant are replaced by the constant and the arithmetic
+    // operators with constant arguments are computed
+    CONSTANT_FOLDING,
+    // an if with a comparison of constants is replaced by the block that is executed
+    DEAD_BRANCH_ELIMINATION
+  }
+
+  private static final Set<String> ARITHMETIC_OPERATORS = Set.of("+", "-", "*", "/", "%");
+  private static final Set<String> COMPARISON_OPERATORS = Set.of("==", "!=", "<", "<=", ">", ">=");
+  private static final Set<String> BUILTINS = Set.of("global", "print", "+", "-", "*", "/", "%", "==", "!=", "<", "<=", ">", ">=");
+  // maximum number of nodes of the returned expression of an inlined function
+  private static final int MAX_INLINED_SIZE = 12;
+
+  // the names assigned, used as parameter or as assigned field name in the script and the builtins declared as variable
+  private final Set<String> redefinedNames = new HashSet<>();
+  // the number of declarations of each local variable in the script
+  private final Map<String, Integer> declarations = new HashMap<>();
+  // the named functions of the script
+  private final Map<String, List<Fun>> functions = new HashMap<>();
+  // the functions declared by an instruction of the script body
+  private final Set<Fun> topLevelFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+  // used to rename the parameters of the inlined functions, ':' is not allowed in an identifier
+  private int inliningCounter;
+
+  private ASTOptimizer() {}
+
+  public static Script optimize(Script script) {
+    return optimize(script, EnumSet.allOf(Pass.class));
+  }
+
+  public static Script optimize(Script script, Set<Pass> passes) {
+    var optimizer = new ASTOptimizer();
+    var body = script.body();
+    optimizer.visitNames(body);
+    body.instrs().stream()
+        .filter(instr -> instr instanceof Fun)
+        .forEach(instr -> optimizer.topLevelFunctions.add((Fun) instr));
+    if (passes.contains(Pass.BUILTIN_INLINING)) {
+      body = rewriteBlock(body, optimizer::inlineBuiltin);
+    }
+    if (passes.contains(Pass.FUNCTION_INLINING)) {
+      body = rewriteBlock(body, optimizer::inlineFunction);
+    }
+    if (passes.contains(Pass.CONSTANT_FOLDING)) {
+      body = optimizer.foldBlock(body, Map.of());
+    }
+    if (passes.contains(Pass.DEAD_BRANCH_ELIMINATION)) {
+      body = rewriteBlock(body, optimizer::eliminateDeadBranch);
+    }
+    return new Script(body);
+  }
+
+  private boolean isBuiltin(String name) {
+    return BUILTINS.contains(name) && !redefinedNames.contains(name) && !functions.containsKey(name);
+  }
+
+  // a variable can be replaced by its initial value if it is declared once and never assigned
+  private boolean isConstant(String name) {
+    return declarations.getOrDefault(name, 0) == 1 && !redefinedNames.contains(name) && !functions.containsKey(name);
+  }
+
+  private void visitNames(Expr expression) {
+    switch (expression) {
+      case Block(List<Expr> instrs, int lineNumber) -> instrs.forEach(this::visitNames);
+      case Literal<?>(Object value, int lineNumber) -> {
+        // do nothing
+      }
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+        visitNames(qualifier);
+        args.forEach(this::visitNames);
+      }
+      case LocalVarAccess(String name, int lineNumber) -> {
+        // do nothing
+      }
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+        if (declaration) {
+          declarations.merge(name, 1, Integer::sum);
+          if (BUILTINS.contains(name)) {
+            redefinedNames.add(name);
+          }
+        } else {
+          redefinedNames.add(name);
+        }
+        visitNames(expr);
+      }
+      case Fun fun -> {
+        fun.name().ifPresent(name -> functions.computeIfAbsent(name, key -> new ArrayList<>()).add(fun));
+        redefinedNames.addAll(fun.parameters());
+        visitNames(fun.body());
+      }
+      case Return(Expr expr, int lineNumber) -> visitNames(expr);
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+        visitNames(condition);
+        visitNames(trueBlock);
+        visitNames(falseBlock);
+      }
+      case While(Expr condition, Block body, int lineNumber) -> {
+        visitNames(condition);
+        visitNames(body);
+      }
+      case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> visitNames(call);
+      case New(Map<String, Expr> initMap, int lineNumber) -> initMap.values().forEach(this::visitNames);
+      case NewArray(List<Expr> elements, int lineNumber) -> elements.forEach(this::visitNames);
+      case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+        visitNames(array);
+        visitNames(index);
+      }
+      case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+        visitNames(array);
+        visitNames(index);
+        visitNames(expr);
+      }
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> visitNames(receiver);
+      case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+        // global.name = expr changes a global variable
+        redefinedNames.add(name);
+        visitNames(receiver);
+        visitNames(expr);
+      }
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+        visitNames(receiver);
+        args.forEach(this::visitNames);
+      }
+    }
+  }
+
+  // rewrite the children of an expression then the expression itself, the blocks are not rewritten by the operator
+  private static Expr rewrite(Expr expression, UnaryOperator<Expr> operator) {
+    var result = switch (expression) {
+      case Block block -> rewriteBlock(block, operator);
+      case Literal<?> literal -> literal;
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) ->
+          new FunCall(rewrite(qualifier, operator), args.stream().map(arg -> rewrite(arg, operator)).toList(), lineNumber);
+      case LocalVarAccess localVarAccess -> localVarAccess;
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) ->
+          new LocalVarAssignment(name, rewrite(expr, operator), declaration, lineNumber);
+      case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) ->
+          new Fun(optName, parameters, rewriteBlock(body, operator), lineNumber);
+      case Return(Expr expr, int lineNumber) -> new Return(rewrite(expr, operator), lineNumber);
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) ->
+          new If(rewrite(condition, operator), rewriteBlock(trueBlock, operator), rewriteBlock(falseBlock, operator), lineNumber);
+      case While(Expr condition, Block body, int lineNumber) ->
+          new While(rewrite(condition, operator), rewriteBlock(body, operator), lineNumber);
+      case InlinedCall(FunCall(Expr qualifier, List<Expr> args, int callLineNumber), List<String> parameters, Expr expr,
+                       InlineGuard guard, int lineNumber) -> {
+        // the call itself is not rewritten, it must stay a call
+        var newCall = new FunCall(rewrite(qualifier, operator), args.stream().map(arg -> rewrite(arg, operator)).toList(), callLineNumber);
+        yield new InlinedCall(newCall, parameters, rewrite(expr, operator), guard, lineNumber);
+      }
+      case New(Map<String, Expr> initMap, int lineNumber) -> {
+        var newInitMap = new LinkedHashMap<String, Expr>();
+        initMap.forEach((name, init) -> newInitMap.put(name, rewrite(init, operator)));
+        yield new New(newInitMap, lineNumber);
+      }
+      case NewArray(List<Expr> elements, int lineNumber) -> new NewArray(elements.stream().map(element -> rewrite(element, operator)).toList(), lineNumber);
+      case ElementAccess(Expr array, Expr index, int lineNumber) -> new ElementAccess(rewrite(array, operator), rewrite(index, operator), lineNumber);
+      case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) ->
+          new ElementAssignment(rewrite(array, operator), rewrite(index, operator), rewrite(expr, operator), lineNumber);
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> new FieldAccess(rewrite(receiver, operator), name, lineNumber);
+      case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) ->
+          new FieldAssignment(rewrite(receiver, operator), name, rewrite(expr, operator), lineNumber);
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) ->
+          new MethodCall(rewrite(receiver, operator), name, args.stream().map(arg -> rewrite(arg, operator)).toList(), lineNumber);
+    };
+    return result instanceof Block ? result : operator.apply(result);
+  }
+
+  private static Block rewriteBlock(Block block, UnaryOperator<Expr> operator) {
+    return new Block(block.instrs().stream().map(instr -> rewrite(instr, operator)).toList(), block.lineNumber());
+  }
+
+  private Expr inlineBuiltin(Expr expression) {
+    return switch (expression) {
+      case MethodCall(LocalVarAccess(String receiverName, int receiverLineNumber), String name, List<Expr> args, int lineNumber)
+          when receiverName.equals("global") && isBuiltin(receiverName) && isBuiltin(name) ->
+          // the builtins ignore the receiver
+          new FunCall(new LocalVarAccess(name, receiverLineNumber), args, lineNumber);
+      case MethodCall(LocalVarAccess(String receiverName, int receiverLineNumber), String name, List<Expr> args, int lineNumber)
+          when name.equals("apply") && isBuiltin(receiverName) && !receiverName.equals("global") ->
+          new FunCall(new LocalVarAccess(receiverName, receiverLineNumber), args, lineNumber);
+      default -> expression;
+    };
+  }
+
+  private Expr inlineFunction(Expr expression) {
+    if (!(expression instanceof FunCall call && call.qualifier() instanceof LocalVarAccess(String name, int nameLineNumber))) {
+      return expression;
+    }
+    return inlinableFunction(name)
+        .filter(fun -> fun.parameters().size() == call.args().size())
+        .<Expr>map(fun -> {
+          // the parameters are renamed so they do not clash with the local variables of the call site
+          var suffix = ":" + inliningCounter++;
+          var renaming = new HashMap<String, String>();
+          fun.parameters().forEach(parameter -> renaming.put(parameter, parameter + suffix));
+          var expr = ((Return) fun.body().instrs().getFirst()).expr();
+          var inlinedExpr = rewrite(expr, e -> e instanceof LocalVarAccess(String usedName, int lineNumber) && renaming.containsKey(usedName)
+              ? new LocalVarAccess(renaming.get(usedName), lineNumber)
+              : e);
+          var parameters = fun.parameters().stream().map(renaming::get).toList();
+          return new InlinedCall(call, parameters, inlinedExpr, new InlineGuard(name), call.lineNumber());
+        })
+        .orElse(expression);
+  }
+
+  // the expressions that can be inlined have no local variable, no function and do not use this
+  private static boolean canBeInlined(Expr expression, Predicate<String> isAccessible) {
+    return switch (expression) {
+      case Literal<?> literal -> true;
+      case LocalVarAccess(String name, int lineNumber) -> isAccessible.test(name);
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) ->
+          canBeInlined(qualifier, isAccessible) && args.stream().allMatch(arg -> canBeInlined(arg, isAccessible));
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> canBeInlined(receiver, isAccessible);
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) ->
+          canBeInlined(receiver, isAccessible) && args.stream().allMatch(arg -> canBeInlined(arg, isAccessible));
+      case New(Map<String, Expr> initMap, int lineNumber) -> initMap.values().stream().allMatch(init -> canBeInlined(init, isAccessible));
+      default -> false;
+    };
+  }
+
+  // number of nodes of an expression that can be inlined
+  private static int size(Expr expression) {
+    return 1 + switch (expression) {
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> size(qualifier) + args.stream().mapToInt(ASTOptimizer::size).sum();
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> size(receiver);
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) ->
+          size(receiver) + args.stream().mapToInt(ASTOptimizer::size).sum();
+      case New(Map<String, Expr> initMap, int lineNumber) -> initMap.values().stream().mapToInt(ASTOptimizer::size).sum();
+      default -> 0;
+    };
+  }
+
+  // a name used by an inlined function has the same meaning at the call site,
+  // if it is never declared, assigned or used as a parameter and it is not the name of a nested function
+  private boolean isGlobal(String name) {
+    return !redefinedNames.contains(name) && !declarations.containsKey(name)
+        && functions.getOrDefault(name, List.of()).stream().allMatch(topLevelFunctions::contains);
+  }
+
+  // the function bound to the global variable name if it can be inlined
+  private Optional<Fun> inlinableFunction(String name) {
+    var funs = functions.getOrDefault(name, List.of());
+    if (funs.size() != 1 || !topLevelFunctions.contains(funs.getFirst()) || !isGlobal(name) || !isBuiltin("global")) {
+      return Optional.empty();
+    }
+    var fun = funs.getFirst();
+    if (!(fun.body().instrs().size() == 1 && fun.body().instrs().getFirst() instanceof Return(Expr expr, int lineNumber))
+        || size(expr) > MAX_INLINED_SIZE
+        || !canBeInlined(expr, usedName -> fun.parameters().contains(usedName)
+            || !usedName.equals(name) && !usedName.equals("this") && isGlobal(usedName))) {
+      return Optional.empty();
+    }
+    return Optional.of(fun);
+  }
+
+  // the constants are the local variables of the enclosing blocks replaced by their values,
+  // a variable declared in a block is only replaced in the instructions that follow the declaration in the block
+  private Block foldBlock(Block block, Map<String, Literal<?>> constants) {
+    var blockConstants = new HashMap<>(constants);
+    return new Block(block.instrs().stream().map(instr -> fold(instr, blockConstants)).toList(), block.lineNumber());
+  }
+
+  private Expr fold(Expr expression, Map<String, Literal<?>> constants) {
+    return switch (expression) {
+      case Block block -> foldBlock(block, constants);
+      case Literal<?> literal -> literal;
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+        var newArgs = args.stream().map(arg -> fold(arg, constants)).toList();
+        if (qualifier instanceof LocalVarAccess(String name, int nameLineNumber)
+            && ARITHMETIC_OPERATORS.contains(name) && isBuiltin(name)
+            && newArgs.size() == 2
+            && newArgs.get(0) instanceof Literal<?>(Integer left, int leftLineNumber)
+            && newArgs.get(1) instanceof Literal<?>(Integer right, int rightLineNumber)
+            && !((name.equals("/") || name.equals("%")) && right == 0)) {
+          yield new Literal<>(compute(name, left, right), lineNumber);
+        }
+        yield new FunCall(fold(qualifier, constants), newArgs, lineNumber);
+      }
+      case LocalVarAccess(String name, int lineNumber) -> {
+        var constant = constants.get(name);
+        yield constant == null ? expression : new Literal<>(constant.value(), lineNumber);
+      }
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+        var newExpr = fold(expr, constants);
+        if (declaration && isConstant(name) && newExpr instanceof Literal<?> literal) {
+          constants.put(name, literal);
+        }
+        yield new LocalVarAssignment(name, newExpr, declaration, lineNumber);
+      }
+      case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) ->
+          new Fun(optName, parameters, foldBlock(body, constants), lineNumber);
+      case Return(Expr expr, int lineNumber) -> new Return(fold(expr, constants), lineNumber);
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) ->
+          new If(fold(condition, constants), foldBlock(trueBlock, constants), foldBlock(falseBlock, constants), lineNumber);
+      // like a branch, the body may not be executed
+      case While(Expr condition, Block body, int lineNumber) -> new While(fold(condition, constants), foldBlock(body, constants), lineNumber);
+      case InlinedCall(FunCall(Expr qualifier, List<Expr> args, int callLineNumber), List<String> parameters, Expr expr,
+                       InlineGuard guard, int lineNumber) -> {
+        var newCall = new FunCall(fold(qualifier, constants), args.stream().map(arg -> fold(arg, constants)).toList(), callLineNumber);
+        yield new InlinedCall(newCall, parameters, fold(expr, constants), guard, lineNumber);
+      }
+      case New(Map<String, Expr> initMap, int lineNumber) -> {
+        var newInitMap = new LinkedHashMap<String, Expr>();
+        initMap.forEach((name, init) -> newInitMap.put(name, fold(init, constants)));
+        yield new New(newInitMap, lineNumber);
+      }
+      case NewArray(List<Expr> elements, int lineNumber) -> new NewArray(elements.stream().map(element -> fold(element, constants)).toList(), lineNumber);
+      case ElementAccess(Expr array, Expr index, int lineNumber) -> new ElementAccess(fold(array, constants), fold(index, constants), lineNumber);
+      case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) ->
+          new ElementAssignment(fold(array, constants), fold(index, constants), fold(expr, constants), lineNumber);
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> new FieldAccess(fold(receiver, constants), name, lineNumber);
+      case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) ->
+          new FieldAssignment(fold(receiver, constants), name, fold(expr, constants), lineNumber);
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) ->
+          new MethodCall(fold(receiver, constants), name, args.stream().map(arg -> fold(arg, constants)).toList(), lineNumber);
+    };
+  }
+
+  // same semantics as the builtins of the global environment
+  private static int compute(String operator, int left, int right) {
+    return switch (operator) {
+      case "+" -> left + right;
+      case "-" -> left - right;
+      case "*" -> left * right;
+      case "/" -> left / right;
+      case "%" -> left % right;
+      default -> throw new AssertionError("unknown operator " + operator);
+    };
+  }
+
+  // the interpreters do not represent the result of a comparison the same way (an int or a boolean),
+  // so a comparison of constants is only computed when it is the condition of an if
+  private Expr eliminateDeadBranch(Expr expression) {
+    if (!(expression instanceof If(FunCall(LocalVarAccess(String name, int nameLineNumber), List<Expr> args, int callLineNumber),
+        Block trueBlock, Block falseBlock, int lineNumber))
+        || !COMPARISON_OPERATORS.contains(name) || !isBuiltin(name) || args.size() != 2
+        || !(args.get(0) instanceof Literal<?>(Object left, int leftLineNumber))
+        || !(args.get(1) instanceof Literal<?>(Object right, int rightLineNumber))) {
+      return expression;
+    }
+    var result = compare(name, left, right);
+    if (result.isEmpty()) {
+      return expression;
+    }
+    // the local variables declared in the removed block still exist (with the value undefined)
+    var removedBlock = result.orElseThrow() ? falseBlock : trueBlock;
+    if (declaresVariable(removedBlock)) {
+      return expression;
+    }
+    return result.orElseThrow() ? trueBlock : falseBlock;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Optional<Boolean> compare(String operator, Object left, Object right) {
+    return switch (operator) {
+      case "==" -> Optional.of(left.equals(right));
+      case "!=" -> Optional.of(!left.equals(right));
+      default -> {
+        if (left.getClass() != right.getClass()) {
+          // the builtin fails at runtime
+          yield Optional.empty();
+        }
+        var comparison = ((Comparable<Object>) left).compareTo(right);
+        yield Optional.of(switch (operator) {
+          case "<" -> comparison < 0;
+          case "<=" -> comparison <= 0;
+          case ">" -> comparison > 0;
+          case ">=" -> comparison >= 0;
+          default -> throw new AssertionError("unknown operator " + operator);
+        });
+      }
+    };
+  }
+
+  private static boolean declaresVariable(Expr expression) {
+    return switch (expression) {
+      case Block(List<Expr> instrs, int lineNumber) -> instrs.stream().anyMatch(ASTOptimizer::declaresVariable);
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> declaration;
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> declaresVariable(trueBlock) || declaresVariable(falseBlock);
+      case While(Expr condition, Block body, int lineNumber) -> declaresVariable(body);
+      default -> false;
+    };
+  }
+}
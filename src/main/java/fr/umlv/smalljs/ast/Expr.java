@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import fr.umlv.smalljs.rt.InlineGuard;
+
 import static java.util.Objects.requireNonNull;
 
 public sealed interface Expr {
@@ -20,6 +22,22 @@ public sealed interface Expr {
     }
   }
 
+  // the index of an array (see JSArray)
+  record ElementAccess(Expr array, Expr index, int lineNumber) implements Expr {
+    public ElementAccess {
+      requireNonNull(array);
+      requireNonNull(index);
+    }
+  }
+
+  record ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) implements Expr, Instr {
+    public ElementAssignment {
+      requireNonNull(array);
+      requireNonNull(index);
+      requireNonNull(expr);
+    }
+  }
+
   record FieldAccess(Expr receiver, String name, int lineNumber) implements Expr {
     public FieldAccess {
       requireNonNull(receiver);
@@ -58,6 +76,17 @@ public sealed interface Expr {
     }
   }
 
+  // the body of a global function inlined at a call site (see ASTOptimizer), the arguments of the call
+  // are stored in the renamed parameters then expr is evaluated, the call is done instead if the guard is invalid
+  record InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) implements Expr {
+    public InlinedCall {
+      requireNonNull(call);
+      requireNonNull(parameters);
+      requireNonNull(expr);
+      requireNonNull(guard);
+    }
+  }
+
   record Literal<T>(T value, int lineNumber) implements Expr {
     public Literal {
       requireNonNull(value);
@@ -96,9 +125,23 @@ public sealed interface Expr {
     }
   }
 
+  record NewArray(List<Expr> elements, int lineNumber) implements Expr {
+    public NewArray {
+      requireNonNull(elements);
+    }
+  }
+
   record Return(Expr expr, int lineNumber) implements Expr, Instr {
     public Return {
       requireNonNull(expr);
     }
   }
+
+  // a for loop is a block with the initialization followed by a while with the step at the end of the body
+  record While(Expr condition, Block body, int lineNumber) implements Expr, Instr {
+    public While {
+      requireNonNull(condition);
+      requireNonNull(body);
+    }
+  }
 }
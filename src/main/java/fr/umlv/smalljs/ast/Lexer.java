@@ -0,0 +1,235 @@
+package fr.umlv.smalljs.ast;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import fr.umlv.smalljs.rt.Failure;
+
+// the tokens of smalljs.ebnf recognized directly in an array of chars, without allocating the tokens.
+// Like the Tatoo lexer, only the tokens the parser can accept are recognized (see next()),
+// the longest match wins and on a tie, the token declared first in the grammar wins
+final class Lexer {
+  // in the order of the grammar
+  enum Kind {
+    ASSIGN("="), DOT("."), COLON(":"), COMMA(","), SEMICOLON(";"), EOL("\n"),
+    LPAR("("), RPAR(")"), LBRACKET("["), RBRACKET("]"), LCURL("{"), RCURL("}"),
+    ADD("+"), SUB("-"), MUL("*"), DIV("/"), REM("%"),
+    EQ("=="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">="),
+    VAR("var"), FUNCTION("function"), IF("if"), ELSE("else"), RETURN("return"), WHILE("while"), FOR("for"),
+    TEXT(null), INTEGER(null), ID(null), EOF(null);
+
+    private final String text;  // null if the token is not a fixed string
+    final long mask = 1L << ordinal();
+
+    Kind(String text) {
+      this.text = text;
+    }
+  }
+
+  static long mask(Kind... kinds) {
+    var mask = 0L;
+    for (var kind : kinds) {
+      mask |= kind.mask;
+    }
+    return mask;
+  }
+
+  // the fixed tokens indexed by their first char, the longest first
+  private static final Kind[][] FIXED = new Kind[128][];
+  static {
+    for (var kind : Kind.values()) {
+      if (kind.text == null || kind == Kind.EOL) {  // a '\n' is either an eol or a blank, see next()
+        continue;
+      }
+      var first = kind.text.charAt(0);
+      var kinds = FIXED[first] == null ? new Kind[1] : Arrays.copyOf(FIXED[first], FIXED[first].length + 1);
+      kinds[kinds.length - 1] = kind;
+      Arrays.sort(kinds, Comparator.comparingInt((Kind k) -> k.text.length()).reversed());
+      FIXED[first] = kinds;
+    }
+  }
+
+  private final char[] chars;
+  private final int length;
+  private int position;
+  private int line;  // the number of '\n' before position
+  private int start;  // the start of the current token
+
+  Lexer(char[] chars, int length) {
+    this.chars = chars;
+    this.length = length;
+  }
+
+  // the line of the end of the current token, starting at 1
+  int lineNumber() {
+    return 1 + line;
+  }
+
+  String text() {
+    return new String(chars, start, position - start);
+  }
+
+  // the current token must be a text
+  String textValue() {
+    return new String(chars, start + 1, position - start - 2);
+  }
+
+  // the current token must be an integer
+  int integerValue() {
+    var value = 0;
+    try {
+      for (var i = start; i < position; i++) {
+        value = Math.addExact(Math.multiplyExact(value, 10), chars[i] - '0');
+      }
+    } catch (ArithmeticException e) {
+      throw new Failure("integer too big " + text() + " at line " + lineNumber());
+    }
+    return value;
+  }
+
+  // skip the blanks and the comments and recognize the next token among the active ones (see mask())
+  Kind next(long active) {
+    for (;;) {
+      if (position == length) {
+        if ((active & Kind.EOF.mask) == 0) {
+          throw new Failure("unexpected end of input at line " + lineNumber());
+        }
+        start = position;
+        return Kind.EOF;
+      }
+      var c = chars[position];
+      if (c == ' ' || c == '\t' || c == '\r') {
+        position++;
+        continue;
+      }
+      if (c == '\n') {
+        start = position++;
+        line++;
+        if ((active & Kind.EOL.mask) != 0) {
+          return Kind.EOL;
+        }
+        continue;
+      }
+      if (c == '/' && skipComment()) {
+        continue;
+      }
+      return token(c, active);
+    }
+  }
+
+  // a comment is always longer than a token starting at the same position
+  private boolean skipComment() {
+    if (position + 1 == length || chars[position + 1] != '/') {
+      return false;
+    }
+    var index = position + 2;
+    while (index < length && chars[index] != '\r' && chars[index] != '\n') {
+      index++;
+    }
+    if (index < length && chars[index] == '\r') {
+      index++;
+    }
+    if (index == length || chars[index] != '\n') {
+      return false;
+    }
+    position = index + 1;
+    line++;
+    return true;
+  }
+
+  private Kind token(char c, long active) {
+    Kind kind = null;
+    var tokenLength = 0;
+    if (c < FIXED.length && FIXED[c] != null) {
+      for (var candidate : FIXED[c]) {
+        if ((active & candidate.mask) != 0 && matches(candidate.text)) {
+          kind = candidate;
+          tokenLength = candidate.text.length();
+          break;
+        }
+      }
+    }
+    if ((active & Kind.TEXT.mask) != 0) {
+      var textLength = textLength(c);
+      if (textLength > tokenLength) {
+        kind = Kind.TEXT;
+        tokenLength = textLength;
+      }
+    }
+    if ((active & Kind.INTEGER.mask) != 0) {
+      var integerLength = integerLength();
+      if (integerLength > tokenLength) {
+        kind = Kind.INTEGER;
+        tokenLength = integerLength;
+      }
+    }
+    if ((active & Kind.ID.mask) != 0) {
+      var idLength = idLength();
+      if (idLength > tokenLength) {
+        kind = Kind.ID;
+        tokenLength = idLength;
+      }
+    }
+    if (kind == null) {
+      throw new Failure("lexing error at line " + lineNumber() + " on '" + c + "'");
+    }
+    start = position;
+    position += tokenLength;
+    if (kind == Kind.TEXT) {
+      for (var i = start; i < position; i++) {
+        if (chars[i] == '\n') {
+          line++;
+        }
+      }
+    }
+    return kind;
+  }
+
+  private boolean matches(String text) {
+    if (position + text.length() > length) {
+      return false;
+    }
+    for (var i = 1; i < text.length(); i++) {
+      if (chars[position + i] != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // "'[^']*'|\"[^\"]*\""
+  private int textLength(char quote) {
+    if (quote != '\'' && quote != '"') {
+      return 0;
+    }
+    for (var i = position + 1; i < length; i++) {
+      if (chars[i] == quote) {
+        return i + 1 - position;
+      }
+    }
+    return 0;
+  }
+
+  // "[0-9]+"
+  private int integerLength() {
+    var index = position;
+    while (index < length && chars[index] >= '0' && chars[index] <= '9') {
+      index++;
+    }
+    return index - position;
+  }
+
+  // "[^ \t\r\n=.:,();\[\]]+"
+  private int idLength() {
+    var index = position;
+    loop: while (index < length) {
+      switch (chars[index]) {
+        case ' ', '\t', '\r', '\n', '=', '.', ':', ',', '(', ')', ';', '[', ']' -> {
+          break loop;
+        }
+        default -> index++;
+      }
+    }
+    return index - position;
+  }
+}
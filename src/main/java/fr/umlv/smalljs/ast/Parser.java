@@ -0,0 +1,426 @@
+package fr.umlv.smalljs.ast;
+
+import static fr.umlv.smalljs.ast.Lexer.Kind.ASSIGN;
+import static fr.umlv.smalljs.ast.Lexer.Kind.COLON;
+import static fr.umlv.smalljs.ast.Lexer.Kind.COMMA;
+import static fr.umlv.smalljs.ast.Lexer.Kind.ELSE;
+import static fr.umlv.smalljs.ast.Lexer.Kind.EOF;
+import static fr.umlv.smalljs.ast.Lexer.Kind.EOL;
+import static fr.umlv.smalljs.ast.Lexer.Kind.FOR;
+import static fr.umlv.smalljs.ast.Lexer.Kind.FUNCTION;
+import static fr.umlv.smalljs.ast.Lexer.Kind.ID;
+import static fr.umlv.smalljs.ast.Lexer.Kind.IF;
+import static fr.umlv.smalljs.ast.Lexer.Kind.INTEGER;
+import static fr.umlv.smalljs.ast.Lexer.Kind.LBRACKET;
+import static fr.umlv.smalljs.ast.Lexer.Kind.LCURL;
+import static fr.umlv.smalljs.ast.Lexer.Kind.LPAR;
+import static fr.umlv.smalljs.ast.Lexer.Kind.RBRACKET;
+import static fr.umlv.smalljs.ast.Lexer.Kind.RCURL;
+import static fr.umlv.smalljs.ast.Lexer.Kind.RETURN;
+import static fr.umlv.smalljs.ast.Lexer.Kind.RPAR;
+import static fr.umlv.smalljs.ast.Lexer.Kind.SEMICOLON;
+import static fr.umlv.smalljs.ast.Lexer.Kind.TEXT;
+import static fr.umlv.smalljs.ast.Lexer.Kind.VAR;
+import static fr.umlv.smalljs.ast.Lexer.Kind.WHILE;
+import static fr.umlv.smalljs.ast.Lexer.mask;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
+import fr.umlv.smalljs.ast.Expr.FieldAccess;
+import fr.umlv.smalljs.ast.Expr.FieldAssignment;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.ast.Expr.FunCall;
+import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.Literal;
+import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
+import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
+import fr.umlv.smalljs.ast.Expr.MethodCall;
+import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
+import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.ast.Lexer.Kind;
+import fr.umlv.smalljs.rt.Failure;
+
+// a recursive descent parser of smalljs.ebnf with the binary operators parsed by precedence climbing (Pratt),
+// the Expr are the ones of the Tatoo parser (see ASTBuilder), with the same line numbers.
+// Each time a token is consumed, the lexer is asked for the next token among the ones the grammar
+// accepts at that point (the lookahead of the LR parser), so a '\n' is an eol only where an instruction can end.
+// The LALR tables of Tatoo merge the lookaheads of the states after a field access and after the right operand
+// of an operator, so an eol is also recognized there, whatever the context, and is rejected if it can not end an instruction
+final class Parser {
+  private static final long FIRST_EXPR = mask(INTEGER, TEXT, LPAR, ID, FUNCTION, LCURL, LBRACKET);
+  private static final long FIRST_INSTR = FIRST_EXPR | mask(VAR, IF, RETURN, WHILE, FOR);
+  private static final long EOI = mask(SEMICOLON, EOL);
+  // the tokens that can follow any expression
+  private static final long CONTINUATION = mask(Kind.DOT, LPAR, LBRACKET,
+      Kind.ADD, Kind.SUB, Kind.MUL, Kind.DIV, Kind.REM, Kind.EQ, Kind.NE, Kind.LT, Kind.LE, Kind.GT, Kind.GE);
+
+  private final Lexer lexer;
+  private Kind token;
+
+  private Parser(Lexer lexer) {
+    this.lexer = lexer;
+  }
+
+  static Script parse(Reader reader) {
+    var chars = new char[1024];
+    var length = 0;
+    try {
+      int read;
+      while ((read = reader.read(chars, length, chars.length - length)) != -1) {
+        length += read;
+        if (length == chars.length) {
+          chars = Arrays.copyOf(chars, length << 1);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new Parser(new Lexer(chars, length)).script();
+  }
+
+  private void advance(long active) {
+    token = lexer.next(active);
+  }
+
+  private void expect(Kind kind) {
+    if (token != kind) {
+      throw new Failure("parse error at line " + lexer.lineNumber() + " on " + token + ", " + kind + " expected");
+    }
+  }
+
+  private Script script() {
+    var next = FIRST_INSTR | mask(EOF);
+    advance(next);
+    var instrs = new ArrayList<Expr>();
+    while (token != EOF) {
+      instrs.add(instr(next));
+    }
+    return new Script(new Block(List.copyOf(instrs), 1));
+  }
+
+  // the tokens that can start the next instruction, the instruction ends after '}' or before ';' or eol
+  private Expr instr(long next) {
+    return switch (token) {
+      case VAR -> {
+        advance(mask(ID));
+        var name = lexer.text();
+        var lineNumber = lexer.lineNumber();
+        advance(mask(ASSIGN));
+        advance(FIRST_EXPR);
+        var expr = expr(EOI);
+        advance(next);
+        yield new LocalVarAssignment(name, expr, true, lineNumber);
+      }
+      case ID -> {
+        var name = lexer.text();
+        var lineNumber = lexer.lineNumber();
+        advance(mask(ASSIGN) | CONTINUATION | EOI);
+        if (token == ASSIGN) {
+          advance(FIRST_EXPR);
+          var expr = expr(EOI);
+          advance(next);
+          yield new LocalVarAssignment(name, expr, false, lineNumber);
+        }
+        yield exprInstr(new LocalVarAccess(name, lineNumber), next);
+      }
+      case IF -> {
+        advance(FIRST_EXPR);
+        var condition = expr(mask(LCURL));
+        var trueBlock = block(mask(ELSE));
+        advance(mask(LCURL));
+        var falseBlock = block(next);
+        yield new If(condition, trueBlock, falseBlock, condition.lineNumber());
+      }
+      case RETURN -> {
+        advance(FIRST_EXPR);
+        var expr = expr(EOI);
+        advance(next);
+        yield new Return(expr, expr.lineNumber());
+      }
+      case WHILE -> {
+        advance(FIRST_EXPR);
+        var condition = expr(mask(LCURL));
+        var body = block(next);
+        yield new While(condition, body, condition.lineNumber());
+      }
+      case FOR -> forLoop(next);
+      default -> exprInstr(primary(EOI), next);
+    };
+  }
+
+  // an expression, a field assignment or an element assignment
+  private Expr exprInstr(Expr primary, long next) {
+    var expr = postfix(primary, EOI, true);
+    if (token == ASSIGN) {
+      advance(FIRST_EXPR);
+      var value = expr(EOI);
+      advance(next);
+      return switch (expr) {
+        case FieldAccess(var receiver, var name, var lineNumber) -> new FieldAssignment(receiver, name, value, lineNumber);
+        case ElementAccess(var array, var index, var lineNumber) -> new ElementAssignment(array, index, value, lineNumber);
+        default -> throw new AssertionError(expr);
+      };
+    }
+    expr = binary(expr, 1, EOI);
+    advance(next);
+    return expr;
+  }
+
+  // a for loop is a block with the initialization followed by a while with the step at the end of the body
+  private Expr forLoop(long next) {
+    advance(mask(LPAR));
+    advance(mask(VAR, ID));
+    var declaration = token == VAR;
+    if (declaration) {
+      advance(mask(ID));
+    }
+    var name = lexer.text();
+    var lineNumber = lexer.lineNumber();
+    advance(mask(ASSIGN));
+    advance(FIRST_EXPR);
+    var init = new LocalVarAssignment(name, expr(mask(SEMICOLON)), declaration, lineNumber);
+    expect(SEMICOLON);
+    advance(FIRST_EXPR);
+    var condition = expr(mask(SEMICOLON));
+    expect(SEMICOLON);
+    advance(FIRST_EXPR);
+    Expr step;
+    if (token == ID) {
+      var stepName = lexer.text();
+      var stepLineNumber = lexer.lineNumber();
+      advance(mask(ASSIGN, RPAR) | CONTINUATION);
+      if (token == ASSIGN) {
+        advance(FIRST_EXPR);
+        step = new LocalVarAssignment(stepName, expr(mask(RPAR)), false, stepLineNumber);
+      } else {
+        step = binary(postfix(new LocalVarAccess(stepName, stepLineNumber), mask(RPAR), false), 1, mask(RPAR));
+      }
+    } else {
+      step = expr(mask(RPAR));
+    }
+    expect(RPAR);
+    advance(mask(LCURL));
+    var block = block(next);
+    var body = new ArrayList<>(block.instrs());
+    body.add(step);
+    return new Block(List.of(init, new While(condition, new Block(List.copyOf(body), block.lineNumber()), condition.lineNumber())),
+        init.lineNumber());
+  }
+
+  // the tokens that can follow the block
+  private Block block(long next) {
+    expect(LCURL);
+    var instrNext = FIRST_INSTR | mask(RCURL);
+    advance(instrNext);
+    var instrs = new ArrayList<Expr>();
+    while (token != RCURL) {
+      instrs.add(instr(instrNext));
+    }
+    var lineNumber = lexer.lineNumber();
+    advance(next);
+    return new Block(List.copyOf(instrs), lineNumber);
+  }
+
+  // the tokens that can follow the expression, apart from the continuations
+  private Expr expr(long follow) {
+    return binary(postfix(primary(follow), follow, false), 1, follow);
+  }
+
+  private static int precedence(Kind kind) {
+    return switch (kind) {
+      case MUL, DIV, REM -> 3;
+      case ADD, SUB -> 2;
+      case EQ, NE, LT, LE, GT, GE -> 1;
+      default -> 0;
+    };
+  }
+
+  private static String operator(Kind kind) {
+    return switch (kind) {
+      case MUL -> "*";
+      case DIV -> "/";
+      case REM -> "%";
+      case ADD -> "+";
+      case SUB -> "-";
+      case EQ -> "==";
+      case NE -> "!=";
+      case LT -> "<";
+      case LE -> "<=";
+      case GT -> ">";
+      case GE -> "!>=";  // like ASTBuilder.expr_ge
+      default -> throw new AssertionError(kind);
+    };
+  }
+
+  // all the binary operators are left associative, minPrecedence is at least 1
+  private Expr binary(Expr left, int minPrecedence, long follow) {
+    int precedence;
+    while ((precedence = precedence(token)) >= minPrecedence) {
+      var operator = operator(token);
+      advance(FIRST_EXPR);
+      var rightFollow = follow | mask(EOL);
+      var right = binary(postfix(primary(rightFollow), rightFollow, false), precedence + 1, rightFollow);
+      var lineNumber = left.lineNumber();
+      left = new FunCall(new LocalVarAccess(operator, lineNumber), List.of(left, right), lineNumber);
+    }
+    return left;
+  }
+
+  // assignable if a field or an element at the end of the expression can be assigned
+  private Expr postfix(Expr expr, long follow, boolean assignable) {
+    var assign = assignable ? mask(ASSIGN) : 0L;
+    for (;;) {
+      switch (token) {
+        case DOT -> {
+          advance(mask(ID));
+          var name = lexer.text();
+          advance(CONTINUATION | follow | assign | mask(EOL));
+          if (token == LPAR) {
+            advance(FIRST_EXPR | mask(RPAR));
+            var args = args(RPAR);
+            advance(CONTINUATION | follow);
+            expr = new MethodCall(expr, name, args, expr.lineNumber());
+          } else {
+            expr = new FieldAccess(expr, name, expr.lineNumber());
+          }
+        }
+        case LPAR -> {
+          advance(FIRST_EXPR | mask(RPAR));
+          var args = args(RPAR);
+          advance(CONTINUATION | follow);
+          expr = new FunCall(expr, args, expr.lineNumber());
+        }
+        case LBRACKET -> {
+          advance(FIRST_EXPR);
+          var index = expr(mask(RBRACKET));
+          expect(RBRACKET);
+          advance(CONTINUATION | follow | assign);
+          expr = new ElementAccess(expr, index, expr.lineNumber());
+        }
+        default -> {
+          return expr;
+        }
+      }
+    }
+  }
+
+  // the expressions separated by commas until the closing token, that stays the current token
+  private List<Expr> args(Kind close) {
+    if (token == close) {
+      return List.of();
+    }
+    var args = new ArrayList<Expr>();
+    for (;;) {
+      args.add(expr(mask(COMMA, close)));
+      if (token == close) {
+        return List.copyOf(args);
+      }
+      expect(COMMA);
+      advance(FIRST_EXPR);
+    }
+  }
+
+  private Expr primary(long follow) {
+    return switch (token) {
+      case INTEGER -> {
+        var literal = new Literal<>(lexer.integerValue(), lexer.lineNumber());
+        advance(CONTINUATION | follow);
+        yield literal;
+      }
+      case TEXT -> {
+        var literal = new Literal<>(lexer.textValue(), lexer.lineNumber());
+        advance(CONTINUATION | follow);
+        yield literal;
+      }
+      case ID -> {
+        var localVarAccess = new LocalVarAccess(lexer.text(), lexer.lineNumber());
+        advance(CONTINUATION | follow);
+        yield localVarAccess;
+      }
+      case LPAR -> {
+        advance(FIRST_EXPR);
+        var expr = expr(mask(RPAR));
+        expect(RPAR);
+        advance(CONTINUATION | follow);
+        yield expr;
+      }
+      case FUNCTION -> function(follow);
+      case LCURL -> object(follow);
+      case LBRACKET -> {
+        advance(FIRST_EXPR | mask(RBRACKET));
+        var elements = args(RBRACKET);
+        var lineNumber = elements.isEmpty() ? lexer.lineNumber() : elements.getFirst().lineNumber();
+        advance(CONTINUATION | follow);
+        yield new NewArray(elements, lineNumber);
+      }
+      default -> throw new AssertionError(token);
+    };
+  }
+
+  private Expr function(long follow) {
+    advance(mask(ID, LPAR));
+    var name = Optional.<String>empty();
+    var lineNumber = 0;  // 0 if no name and no parameter
+    if (token == ID) {
+      name = Optional.of(lexer.text());
+      lineNumber = lexer.lineNumber();
+      advance(mask(LPAR));
+    }
+    advance(mask(ID, RPAR));
+    var parameters = new ArrayList<String>();
+    while (token == ID) {
+      parameters.add(lexer.text());
+      if (lineNumber == 0) {
+        lineNumber = lexer.lineNumber();
+      }
+      advance(mask(COMMA, RPAR));
+      if (token == COMMA) {
+        advance(mask(ID));
+      }
+    }
+    advance(mask(LCURL));
+    var body = block(CONTINUATION | follow);
+    return new Fun(name, List.copyOf(parameters), body, lineNumber == 0 ? body.lineNumber() : lineNumber);
+  }
+
+  // a duplicated key removes the previous one (like the Tatoo parser)
+  private Expr object(long follow) {
+    advance(mask(ID, RCURL));
+    var initMap = new LinkedHashMap<String, Expr>();
+    var lineNumber = 0;  // 0 if no key
+    while (token == ID) {
+      var key = lexer.text();
+      if (lineNumber == 0) {
+        lineNumber = lexer.lineNumber();
+      }
+      advance(mask(COLON));
+      advance(FIRST_EXPR);
+      var value = expr(mask(EOL, COMMA, RCURL));
+      initMap.merge(key, value, (_1, _2) -> null);
+      if (token == EOL) {
+        advance(mask(COMMA, RCURL));
+      }
+      if (token == COMMA) {
+        advance(mask(ID));
+      }
+    }
+    if (lineNumber == 0) {
+      lineNumber = lexer.lineNumber();
+    }
+    advance(CONTINUATION | follow);
+    return new New(Collections.unmodifiableMap(initMap), lineNumber);
+  }
+}
@@ -0,0 +1,451 @@
+package fr.umlv.smalljs.ast;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
+import fr.umlv.smalljs.ast.Expr.FieldAccess;
+import fr.umlv.smalljs.ast.Expr.FieldAssignment;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.ast.Expr.FunCall;
+import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
+import fr.umlv.smalljs.ast.Expr.Literal;
+import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
+import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
+import fr.umlv.smalljs.ast.Expr.MethodCall;
+import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
+import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.rt.InlineGuard;
+
+// flow insensitive type and shape inference, the type of a variable is the union of the types of all the values
+// stored in it anywhere in the script, the type of a parameter is the union of the types of the arguments
+// if the function is only called by its name. A type is known if all the values have the same type,
+// so the interpreters can drop the dynamic checks of the operations on values of a known type.
+// The annotations are attached to the expressions by identity, the AST must not be rewritten after the inference
+public final class TypeInference {
+  public sealed interface Type {
+    enum Basic implements Type {
+      // the type is not known
+      ANY,
+      INT,
+      STRING,
+      // the result of a comparison, 0/1 or false/true depending on the interpreter
+      BOOLEAN
+    }
+    // an object created by a New with those fields in that order
+    record Shape(List<String> fields) implements Type {
+      public Shape {
+        fields = List.copyOf(fields);
+      }
+    }
+    // a function declared in the script
+    record KnownFunction(Fun fun) implements Type {
+      public KnownFunction {
+        requireNonNull(fun);
+      }
+    }
+    // a function of the global environment
+    record Builtin(String name) implements Type {
+      public Builtin {
+        requireNonNull(name);
+      }
+    }
+  }
+
+  // no type is known
+  public static final TypeInference NONE = new TypeInference();
+
+  private static final Set<String> ARITHMETIC_OPERATORS = Set.of("+", "-", "*", "/", "%");
+  private static final Set<String> COMPARISON_OPERATORS = Set.of("==", "!=", "<", "<=", ">", ">=");
+  private static final Set<String> BUILTINS = Set.of("global", "print", "length", "+", "-", "*", "/", "%", "==", "!=", "<", "<=", ">", ">=");
+
+  // the variables declared by a function (or by the script for the global scope), the types are null (no value) by default
+  private static final class Scope {
+    private final Scope parent;
+    private final Set<String> declarations = new HashSet<>();
+    private final Map<String, Type> variables = new HashMap<>();
+    private Type returnType;
+
+    private Scope(Scope parent) {
+      this.parent = parent;
+    }
+  }
+
+  private record Variable(Scope scope, String name) {}
+
+  private final IdentityHashMap<Expr, Type> types = new IdentityHashMap<>();
+  private final Scope globalScope = new Scope(null);
+  private final IdentityHashMap<Fun, Scope> scopes = new IdentityHashMap<>();
+  // the variable that contains each named function
+  private final IdentityHashMap<Fun, Variable> functionVariables = new IdentityHashMap<>();
+  // the variables read otherwise than as the qualifier of a call
+  private final Set<Variable> escapedVariables = new HashSet<>();
+  private final Map<Type.Shape, Map<String, Type>> fieldTypes = new HashMap<>();
+  // the fields assigned on an object of unknown type
+  private final Map<String, Type> unknownFieldTypes = new HashMap<>();
+  private boolean changed;
+
+  private TypeInference() {}
+
+  public static TypeInference infer(Script script) {
+    var inference = new TypeInference();
+    inference.declare(script.body(), inference.globalScope);
+    do {
+      inference.changed = false;
+      inference.types.clear();
+      inference.visit(script.body(), inference.globalScope);
+    } while (inference.changed);
+    return inference;
+  }
+
+  public Type typeOf(Expr expression) {
+    var type = types.get(expression);
+    return type == null ? Type.Basic.ANY : type;
+  }
+
+  // a call to a builtin arithmetic or comparison operator with two int arguments
+  public boolean isIntOperation(FunCall call) {
+    return call.args().size() == 2
+        && typeOf(call.qualifier()) instanceof Type.Builtin(String name)
+        && (ARITHMETIC_OPERATORS.contains(name) || COMPARISON_OPERATORS.contains(name))
+        && typeOf(call.args().get(0)) == Type.Basic.INT
+        && typeOf(call.args().get(1)) == Type.Basic.INT;
+  }
+
+  // the slot of the field in the object if the receiver has a known shape
+  public Optional<Integer> fieldSlot(Expr receiver, String fieldName) {
+    if (!(typeOf(receiver) instanceof Type.Shape(List<String> fields)) || !fields.contains(fieldName)) {
+      return Optional.empty();
+    }
+    return Optional.of(fields.indexOf(fieldName));
+  }
+
+  private static Type join(Type type1, Type type2) {
+    if (type1 == null) {
+      return type2;
+    }
+    if (type2 == null || type1.equals(type2)) {
+      return type1;
+    }
+    return Type.Basic.ANY;
+  }
+
+  private void joinInto(Map<String, Type> map, String name, Type type) {
+    if (type == null) {
+      return;
+    }
+    var oldType = map.get(name);
+    var newType = join(oldType, type);
+    if (!newType.equals(oldType)) {
+      map.put(name, newType);
+      changed = true;
+    }
+  }
+
+  private void escape(Variable variable) {
+    if (escapedVariables.add(variable)) {
+      changed = true;
+    }
+  }
+
+  // find the scopes and the variables declared in each scope
+  private void declare(Expr expression, Scope scope) {
+    switch (expression) {
+      case Block(List<Expr> instrs, int lineNumber) -> instrs.forEach(instr -> declare(instr, scope));
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+        if (declaration) {
+          scope.declarations.add(name);
+        }
+        declare(expr, scope);
+      }
+      case Fun fun -> {
+        var funScope = new Scope(scope);
+        funScope.declarations.addAll(fun.parameters());
+        scopes.put(fun, funScope);
+        fun.name().ifPresent(name -> {
+          scope.declarations.add(name);
+          functionVariables.put(fun, new Variable(scope, name));
+        });
+        declare(fun.body(), funScope);
+      }
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+        declare(qualifier, scope);
+        args.forEach(arg -> declare(arg, scope));
+      }
+      case Return(Expr expr, int lineNumber) -> declare(expr, scope);
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+        declare(condition, scope);
+        declare(trueBlock, scope);
+        declare(falseBlock, scope);
+      }
+      case While(Expr condition, Block body, int lineNumber) -> {
+        declare(condition, scope);
+        declare(body, scope);
+      }
+      case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+        scope.declarations.addAll(parameters);
+        declare(call, scope);
+        declare(expr, scope);
+      }
+      case New(Map<String, Expr> initMap, int lineNumber) -> initMap.values().forEach(init -> declare(init, scope));
+      case NewArray(List<Expr> elements, int lineNumber) -> elements.forEach(element -> declare(element, scope));
+      case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+        declare(array, scope);
+        declare(index, scope);
+      }
+      case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+        declare(array, scope);
+        declare(index, scope);
+        declare(expr, scope);
+      }
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> declare(receiver, scope);
+      case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+        declare(receiver, scope);
+        declare(expr, scope);
+      }
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+        declare(receiver, scope);
+        args.forEach(arg -> declare(arg, scope));
+      }
+      case Literal<?> literal -> {
+        // do nothing
+      }
+      case LocalVarAccess localVarAccess -> {
+        // do nothing
+      }
+    }
+  }
+
+  private Variable resolve(String name, Scope scope) {
+    for (var current = scope; current != null; current = current.parent) {
+      if (current.declarations.contains(name)) {
+        return new Variable(current, name);
+      }
+    }
+    return new Variable(globalScope, name);
+  }
+
+  private Type read(Variable variable) {
+    var type = variable.scope.variables.get(variable.name);
+    if (variable.scope == globalScope && BUILTINS.contains(variable.name)) {
+      // the builtin is replaced if the global is assigned
+      return join(new Type.Builtin(variable.name), type);
+    }
+    return type;
+  }
+
+  private void write(Variable variable, Type type) {
+    joinInto(variable.scope.variables, variable.name, type);
+  }
+
+  // the parameters have the types of the arguments if the function is only called by its name
+  private boolean isOnlyCalled(Fun fun) {
+    var variable = functionVariables.get(fun);
+    return variable != null
+        && !escapedVariables.contains(variable)
+        && !escapedVariables.contains(new Variable(globalScope, variable.name));
+  }
+
+  private static boolean alwaysReturns(Block block) {
+    if (block.instrs().isEmpty()) {
+      return false;
+    }
+    return switch (block.instrs().getLast()) {
+      case Return ret -> true;
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> alwaysReturns(trueBlock) && alwaysReturns(falseBlock);
+      default -> false;
+    };
+  }
+
+  private Type visit(Expr expression, Scope scope) {
+    var type = switch (expression) {
+      case Block(List<Expr> instrs, int lineNumber) -> {
+        instrs.forEach(instr -> visit(instr, scope));
+        yield Type.Basic.ANY;
+      }
+      case Literal<?>(Object value, int lineNumber) -> switch (value) {
+        case Integer integer -> Type.Basic.INT;
+        case String string -> Type.Basic.STRING;
+        default -> Type.Basic.ANY;
+      };
+      case LocalVarAccess(String name, int lineNumber) -> {
+        if (name.equals("this")) {
+          yield Type.Basic.ANY;
+        }
+        var variable = resolve(name, scope);
+        escape(variable);
+        yield read(variable);
+      }
+      case FunCall call -> visitCall(call, scope);
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+        write(resolve(name, scope), visit(expr, scope));
+        yield Type.Basic.ANY;
+      }
+      case Fun fun -> {
+        var funScope = scopes.get(fun);
+        if (!isOnlyCalled(fun)) {
+          fun.parameters().forEach(parameter -> joinInto(funScope.variables, parameter, Type.Basic.ANY));
+        }
+        visit(fun.body(), funScope);
+        if (!alwaysReturns(fun.body()) && funScope.returnType != Type.Basic.ANY) {
+          // return undefined
+          funScope.returnType = Type.Basic.ANY;
+          changed = true;
+        }
+        var functionType = new Type.KnownFunction(fun);
+        fun.name().ifPresent(name -> {
+          write(functionVariables.get(fun), functionType);
+          // some interpreters register a nested function in the global environment
+          write(new Variable(globalScope, name), functionType);
+        });
+        yield functionType;
+      }
+      case Return(Expr expr, int lineNumber) -> {
+        var exprType = visit(expr, scope);
+        var returnType = join(scope.returnType, exprType);
+        if (returnType != null && !returnType.equals(scope.returnType)) {
+          scope.returnType = returnType;
+          changed = true;
+        }
+        yield Type.Basic.ANY;
+      }
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+        visit(condition, scope);
+        visit(trueBlock, scope);
+        visit(falseBlock, scope);
+        yield Type.Basic.ANY;
+      }
+      case While(Expr condition, Block body, int lineNumber) -> {
+        // the analysis is flow-insensitive, so the back edge needs no special treatment
+        visit(condition, scope);
+        visit(body, scope);
+        yield Type.Basic.ANY;
+      }
+      case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+        var callType = visitCall(call, scope);
+        for (var i = 0; i < parameters.size(); i++) {
+          write(resolve(parameters.get(i), scope), types.get(call.args().get(i)));
+        }
+        yield join(callType, visit(expr, scope));
+      }
+      case New(Map<String, Expr> initMap, int lineNumber) -> {
+        var shape = new Type.Shape(List.copyOf(initMap.keySet()));
+        var shapeFieldTypes = fieldTypes.computeIfAbsent(shape, key -> new HashMap<>());
+        initMap.forEach((name, init) -> joinInto(shapeFieldTypes, name, visit(init, scope)));
+        yield shape;
+      }
+      case NewArray(List<Expr> elements, int lineNumber) -> {
+        // the elements are not typed, an object stored in an array is modified as an object of unknown type
+        elements.forEach(element -> visit(element, scope));
+        yield Type.Basic.ANY;
+      }
+      case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+        visit(array, scope);
+        visit(index, scope);
+        yield Type.Basic.ANY;
+      }
+      case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+        visit(array, scope);
+        visit(index, scope);
+        visit(expr, scope);
+        yield Type.Basic.ANY;
+      }
+      case FieldAccess(Expr receiver, String name, int lineNumber) -> {
+        var receiverType = visit(receiver, scope);
+        if (receiverType instanceof Type.Shape shape && shape.fields().contains(name)) {
+          yield join(fieldTypes.get(shape).get(name), unknownFieldTypes.get(name));
+        }
+        if (receiverType == Type.Basic.ANY || receiverType instanceof Type.Builtin) {
+          // may be global.name
+          escape(new Variable(globalScope, name));
+        }
+        yield Type.Basic.ANY;
+      }
+      case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+        var receiverType = visit(receiver, scope);
+        var exprType = visit(expr, scope);
+        switch (receiverType) {
+          case null -> {
+            // no value yet
+          }
+          case Type.Shape shape -> joinInto(fieldTypes.computeIfAbsent(shape, key -> new HashMap<>()), name, exprType);
+          case Type.Builtin(String builtinName) when builtinName.equals("global") -> write(new Variable(globalScope, name), exprType);
+          case Type.Basic basic when basic == Type.Basic.ANY -> {
+            // may be any object, including the global environment
+            joinInto(unknownFieldTypes, name, exprType);
+            write(new Variable(globalScope, name), Type.Basic.ANY);
+          }
+          default -> {
+            // a field of a function
+          }
+        }
+        yield Type.Basic.ANY;
+      }
+      case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+        var receiverType = visit(receiver, scope);
+        args.forEach(arg -> visit(arg, scope));
+        if (receiverType == Type.Basic.ANY || receiverType instanceof Type.Builtin) {
+          // may be global.name(args)
+          escape(new Variable(globalScope, name));
+        }
+        yield Type.Basic.ANY;
+      }
+    };
+    types.put(expression, type);
+    return type;
+  }
+
+  private Type visitCall(FunCall call, Scope scope) {
+    Type qualifierType;
+    Variable qualifierVariable = null;
+    if (call.qualifier() instanceof LocalVarAccess(String name, int lineNumber) && !name.equals("this")) {
+      // not an escape
+      qualifierVariable = resolve(name, scope);
+      qualifierType = read(qualifierVariable);
+      types.put(call.qualifier(), qualifierType);
+    } else {
+      qualifierType = visit(call.qualifier(), scope);
+    }
+    var argTypes = call.args().stream().map(arg -> visit(arg, scope)).toList();
+    var type = switch (qualifierType) {
+      case Type.Builtin(String name) when ARITHMETIC_OPERATORS.contains(name) && argTypes.size() == 2 -> {
+        if (argTypes.contains(null)) {
+          // no value yet
+          yield null;
+        }
+        yield argTypes.get(0) == Type.Basic.INT && argTypes.get(1) == Type.Basic.INT ? Type.Basic.INT : Type.Basic.ANY;
+      }
+      case Type.Builtin(String name) when COMPARISON_OPERATORS.contains(name) && argTypes.size() == 2 -> Type.Basic.BOOLEAN;
+      case Type.Builtin(String name) when name.equals("length") && argTypes.size() == 1 -> Type.Basic.INT;
+      case Type.KnownFunction(Fun fun) when fun.parameters().size() == argTypes.size() -> {
+        var funScope = scopes.get(fun);
+        for (var i = 0; i < argTypes.size(); i++) {
+          joinInto(funScope.variables, fun.parameters().get(i), argTypes.get(i));
+        }
+        yield funScope.returnType;
+      }
+      case null -> null;
+      default -> {
+        if (qualifierVariable != null) {
+          // called with the wrong number of arguments
+          escape(qualifierVariable);
+        }
+        yield Type.Basic.ANY;
+      }
+    };
+    types.put(call, type);
+    return type;
+  }
+}
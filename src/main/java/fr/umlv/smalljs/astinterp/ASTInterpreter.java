@@ -2,30 +2,39 @@ package fr.umlv.smalljs.astinterp;
 
 import fr.umlv.smalljs.ast.Expr;
 import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
 import fr.umlv.smalljs.ast.Expr.FieldAccess;
 import fr.umlv.smalljs.ast.Expr.FieldAssignment;
 import fr.umlv.smalljs.ast.Expr.Fun;
 import fr.umlv.smalljs.ast.Expr.FunCall;
 import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
 import fr.umlv.smalljs.ast.Expr.Literal;
 import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
 import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
 import fr.umlv.smalljs.ast.Expr.MethodCall;
 import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
 import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
 import fr.umlv.smalljs.ast.Script;
+import fr.umlv.smalljs.ast.TypeInference;
+import fr.umlv.smalljs.ast.TypeInference.Type;
 import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.InlineGuard;
+import fr.umlv.smalljs.rt.JSArray;
 import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.rt.Rope;
 import fr.umlv.smalljs.rt.JSObject.Invoker;
+import fr.umlv.smalljs.rt.PrintSink;
 
 import java.io.PrintStream;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static fr.umlv.smalljs.rt.JSObject.*;
-import static java.util.stream.Collectors.joining;
 
 public class ASTInterpreter {
   private static JSObject asJSObject(Object value, int lineNumber) {
@@ -35,27 +44,155 @@ public class ASTInterpreter {
     return jsObject;
   }
 
+  private static JSArray asJSArray(Object value, int lineNumber) {
+    if (!(value instanceof JSArray array)) {
+      throw new Failure("at line " + lineNumber + ", type error " + value + " is not an array");
+    }
+    return array;
+  }
+
+  private static int asIndex(Object value, int lineNumber) {
+    if (!(value instanceof Integer index)) {
+      throw new Failure("at line " + lineNumber + ", type error " + value + " is not an index");
+    }
+    return index;
+  }
+
+  // create the JSObject of a function declared in the script, so an engine can choose how a function runs
+  @FunctionalInterface
+  public interface FunctionFactory {
+    JSObject create(String name, List<String> parameters, Block body, JSObject env, int lineNumber);
+
+    // called at the end of each iteration of a loop of a function created by this factory, an engine can run
+    // the rest of the function with compiled code (on-stack replacement) and return its result,
+    // or return null to continue to interpret the loop
+    default Object backEdge(While loop, JSObject env) {
+      return null;
+    }
+  }
+
+  // run the body of a function with a new environment
+  public static Object invoke(List<String> parameters, Block body, JSObject env, int lineNumber, FunctionFactory functions,
+                              Object receiver, Object[] args) {
+    return invoke(parameters, body, env, lineNumber, functions, TypeInference.NONE, receiver, args);
+  }
+
+  public static Object invoke(List<String> parameters, Block body, JSObject env, int lineNumber, FunctionFactory functions,
+                              TypeInference types, Object receiver, Object[] args) {
+    if (args.length != parameters.size()){
+      throw new Failure("wrong number of arguments "+lineNumber);
+    }
+    var env2 = newEnv(env);
+    env2.register("this", receiver);
+    for(var i = 0; i< args.length;i++){
+      env2.register(parameters.get(i), args[i]);
+    }
+    try {
+      return visit(body,env2,functions,types);
+    }
+    catch (ReturnError returnError) {
+      return returnError.getValue();
+    }
+  }
+
+  private static JSObject createFunction(String name, List<String> parameters, Block body, JSObject env, int lineNumber, TypeInference types) {
+    FunctionFactory functions = (name2, parameters2, body2, env2, lineNumber2) -> createFunction(name2, parameters2, body2, env2, lineNumber2, types);
+    Invoker invoker = (self, receiver, args) -> invoke(parameters, body, env, lineNumber, functions, types, receiver, args);
+    return JSObject.newFunction(name,invoker);
+  }
+
   static Object visit(Expr expression, JSObject env) {
+    return visit(expression, env, TypeInference.NONE);
+  }
+
+  static Object visit(Expr expression, JSObject env, TypeInference types) {
+    return visit(expression, env, (name, parameters, body, env2, lineNumber) -> createFunction(name, parameters, body, env2, lineNumber, types), types);
+  }
+
+  public static Object visit(Expr expression, JSObject env, FunctionFactory functions) {
+    return visit(expression, env, functions, TypeInference.NONE);
+  }
+
+  private static boolean isTrue(Object value) {
+    if (value instanceof Boolean booleanVal){
+      // the comparisons of the JVM backend return a boolean
+      value = booleanVal ? 1 : 0;
+    }
+    if (! (value instanceof Integer intVal )){
+      throw new Failure("pas boolean" + value);
+    }
+    return intVal == 1;
+  }
+
+  private static Block asAssignments(Block block) {
+    return new Block(block.instrs().stream().map(ASTInterpreter::asAssignment).toList(), block.lineNumber());
+  }
+
+  // a declaration executed again by a loop is an assignment, the other expressions keep their identity (see TypeInference)
+  private static Expr asAssignment(Expr instr) {
+    return switch (instr) {
+      case Block block -> asAssignments(block);
+      case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) when declaration ->
+          new LocalVarAssignment(name, expr, false, lineNumber);
+      case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) ->
+          new If(condition, asAssignments(trueBlock), asAssignments(falseBlock), lineNumber);
+      case While(Expr condition, Block body, int lineNumber) -> new While(condition, asAssignments(body), lineNumber);
+      default -> instr;
+    };
+  }
+
+  // same semantics as the builtins of the global environment
+  private static Object intOperation(String operator, int left, int right) {
+    return switch (operator) {
+      case "+" -> left + right;
+      case "-" -> left - right;
+      case "*" -> left * right;
+      case "/" -> left / right;
+      case "%" -> left % right;
+      case "==" -> left == right ? 1 : 0;
+      case "!=" -> left != right ? 1 : 0;
+      case "<" -> left < right ? 1 : 0;
+      case "<=" -> left <= right ? 1 : 0;
+      case ">" -> left > right ? 1 : 0;
+      case ">=" -> left >= right ? 1 : 0;
+      default -> throw new AssertionError("unknown operator " + operator);
+    };
+  }
+
+  // the types are used to avoid the dynamic checks, see TypeInference
+  public static Object visit(Expr expression, JSObject env, FunctionFactory functions, TypeInference types) {
     return switch (expression) {
       case Block(List<Expr> instrs, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO Block");
         // TODO loop over all instructions
         for (var instr : instrs){
-          visit(instr,env);
+          visit(instr,env,functions,types);
         }
         yield UNDEFINED;
       }
       case Literal<?>(Object value, int lineNumber) -> {
         yield value;
       }
+      case FunCall call when types.isIntOperation(call) -> {
+        // the operator is a builtin and the arguments are ints, no call
+        var operator = ((LocalVarAccess) call.qualifier()).name();
+        var left = (int) visit(call.args().get(0), env, functions, types);
+        var right = (int) visit(call.args().get(1), env, functions, types);
+        yield intOperation(operator, left, right);
+      }
+      case FunCall(Expr qualifier, List<Expr> args, int lineNumber) when types.typeOf(qualifier) instanceof Type.KnownFunction -> {
+        var function = (JSObject) visit(qualifier, env, functions, types);
+        var values = args.stream().map(v -> visit(v, env, functions, types)).toArray();
+        yield function.invoke(UNDEFINED, values);
+      }
       case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
-        var funMaybe = visit(qualifier,env);
+        var funMaybe = visit(qualifier,env,functions,types);
 
         if (!(funMaybe instanceof JSObject jsObject)){
           throw new Failure("not a function "+funMaybe);
 
         }
-          var values = args.stream().map(v -> visit(v,env)).toArray();
+          var values = args.stream().map(v -> visit(v,env,functions,types)).toArray();
           yield jsObject.invoke(UNDEFINED,values);
 
       }
@@ -67,75 +204,100 @@ public class ASTInterpreter {
           throw new Failure("variable "+name+" already defined at "+lineNumber);
         }
 
-        var value = visit(expr,env);
+        var value = visit(expr,env,functions,types);
         env.register(name,value);
         yield UNDEFINED;
       }
       case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO Fun");
         var functionName = optName.orElse("lambda");
-        Invoker invoker = new Invoker() {
-          @Override
-          public Object invoke(JSObject self, Object receiver, Object... args) {
-            if (args.length != parameters.size()){
-              throw new Failure("wrong number of arguments "+lineNumber);
-            }
-            var env2 = newEnv(env);
-            env2.register("this", receiver);
-            for(var i = 0; i< args.length;i++){
-              env2.register(parameters.get(i), args[i]);
-            }
-            try {
-              return visit(body,env2);
-            }
-            catch (ReturnError returnError) {
-              return returnError.getValue();
-            }
-          }
-        };
-        var function = JSObject.newFunction(functionName,invoker);
+        var function = functions.create(functionName, parameters, body, env, lineNumber);
         optName.ifPresent(s -> env.register(s, function));
         yield function;
       }
       case Return(Expr expr, int lineNumber) -> {
-        throw new ReturnError(visit(expr,env));
+        throw new ReturnError(visit(expr,env,functions,types));
       }
       case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
-        var val = visit(condition,env);
-        if (! (val instanceof Integer intVal )){
-          throw new Failure("pas boolean" + val);
+        var val = visit(condition,env,functions,types);
+        if (isTrue(val)){
+          yield visit(trueBlock,env,functions,types);
         }
-        if (intVal == 1){
-          yield visit(trueBlock,env);
+        yield visit(falseBlock,env,functions,types);
+      }
+      case While loop -> {
+        // the declarations of the body are executed once, they are assignments in the next iterations
+        var body = loop.body();
+        while (isTrue(visit(loop.condition(), env, functions, types))) {
+          visit(body, env, functions, types);
+          if (body == loop.body()) {
+            body = asAssignments(body);
+          }
+          var result = functions.backEdge(loop, env);
+          if (result != null) {
+            // the rest of the function has been run by another tier
+            throw new ReturnError(result);
+          }
+        }
+        yield UNDEFINED;
+      }
+      case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+        // the ASTOptimizer checks that global is not redefined
+        var globalEnv = asJSObject(env.lookup("global"), lineNumber);
+        if (!guard.isValid(globalEnv)) {
+          yield visit(call, env, functions, types);
+        }
+        // no function call, the parameters are stored in a new environment
+        var env2 = newEnv(env);
+        for (var i = 0; i < parameters.size(); i++) {
+          env2.register(parameters.get(i), visit(call.args().get(i), env, functions, types));
         }
-        yield visit(falseBlock,env);
+        yield visit(expr, env2, functions, types);
       }
       case New(Map<String, Expr> initMap, int  lineNumber) -> {
         var vals = JSObject.newObject(null);
 
         for (var key : initMap.keySet()){
-          vals.register(key,visit(initMap.get(key),env));
+          vals.register(key,visit(initMap.get(key),env,functions,types));
         }
         yield vals;
       }
+      case NewArray(List<Expr> elements, int lineNumber) -> {
+        yield JSArray.of(elements.stream().map(element -> visit(element, env, functions, types)).toArray());
+      }
+      case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+        var jsArray = asJSArray(visit(array, env, functions, types), lineNumber);
+        yield jsArray.get(asIndex(visit(index, env, functions, types), lineNumber));
+      }
+      case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+        var jsArray = asJSArray(visit(array, env, functions, types), lineNumber);
+        var indexValue = asIndex(visit(index, env, functions, types), lineNumber);
+        jsArray.set(indexValue, visit(expr, env, functions, types));
+        yield UNDEFINED;
+      }
 
+      case FieldAccess(Expr receiver, String name, int lineNumber) when types.typeOf(receiver) instanceof Type.Shape -> {
+        // an object created by a New
+        var object = (JSObject) visit(receiver, env, functions, types);
+        yield object.lookup(name);
+      }
       case FieldAccess(Expr receiver, String name, int lineNumber) -> {
-        var obj =visit(receiver,env);
+        var obj =visit(receiver,env,functions,types);
         if (! (obj instanceof JSObject objtemp)){
           throw new Failure("not a object");
         }
         yield objtemp.lookup(name);
       }
       case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
-        var obj =visit(receiver,env);
+        var obj =visit(receiver,env,functions,types);
         if (! (obj instanceof JSObject objtemp)){
           throw new Failure("not a object");
         }
-        objtemp.register(name,visit(expr,env));
+        objtemp.register(name,visit(expr,env,functions,types));
         yield UNDEFINED;
       }
       case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
-        var obj =visit(receiver,env);
+        var obj =visit(receiver,env,functions,types);
         if (! (obj instanceof JSObject objtemp)){
           throw new Failure("dzad not a object");
         }
@@ -144,7 +306,7 @@ public class ASTInterpreter {
           throw new Failure("dzad not a object");
         }
 
-        var values = args.stream().map(v -> visit(v,env)).toArray();
+        var values = args.stream().map(v -> visit(v,env,functions,types)).toArray();
 
         yield objtemp2.invoke(objtemp,values);
       }
@@ -153,27 +315,34 @@ public class ASTInterpreter {
 
   @SuppressWarnings("unchecked")
   public static void interpret(Script script, PrintStream outStream) {
+    var sink = new PrintSink(outStream);
     JSObject globalEnv = JSObject.newEnv(null);
     Block body = script.body();
     globalEnv.register("global", globalEnv);
     globalEnv.register("print", JSObject.newFunction("print", (self, receiver, args) -> {
-      System.err.println("print called with " + Arrays.toString(args));
-      outStream.println(Arrays.stream(args).map(Object::toString).collect(joining(" ")));
+      sink.print(args);
       return UNDEFINED;
     }));
-    globalEnv.register("+", JSObject.newFunction("+", (self, receiver, args) -> (Integer) args[0] + (Integer) args[1]));
+    globalEnv.register("length", JSObject.newFunction("length", (self, receiver, args) ->
+        args[0] instanceof JSArray array ? array.length() : ((CharSequence) args[0]).length()));
+    globalEnv.register("+", JSObject.newFunction("+", (self, receiver, args) ->
+        args[0] instanceof Integer left && args[1] instanceof Integer right ? (Object) (left + right) : Rope.concat(args[0], args[1])));
     globalEnv.register("-", JSObject.newFunction("-", (self, receiver, args) -> (Integer) args[0] - (Integer) args[1]));
     globalEnv.register("/", JSObject.newFunction("/", (self, receiver, args) -> (Integer) args[0] / (Integer) args[1]));
     globalEnv.register("*", JSObject.newFunction("*", (self, receiver, args) -> (Integer) args[0] * (Integer) args[1]));
     globalEnv.register("%", JSObject.newFunction("%", (self, receiver, args) -> (Integer) args[0] % (Integer) args[1]));
 
-    globalEnv.register("==", JSObject.newFunction("==", (self, receiver, args) -> args[0].equals(args[1]) ? 1 : 0));
-    globalEnv.register("!=", JSObject.newFunction("!=", (self, receiver, args) -> !args[0].equals(args[1]) ? 1 : 0));
-    globalEnv.register("<", JSObject.newFunction("<", (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) < 0) ? 1 : 0));
-    globalEnv.register("<=", JSObject.newFunction("<=", (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) <= 0) ? 1 : 0));
-    globalEnv.register(">", JSObject.newFunction(">", (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) > 0) ? 1 : 0));
-    globalEnv.register(">=", JSObject.newFunction(">=", (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) >= 0) ? 1 : 0));
-    visit(body, globalEnv);
+    globalEnv.register("==", JSObject.newFunction("==", (self, receiver, args) -> Rope.flatten(args[0]).equals(Rope.flatten(args[1])) ? 1 : 0));
+    globalEnv.register("!=", JSObject.newFunction("!=", (self, receiver, args) -> !Rope.flatten(args[0]).equals(Rope.flatten(args[1])) ? 1 : 0));
+    globalEnv.register("<", JSObject.newFunction("<", (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) < 0) ? 1 : 0));
+    globalEnv.register("<=", JSObject.newFunction("<=", (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) <= 0) ? 1 : 0));
+    globalEnv.register(">", JSObject.newFunction(">", (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) > 0) ? 1 : 0));
+    globalEnv.register(">=", JSObject.newFunction(">=", (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) >= 0) ? 1 : 0));
+    try {
+      visit(body, globalEnv, TypeInference.infer(script));
+    } finally {
+      sink.flush();
+    }
   }
 }
 
@@ -0,0 +1,104 @@
+package fr.umlv.smalljs.jvminterp;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.astinterp.ASTInterpreter;
+import fr.umlv.smalljs.rt.JSObject;
+
+// compile the functions on a small pool of threads so the creation of a function does not wait
+// for the generation of its bytecode. Until the compilation is finished, the function is run by
+// the AST interpreter, then the target of the call site of the function is replaced by the compiled code.
+final class BackgroundCompiler {
+  private static final int THREAD_COUNT = 2;
+
+  private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+    var thread = new Thread(runnable, "smalljs-compiler");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final MethodHandle INTERPRET;
+  static {
+    var lookup = MethodHandles.lookup();
+    try {
+      INTERPRET = lookup.findStatic(BackgroundCompiler.class, "interpret",
+          methodType(Object.class, List.class, Block.class, int.class, JSObject.class, CompileOptions.class, Object.class, Object[].class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static final LongAdder COMPILATION_COUNTER = new LongAdder();
+
+  // number of functions compiled in background
+  static long compilationCount() {
+    return COMPILATION_COUNTER.sum();
+  }
+
+  private static final LongAdder FAILURE_COUNTER = new LongAdder();
+
+  // number of functions that failed to compile in background, they stay interpreted
+  static long failureCount() {
+    return FAILURE_COUNTER.sum();
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static Object interpret(List<String> parameters, Block body, int lineNumber, JSObject global, CompileOptions options,
+                                  Object receiver, Object[] args) {
+    // like in the compiled code, the variables that are not parameters or local variables are globals
+    return ASTInterpreter.invoke(parameters, body, global, lineNumber,
+        (name, parameters2, body2, env, lineNumber2) -> createFunction(name, parameters2, body2, lineNumber2, global, options),
+        receiver, args);
+  }
+
+  // the AST interpreter does not know the cells of the JVM backend, so only the functions
+  // that do not declare functions are interpreted
+  static boolean canInterpret(Fun fun) {
+    return !ByteCodeRewriter.declaresFunctions(fun.body());
+  }
+
+  static JSObject createFunction(String name, List<String> parameters, Block body, int lineNumber, JSObject global, CompileOptions options) {
+    var interpret = MethodHandles.insertArguments(INTERPRET, 0, parameters, body, lineNumber, global, options)
+        .asCollector(Object[].class, parameters.size());
+    var callSite = new MutableCallSite(genericMethodType(1 + parameters.size()));
+    callSite.setTarget(interpret);
+    // in trampoline mode, the tail calls run the interpreter until the raw method handle is set
+    var function = options.trampoline()
+        ? TrampolineFunction.newFunction(name, callSite.dynamicInvoker(), null)
+        : JSObject.newFunction(name, callSite.dynamicInvoker());
+
+    EXECUTOR.execute(() -> {
+      // the compiler thread does not modify the function, the method handles are published
+      // by the volatile field of a trampoline function and by the call site
+      MethodHandle mh;
+      try {
+        mh = ByteCodeRewriter.compile(name, parameters, body, global, options, function);
+      } catch (RuntimeException e) {
+        // the function stays interpreted
+        FAILURE_COUNTER.increment();
+        System.err.println("background compilation of " + name + " failed: " + e.getMessage());
+        return;
+      }
+      if (function instanceof TrampolineFunction trampolineFunction) {
+        trampolineFunction.setTailCallHandle(mh);
+        mh = RT.trampoline(mh);
+      }
+      callSite.setTarget(mh);
+      // the threads that run the interpreted code see the new target
+      MutableCallSite.syncAll(new MutableCallSite[] { callSite });
+      COMPILATION_COUNTER.increment();
+    });
+    return function;
+  }
+}
@@ -1,19 +1,31 @@
 package fr.umlv.smalljs.jvminterp;
 
 import static java.lang.invoke.MethodType.genericMethodType;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.objectweb.asm.Opcodes.*;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import fr.umlv.smalljs.jvminterp.CompileOptions.Verification;
 import fr.umlv.smalljs.rt.Failure;
 import fr.umlv.smalljs.stackinterp.Instructions;
 import org.objectweb.asm.ClassReader;
@@ -26,27 +38,291 @@ import org.objectweb.asm.util.CheckClassAdapter;
 
 import fr.umlv.smalljs.ast.Expr;
 import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
 import fr.umlv.smalljs.ast.Expr.FieldAccess;
 import fr.umlv.smalljs.ast.Expr.FieldAssignment;
 import fr.umlv.smalljs.ast.Expr.Fun;
 import fr.umlv.smalljs.ast.Expr.FunCall;
 import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
 import fr.umlv.smalljs.ast.Expr.Instr;
 import fr.umlv.smalljs.ast.Expr.Literal;
 import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
 import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
 import fr.umlv.smalljs.ast.Expr.MethodCall;
 import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
 import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.ast.TypeInference;
+import fr.umlv.smalljs.rt.InlineGuard;
+import fr.umlv.smalljs.rt.JSArray;
 import fr.umlv.smalljs.rt.JSObject;
 
 import javax.swing.text.Element;
 
 public class ByteCodeRewriter {
     public static JSObject createFunction(String name, List<String> parameters, Block body, JSObject global) {
+        return createFunction(name, parameters, body, global, CompileOptions.DEFAULT);
+    }
+
+    public static JSObject createFunction(String name, List<String> parameters, Block body, JSObject global, CompileOptions options) {
+        return createFunction(name, List.of(), parameters, body, global, options);
+    }
+
+    // the method handle of a function that captures variables takes the cells of the captured variables
+    // as first arguments, they are bound when the function is created (see RT.bsm_closure)
+    static JSObject createFunction(String name, List<String> captures, List<String> parameters, Block body, JSObject global, CompileOptions options) {
+        var functionClassLoader = new FunClassLoader(new FunDictionary(), global, options);
+        var mh = generate(name, captures, parameters, body, functionClassLoader);
+        var jsFunction = newFunction(name, mh, options.trampoline());
+        functionClassLoader.setFunction(name, jsFunction);
+        return jsFunction;
+    }
+
+    static JSObject newFunction(String name, MethodHandle mh, boolean trampoline) {
+        if (!trampoline) {
+            return JSObject.newFunction(name, mh);
+        }
+        return TrampolineFunction.newFunction(name, RT.trampoline(mh), mh);
+    }
+
+    // compile the code of an existing function, self is the function object seen by the code
+    // (for the self tail calls), the caller is responsible to install the returned method handle.
+    // self is not modified, so the compilation can run in another thread. In trampoline mode,
+    // the method handle returns the tail calls, the caller installs RT.trampoline(mh)
+    public static MethodHandle compile(String name, List<String> parameters, Block body, JSObject global, CompileOptions options, JSObject self) {
+        var functionClassLoader = new FunClassLoader(new FunDictionary(), global, options);
+        functionClassLoader.setFunction(name, self);
+        return generate(name, List.of(), parameters, body, functionClassLoader);
+    }
+
+    // compile the code of an existing function with a second entry point at the head of a loop (on-stack replacement),
+    // the method handle takes the environment of an interpreted call of the function, copies the variables
+    // then jumps into the loop, it returns the result of the function. The loop is identified by its condition
+    // because the AST interpreter may rewrite the body of a loop. Empty if the function declares functions
+    // (the interpreter does not store the captured variables in cells) or if the tail calls use a trampoline
+    public static Optional<MethodHandle> compileLoop(String name, List<String> parameters, Block body, Expr loopCondition, JSObject global,
+                                                     CompileOptions options, JSObject self) {
+        if (declaresFunctions(body) || options.trampoline()) {
+            return Optional.empty();
+        }
+        var functionClassLoader = new FunClassLoader(new FunDictionary(), global, options);
+        functionClassLoader.setFunction(name, self);
+        var cv = newClassWriter();
+        generateMethod(cv, name, name, List.of(), parameters, body, functionClassLoader, Map.of(), Set.of(), new IdentityHashMap<>(),
+            Optional.of(loopCondition));
+        var type = defineClass(cv, name, functionClassLoader);
+        return Optional.of(findStatic(type, name, 0));
+    }
+
+    // compile the script and all its functions ahead of time in one class, one static method by function,
+    // a call to a global function declared in the script is linked to the function as long as the global is not changed
+    public static JSObject createScript(Block body, JSObject global, CompileOptions options) {
+        var functions = new ArrayList<Fun>();
+        collectFunctions(body, functions);
+        var methodNames = new IdentityHashMap<Fun, String>();
+        var globalFunctions = new HashSet<String>();
+        for (var fun : functions) {
+            var name = fun.name().orElse("lambda");
+            methodNames.put(fun, name.replaceAll("[.;\\[/<>]", "_") + "$" + methodNames.size());
+            fun.name().ifPresent(globalFunctions::add);
+        }
+
+        // the functions are in prefix order, so the captured variables of a function
+        // are known when the method of the function is generated
+        var captures = new IdentityHashMap<Fun, List<String>>();
+        var functionClassLoader = new FunClassLoader(new FunDictionary(), global, options);
+        var cv = newClassWriter();
+        generateMethod(cv, "main", "main", List.of(), List.of(), body, functionClassLoader, methodNames, globalFunctions, captures,
+            Optional.empty());
+        for (var fun : functions) {
+            generateMethod(cv, fun.name().orElse("lambda"), methodNames.get(fun), captures.get(fun), fun.parameters(), fun.body(),
+                functionClassLoader, methodNames, globalFunctions, captures, Optional.empty());
+        }
+        var type = defineClass(cv, "script", functionClassLoader);
+        var mh = findStatic(type, "main", 0);
+        var jsFunction = newFunction("main", mh, options.trampoline());
+        functionClassLoader.setFunction("main", jsFunction);
+        return jsFunction;
+    }
+
+    private static void collectFunctions(Expr expression, List<Fun> functions) {
+      visitFunctions(expression, fun -> {
+        functions.add(fun);
+        collectFunctions(fun.body(), functions);
+      });
+    }
+
+    // the AST interpreter captures the variables by copy and the compiled code in cells, so a function
+    // that declares functions can not switch from one to the other without changing the semantics
+    public static boolean declaresFunctions(Block body) {
+      var hasFunction = new boolean[1];
+      visitFunctions(body, fun -> hasFunction[0] = true);
+      return hasFunction[0];
+    }
+
+    // the functions declared in the expression, but not the functions declared inside those functions
+    static void visitFunctions(Expr expression, Consumer<Fun> functions) {
+      switch (expression) {
+        case Block(List<Expr> instrs, int lineNumber) -> instrs.forEach(instr -> visitFunctions(instr, functions));
+        case Literal<?>(Object value, int lineNumber) -> {
+          // do nothing
+        }
+        case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+          visitFunctions(qualifier, functions);
+          args.forEach(arg -> visitFunctions(arg, functions));
+        }
+        case LocalVarAccess(String name, int lineNumber) -> {
+          // do nothing
+        }
+        case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> visitFunctions(expr, functions);
+        case Fun fun -> functions.accept(fun);
+        case Return(Expr expr, int lineNumber) -> visitFunctions(expr, functions);
+        case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+          visitFunctions(condition, functions);
+          visitFunctions(trueBlock, functions);
+          visitFunctions(falseBlock, functions);
+        }
+        case While(Expr condition, Block body, int lineNumber) -> {
+          visitFunctions(condition, functions);
+          visitFunctions(body, functions);
+        }
+        case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> visitFunctions(call, functions);
+        case New(Map<String, Expr> initMap, int lineNumber) -> initMap.values().forEach(init -> visitFunctions(init, functions));
+        case NewArray(List<Expr> elements, int lineNumber) -> elements.forEach(element -> visitFunctions(element, functions));
+        case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+          visitFunctions(array, functions);
+          visitFunctions(index, functions);
+        }
+        case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+          visitFunctions(array, functions);
+          visitFunctions(index, functions);
+          visitFunctions(expr, functions);
+        }
+        case FieldAccess(Expr receiver, String name, int lineNumber) -> visitFunctions(receiver, functions);
+        case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+          visitFunctions(receiver, functions);
+          visitFunctions(expr, functions);
+        }
+        case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+          visitFunctions(receiver, functions);
+          args.forEach(arg -> visitFunctions(arg, functions));
+        }
+      }
+    }
+
+    private static void visitUses(Expr expression, Set<String> uses) {
+      switch (expression) {
+        case Block(List<Expr> instrs, int lineNumber) -> instrs.forEach(instr -> visitUses(instr, uses));
+        case Literal<?>(Object value, int lineNumber) -> {
+          // do nothing
+        }
+        case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+          visitUses(qualifier, uses);
+          args.forEach(arg -> visitUses(arg, uses));
+        }
+        case LocalVarAccess(String name, int lineNumber) -> uses.add(name);
+        case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+          if (!declaration) {
+            uses.add(name);
+          }
+          visitUses(expr, uses);
+        }
+        case Fun fun -> uses.addAll(freeVariables(fun));
+        case Return(Expr expr, int lineNumber) -> visitUses(expr, uses);
+        case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+          visitUses(condition, uses);
+          visitUses(trueBlock, uses);
+          visitUses(falseBlock, uses);
+        }
+        case While(Expr condition, Block body, int lineNumber) -> {
+          visitUses(condition, uses);
+          visitUses(body, uses);
+        }
+        case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> visitUses(call, uses);
+        case New(Map<String, Expr> initMap, int lineNumber) -> initMap.values().forEach(init -> visitUses(init, uses));
+        case NewArray(List<Expr> elements, int lineNumber) -> elements.forEach(element -> visitUses(element, uses));
+        case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+          visitUses(array, uses);
+          visitUses(index, uses);
+        }
+        case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+          visitUses(array, uses);
+          visitUses(index, uses);
+          visitUses(expr, uses);
+        }
+        case FieldAccess(Expr receiver, String name, int lineNumber) -> visitUses(receiver, uses);
+        case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+          visitUses(receiver, uses);
+          visitUses(expr, uses);
+        }
+        case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+          visitUses(receiver, uses);
+          args.forEach(arg -> visitUses(arg, uses));
+        }
+      }
+    }
+
+    // the variables used by a function or by its nested functions that are not declared by the function
+    private static Set<String> freeVariables(Fun fun) {
+      var env = JSObject.newEnv(null);
+      env.register("this", 0);
+      for (var parameter : fun.parameters()) {
+        env.register(parameter, env.length());
+      }
+      visitVariable(fun.body(), env);
+      var uses = new LinkedHashSet<String>();
+      visitUses(fun.body(), uses);
+      uses.removeIf(name -> env.lookup(name) != JSObject.UNDEFINED);
+      return uses;
+    }
+
+    private static ClassWriter newClassWriter() {
+        var cv = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cv.visit(V11, ACC_PUBLIC | ACC_SUPER, "script", null, "java/lang/Object", null);
+        cv.visitSource("script", null);
+        return cv;
+    }
+
+    private static Class<?> defineClass(ClassWriter cv, String name, FunClassLoader functionClassLoader) {
+        cv.visitEnd();
+        var instrs = cv.toByteArray();
+        var options = functionClassLoader.getOptions();
+        verify(instrs, options.verification());
+        options.dumpDirectory().ifPresent(directory -> dumpBytecode(instrs, name, directory));
+        return functionClassLoader.createClass("script", instrs);
+    }
+
+    private static MethodHandle findStatic(Class<?> type, String methodName, int parameterCount) {
+        try {
+            return MethodHandles.lookup().findStatic(type, methodName, genericMethodType(1 + parameterCount));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static MethodHandle generate(String name, List<String> captures, List<String> parameters, Block body, FunClassLoader functionClassLoader) {
+        var cv = newClassWriter();
+        generateMethod(cv, name, name, captures, parameters, body, functionClassLoader, Map.of(), Set.of(), new IdentityHashMap<>(),
+            Optional.empty());
+        var type = defineClass(cv, name, functionClassLoader);
+        return findStatic(type, name, captures.size() + parameters.size());
+    }
+
+    // the cells of the captured variables are stored in the first slots, before this and the parameters,
+    // the captured variables of the nested functions are stored in nestedCaptures,
+    // if osrLoop is present, the method is an on-stack replacement entry into that loop (see compileLoop)
+    private static void generateMethod(ClassWriter cv, String name, String methodName, List<String> captures, List<String> parameters, Block body,
+                                       FunClassLoader functionClassLoader, Map<Fun, String> methodNames, Set<String> globalFunctions,
+                                       Map<Fun, List<String>> nestedCaptures, Optional<Expr> osrLoop) {
         var env = JSObject.newEnv(null);
 
-        env.register("this", 0);
+        for (var capture : captures) {
+            env.register(capture, env.length());
+        }
+        env.register("this", env.length());
         for (String parameter : parameters) {
             env.register(parameter, env.length());
         }
@@ -54,48 +330,106 @@ public class ByteCodeRewriter {
         visitVariable(body, env);
         var localVariableCount = env.length();
 
-        var cv = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
-        cv.visit(V11, ACC_PUBLIC | ACC_SUPER, "script", null, "java/lang/Object", null);
-        cv.visitSource("script", null);
-
-        var methodType = genericMethodType(1 + parameters.size());
-        var desc = methodType.toMethodDescriptorString();
-        var mv = cv.visitMethod(ACC_PUBLIC | ACC_STATIC, name, desc, null, null);
+        // a variable captured by a nested function is stored in a cell (an array of one element),
+        // so the nested function and the current function share the same variable
+        var cells = new LinkedHashSet<String>(captures);
+        var localCells = new LinkedHashSet<String>();
+        visitFunctions(body, fun -> {
+            var funCaptures = freeVariables(fun).stream().filter(variable -> env.lookup(variable) != JSObject.UNDEFINED).toList();
+            nestedCaptures.put(fun, funCaptures);
+            funCaptures.stream().filter(variable -> !cells.contains(variable)).forEach(localCells::add);
+        });
+        cells.addAll(localCells);
+
+        var desc = genericMethodType(osrLoop.isPresent() ? 1 : captures.size() + 1 + parameters.size()).toMethodDescriptorString();
+        var mv = cv.visitMethod(ACC_PUBLIC | ACC_STATIC, methodName, desc, null, null);
         mv.visitCode();
 
+        var osrEntries = new IdentityHashMap<Expr, Label>();
+        if (osrLoop.isPresent()) {
+          // copy the variables used by the function from the environment of the interpreter then jump into the loop,
+          // a variable not yet declared by the interpreter has the value of the global variable of the same name
+          var osrEntry = new Label();
+          osrEntries.put(osrLoop.orElseThrow(), osrEntry);
+          var interpreterEnvSlot = localVariableCount;
+          mv.visitVarInsn(ALOAD, 0);
+          mv.visitTypeInsn(CHECKCAST, JSOBJECT);
+          mv.visitVarInsn(ASTORE, interpreterEnvSlot);
+          var uses = new LinkedHashSet<String>();
+          uses.add("this");
+          uses.addAll(parameters);
+          visitUses(body, uses);
+          for (var variable : uses) {
+            var slotOrUndefined = env.lookup(variable);
+            if (slotOrUndefined == JSObject.UNDEFINED) {
+              continue;  // a global variable
+            }
+            mv.visitVarInsn(ALOAD, interpreterEnvSlot);
+            mv.visitLdcInsn(variable);
+            mv.visitMethodInsn(INVOKEVIRTUAL, JSOBJECT, "lookup", "(Ljava/lang/String;)Ljava/lang/Object;", false);
+            mv.visitVarInsn(ASTORE, (int) slotOrUndefined);
+          }
+          mv.visitJumpInsn(GOTO, osrEntry);
+        }
+
+        // a self tail call jumps here
+        var start = new Label();
+        mv.visitLabel(start);
+
         //initialize local variables to undefined by default
         for(var i = parameterCount; i < localVariableCount; i++) {
           mv.visitLdcInsn(new ConstantDynamic("undefined", "Ljava/lang/Object;", BSM_UNDEFINED));
           mv.visitVarInsn(ASTORE, i);
         }
 
-        var dictionary = new FunDictionary();
-        visit(body, env, mv, dictionary);
+        // box the captured parameters and local variables
+        for (var variable : localCells) {
+          mv.visitInsn(ICONST_1);
+          mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+          mv.visitInsn(DUP);
+          mv.visitInsn(ICONST_0);
+          mv.visitVarInsn(ALOAD, (int) env.lookup(variable));
+          mv.visitInsn(AASTORE);
+          mv.visitVarInsn(ASTORE, (int) env.lookup(variable));
+        }
+
+        var dictionary = functionClassLoader.getDictionary();
+        var function = new FunctionInfo(name, methodName, captures, cells, parameterCount, localVariableCount, start,
+            functionClassLoader.getOptions().trampoline(), methodNames, globalFunctions, nestedCaptures,
+            functionClassLoader.getOptions().types(), osrEntries);
+        visit(body, env, mv, dictionary, function);
 
         mv.visitLdcInsn(new ConstantDynamic("undefined", "Ljava/lang/Object;", BSM_UNDEFINED));
         mv.visitInsn(ARETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
+    }
 
-        var instrs = cv.toByteArray();
-        dumpBytecode(instrs);
-
-        var functionClassLoader = new FunClassLoader(dictionary, global);
-        var type = functionClassLoader.createClass("script", instrs);
-
-        MethodHandle mh;
-        try {
-            mh = MethodHandles.lookup().findStatic(type, name, methodType);
-        } catch (NoSuchMethodException | IllegalAccessException e) {
-            throw new AssertionError(e);
+    private static void verify(byte[] array, Verification verification) {
+      switch (verification) {
+        case NONE -> {}
+        case STRUCTURAL -> new ClassReader(array).accept(new CheckClassAdapter(null, false), 0);
+        case FULL -> {
+          var writer = new StringWriter();
+          CheckClassAdapter.verify(new ClassReader(array), false, new PrintWriter(writer));
+          if (!writer.getBuffer().isEmpty()) {
+            throw new Failure("invalid bytecode\n" + writer);
+          }
         }
-
-        return JSObject.newFunction(name, mh);
+      }
     }
 
-    private static void dumpBytecode(byte[] array) {
-      var reader = new ClassReader(array);
-      CheckClassAdapter.verify(reader, true, new PrintWriter(System.err, false, UTF_8));
+    private static final AtomicInteger DUMP_COUNTER = new AtomicInteger();
+
+    // all the generated classes are named "script", so the name of the file contains the function name and a counter
+    private static void dumpBytecode(byte[] array, String name, Path directory) {
+      var path = directory.resolve(name.replaceAll("[^A-Za-z0-9_]", "_") + "-" + DUMP_COUNTER.incrementAndGet() + ".class");
+      try {
+        Files.createDirectories(directory);
+        Files.write(path, array);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
 
     private static void visitVariable(Expr expression, JSObject env) {
@@ -129,9 +463,24 @@ public class ByteCodeRewriter {
           visitVariable(trueBlock, env);
           visitVariable(falseBlock, env);
         }
+        case While(Expr condition, Block body, int lineNumber) -> {
+          visitVariable(body, env);
+        }
+        case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+          // do nothing
+        }
         case New(Map<String, Expr> initMap, int lineNumber) -> {
           // do nothing
         }
+        case NewArray(List<Expr> elements, int lineNumber) -> {
+          // do nothing
+        }
+        case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+          // do nothing
+        }
+        case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+          // do nothing
+        }
         case FieldAccess(Expr receiver, String name, int lineNumber) -> {
           // do nothing
         }
@@ -151,6 +500,7 @@ public class ByteCodeRewriter {
     }
 
     private static final String JSOBJECT = JSObject.class.getName().replace('.', '/');
+    private static final String JSARRAY = JSArray.class.getName().replace('.', '/');
     private static final String RT_NAME = RT.class.getName().replace('.', '/');
     private static final Handle BSM_UNDEFINED = bsm("bsm_undefined", Object.class, Lookup.class, String.class, Class.class);
     private static final Handle BSM_CONST = bsm("bsm_const", Object.class, Lookup.class, String.class, Class.class, int.class);
@@ -162,8 +512,94 @@ public class ByteCodeRewriter {
     private static final Handle BSM_GET = bsm("bsm_get", CallSite.class, Lookup.class, String.class, MethodType.class, String.class);
     private static final Handle BSM_SET = bsm("bsm_set", CallSite.class, Lookup.class, String.class, MethodType.class, String.class);
     private static final Handle BSM_METHODCALL = bsm("bsm_methodcall", CallSite.class, Lookup.class, String.class, MethodType.class);
+    private static final Handle BSM_SELF = bsm("bsm_self", Object.class, Lookup.class, String.class, Class.class);
+    private static final Handle BSM_TAILCALL = bsm("bsm_tailcall", CallSite.class, Lookup.class, String.class, MethodType.class);
+    private static final Handle BSM_FUNCTION = bsm("bsm_function", Object.class, Lookup.class, String.class, Class.class, String.class, int.class);
+    private static final Handle BSM_GLOBALCALL = bsm("bsm_globalcall", CallSite.class, Lookup.class, String.class, MethodType.class, String.class);
+    private static final Handle BSM_GET_ELEMENT = bsm("bsm_get_element", CallSite.class, Lookup.class, String.class, MethodType.class);
+    private static final Handle BSM_SET_ELEMENT = bsm("bsm_set_element", CallSite.class, Lookup.class, String.class, MethodType.class);
+    private static final Handle BSM_CLOSURE = bsm("bsm_closure", CallSite.class, Lookup.class, String.class, MethodType.class, String.class);
+
+    // a call to a global with the name of the current function, the same number of arguments
+    // and no local variable with the same name, at runtime the global may not be the current function.
+    // A closure is never the current function, each closure is a different function object
+    private static boolean isSelfCall(Expr qualifier, List<Expr> args, JSObject env, FunctionInfo function) {
+      return qualifier instanceof LocalVarAccess(String name, int lineNumber)
+          && name.equals(function.name)
+          && function.captures.isEmpty()
+          && env.lookup(name) == JSObject.UNDEFINED
+          && args.size() == function.parameterCount - 1;
+    }
+
+    private static final Set<String> OPERATORS = Set.of("+", "-", "*", "/", "%", "==", "!=", "<", "<=", ">", ">=");
+
+    // in trampoline mode, a call in tail position is returned to the caller unless it is a call
+    // to a builtin operator (so the int operations keep their fast path), an operator never calls back
+    // a function of the script so the stack does not grow
+    private static boolean isTrampolineCall(Expr qualifier, JSObject env, FunctionInfo function) {
+      return function.trampoline
+          && !(qualifier instanceof LocalVarAccess(String name, int lineNumber)
+               && OPERATORS.contains(name) && env.lookup(name) == JSObject.UNDEFINED);
+    }
+
+    // the function being compiled, used to compile the tail calls
+    // cells are the variables stored in a cell, in whole script mode, methodNames contains the name of the static method
+    // of each function and globalFunctions the names of the functions declared in the script, otherwise they are empty,
+    // types are the types inferred for the whole script, osrEntries the label of the on-stack replacement entry of a loop
+    // indexed by the condition of the loop
+    private record FunctionInfo(String name, String methodName, List<String> captures, Set<String> cells, int parameterCount, int localVariableCount,
+                                Label start, boolean trampoline, Map<Fun, String> methodNames, Set<String> globalFunctions,
+                                Map<Fun, List<String>> nestedCaptures, TypeInference types, Map<Expr, Label> osrEntries) {}
+
+    // the name of the builtin operator if the call is an operation on two ints
+    private static Optional<String> intOperator(Expr expression, JSObject env, FunctionInfo function) {
+      if (expression instanceof FunCall call && function.types.isIntOperation(call)
+          && call.qualifier() instanceof LocalVarAccess(String name, int lineNumber) && env.lookup(name) == JSObject.UNDEFINED) {
+        return Optional.of(name);
+      }
+      return Optional.empty();
+    }
 
-    private static void visit(Expr expression, JSObject env, MethodVisitor mv, FunDictionary dictionary) {
+    // the opcode of the jump taken if the comparison is false
+    private static int jumpIfFalse(String operator) {
+      return switch (operator) {
+        case "==" -> IF_ICMPNE;
+        case "!=" -> IF_ICMPEQ;
+        case "<" -> IF_ICMPGE;
+        case "<=" -> IF_ICMPGT;
+        case ">" -> IF_ICMPLE;
+        case ">=" -> IF_ICMPLT;
+        default -> throw new AssertionError("not a comparison " + operator);
+      };
+    }
+
+    // jump to falseLabel if the condition is false
+    private static void visitCondition(Expr condition, Label falseLabel, JSObject env, MethodVisitor mv, FunDictionary dictionary,
+                                       FunctionInfo function) {
+      var operator = intOperator(condition, env, function);
+      if (operator.isPresent() && !List.of("+", "-", "*", "/", "%").contains(operator.orElseThrow())) {
+        // a comparison of two ints, jump directly without creating a Boolean
+        visitIntOperands((FunCall) condition, env, mv, dictionary, function);
+        mv.visitJumpInsn(jumpIfFalse(operator.orElseThrow()), falseLabel);
+        return;
+      }
+      // visit the condition
+      visit(condition,env,mv,dictionary,function);
+      // generate an invokedynamic to transform an Object to a boolean using BSM_TRUTH
+      mv.visitInvokeDynamicInsn("check","(Ljava/lang/Object;)Z", BSM_TRUTH);
+      mv.visitJumpInsn(IFEQ,falseLabel);
+    }
+
+    // push the two operands of an int operation as ints
+    private static void visitIntOperands(FunCall call, JSObject env, MethodVisitor mv, FunDictionary dictionary, FunctionInfo function) {
+      for (var arg : call.args()) {
+        visit(arg,env,mv,dictionary,function);
+        mv.visitTypeInsn(CHECKCAST, "java/lang/Integer");
+        mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I", false);
+      }
+    }
+
+    private static void visit(Expr expression, JSObject env, MethodVisitor mv, FunDictionary dictionary, FunctionInfo function) {
       switch(expression) {
         case Block(List<Expr> instrs, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO Block");
@@ -176,7 +612,7 @@ public class ByteCodeRewriter {
             mv.visitLineNumber(e.lineNumber(), label);
 
             // visit it
-            visit(e,env,mv,dictionary);
+            visit(e,env,mv,dictionary,function);
 
             // if not an instruction and generate a POP
             if (!(e instanceof Instr)){
@@ -204,15 +640,51 @@ public class ByteCodeRewriter {
               throw new Failure("not a int or string");
           }
         }
+        case FunCall call when intOperator(call, env, function).isPresent() -> {
+          // the operands are ints, no invokedynamic
+          var operator = intOperator(call, env, function).orElseThrow();
+          visitIntOperands(call, env, mv, dictionary, function);
+          switch (operator) {
+            case "+" -> mv.visitInsn(IADD);
+            case "-" -> mv.visitInsn(ISUB);
+            case "*" -> mv.visitInsn(IMUL);
+            case "/" -> mv.visitInsn(IDIV);
+            case "%" -> mv.visitInsn(IREM);
+            default -> {
+              // a comparison returns a Boolean like the builtin
+              var falseLabel = new Label();
+              var endLabel = new Label();
+              mv.visitJumpInsn(jumpIfFalse(operator), falseLabel);
+              mv.visitFieldInsn(GETSTATIC, "java/lang/Boolean", "TRUE", "Ljava/lang/Boolean;");
+              mv.visitJumpInsn(GOTO, endLabel);
+              mv.visitLabel(falseLabel);
+              mv.visitFieldInsn(GETSTATIC, "java/lang/Boolean", "FALSE", "Ljava/lang/Boolean;");
+              mv.visitLabel(endLabel);
+              return;
+            }
+          }
+          mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
+        }
+        case FunCall(LocalVarAccess(String name, int nameLineNumber), List<Expr> args, int lineNumber)
+            when env.lookup(name) == JSObject.UNDEFINED && function.globalFunctions.contains(name) -> {
+          // a call to a global function declared in the script, linked to its static method
+          // as long as the global is not changed
+          mv.visitLdcInsn(new ConstantDynamic("undefined", "Ljava/lang/Object;", BSM_UNDEFINED));
+          for (var arg : args) {
+            visit(arg,env,mv,dictionary,function);
+          }
+          var methodType = MethodType.genericMethodType(1 + args.size());
+          mv.visitInvokeDynamicInsn("globalcall", methodType.toMethodDescriptorString(), BSM_GLOBALCALL, name);
+        }
         case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
          // throw new UnsupportedOperationException("TODO FunCall");
           // visit the qualifier
-          visit(qualifier,env,mv,dictionary);
+          visit(qualifier,env,mv,dictionary,function);
           // load "this"
           mv.visitLdcInsn(new ConstantDynamic("undefined", "Ljava/lang/Object;",BSM_UNDEFINED));
           // for each argument, visit it
           for (var exp : args){
-            visit(exp,env,mv,dictionary);
+            visit(exp,env,mv,dictionary,function);
 
           }
           // the name of the invokedynamic is either "builtincall" or "funcall"
@@ -223,7 +695,6 @@ public class ByteCodeRewriter {
         case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO LocalVarAssignment");
           // visit the expression
-          visit(expr,env,mv,dictionary);
           // lookup that name in the environment
           var slotOrUndefined = env.lookup(name);
           if (!declaration) {
@@ -232,8 +703,18 @@ public class ByteCodeRewriter {
               throw new Failure("variable "+name+" already defined at "+lineNumber);
             }
           }
-          // otherwise STORE the top of the stack at the local variable slot
-          mv.visitVarInsn(ASTORE,(int) slotOrUndefined);
+          if (function.cells.contains(name)) {
+            // store in the cell
+            mv.visitVarInsn(ALOAD,(int) slotOrUndefined);
+            mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+            mv.visitInsn(ICONST_0);
+            visit(expr,env,mv,dictionary,function);
+            mv.visitInsn(AASTORE);
+          } else {
+            visit(expr,env,mv,dictionary,function);
+            // otherwise STORE the top of the stack at the local variable slot
+            mv.visitVarInsn(ASTORE,(int) slotOrUndefined);
+          }
         }
         case LocalVarAccess(String name, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO LocalVarAccess");
@@ -249,6 +730,12 @@ public class ByteCodeRewriter {
           else {
             //  load the local variable at the slot
             mv.visitVarInsn(ALOAD,(int)slotOrUndefined);
+            if (function.cells.contains(name)) {
+              // load the value of the cell
+              mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+              mv.visitInsn(ICONST_0);
+              mv.visitInsn(AALOAD);
+            }
           }
         }
         case Fun fun -> {
@@ -256,11 +743,26 @@ public class ByteCodeRewriter {
           List<String> parameters = fun.parameters();
           Block body = fun.body();
           //throw new UnsupportedOperationException("TODO Fun");
-          // register the fun inside the fun directory and get the corresponding id
-          var funId = dictionary.register(fun);
-          // emit a LDC to load the function corresponding to the id at runtime
-          var funConst = new ConstantDynamic("fun","Ljava/lang/Object;",BSM_FUN,funId);
-          mv.visitLdcInsn(funConst);
+          var funCaptures = function.nestedCaptures.get(fun);
+          var methodName = function.methodNames.get(fun);
+          if (methodName != null) {
+            // whole script mode, the function is a static method of the current class
+            mv.visitLdcInsn(new ConstantDynamic(methodName, "Ljava/lang/Object;", BSM_FUNCTION, optName.orElse("lambda"), funCaptures.size() + parameters.size()));
+          } else {
+            // register the fun inside the fun directory and get the corresponding id
+            var funId = dictionary.register(fun, funCaptures);
+            // emit a LDC to load the function corresponding to the id at runtime
+            var funConst = new ConstantDynamic("fun","Ljava/lang/Object;",BSM_FUN,funId);
+            mv.visitLdcInsn(funConst);
+          }
+          if (!funCaptures.isEmpty()) {
+            // create a closure with the cells of the captured variables
+            for (var capture : funCaptures) {
+              mv.visitVarInsn(ALOAD, (int) env.lookup(capture));
+            }
+            var closureType = MethodType.genericMethodType(1 + funCaptures.size());
+            mv.visitInvokeDynamicInsn("closure", closureType.toMethodDescriptorString(), BSM_CLOSURE, optName.orElse("lambda"));
+          }
           // generate an invokedynamic doing a register with the function name
 
           optName.ifPresent(name -> {
@@ -269,32 +771,83 @@ public class ByteCodeRewriter {
           });
 
         }
+        case Return(InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int callLineNumber), int lineNumber) ->
+          // keep the call in tail position
+          visit(new Return(call, lineNumber), env, mv, dictionary, function);
+        case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) ->
+          // the JIT of the JVM already inlines the function through the invokedynamic call site
+          visit(call, env, mv, dictionary, function);
+        case Return(FunCall(Expr qualifier, List<Expr> args, int callLineNumber), int lineNumber)
+            when isSelfCall(qualifier, args, env, function) || isTrampolineCall(qualifier, env, function) -> {
+          // a call in tail position
+          visit(qualifier,env,mv,dictionary,function);
+          var otherLabel = new Label();
+          if (isSelfCall(qualifier, args, env, function)) {
+            // if the qualifier is the current function, assign the parameters and jump to the start
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(new ConstantDynamic(function.methodName, "Ljava/lang/Object;", BSM_SELF));
+            mv.visitJumpInsn(IF_ACMPNE, otherLabel);
+            mv.visitInsn(POP);
+            for (var arg : args) {
+              visit(arg,env,mv,dictionary,function);
+            }
+            for (var i = args.size(); i >= 1; i--) {
+              mv.visitVarInsn(ASTORE, i);
+            }
+            mv.visitLdcInsn(new ConstantDynamic("undefined", "Ljava/lang/Object;", BSM_UNDEFINED));
+            mv.visitVarInsn(ASTORE, 0);
+            mv.visitJumpInsn(GOTO, function.start);
+          }
+          mv.visitLabel(otherLabel);
+          mv.visitLdcInsn(new ConstantDynamic("undefined", "Ljava/lang/Object;", BSM_UNDEFINED));
+          for (var arg : args) {
+            visit(arg,env,mv,dictionary,function);
+          }
+          var methodType = MethodType.genericMethodType(2 + args.size());
+          if (function.trampoline) {
+            // let the caller do the call
+            mv.visitInvokeDynamicInsn("tailcall", methodType.toMethodDescriptorString(), BSM_TAILCALL);
+          } else {
+            mv.visitInvokeDynamicInsn("builtincall", methodType.toMethodDescriptorString(), BSM_FUNCALL);
+          }
+          mv.visitInsn(ARETURN);
+        }
         case Return(Expr expr, int lineNumber) -> {
           // throw new UnsupportedOperationException("TODO Return");
           // visit the return expression
-          visit(expr,env,mv,dictionary);
+          visit(expr,env,mv,dictionary,function);
           // generate the bytecode
           mv.visitInsn(ARETURN);
         }
         case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO If");
-          // visit the condition
-          visit(condition,env,mv,dictionary);
-          // generate an invokedynamic to transform an Object to a boolean using BSM_TRUTH
-          mv.visitInvokeDynamicInsn("check","(Ljava/lang/Object;)Z", BSM_TRUTH);
-          // visit the true block
           var falseLabel = new Label();
-          mv.visitJumpInsn(IFEQ,falseLabel);
-          visit(trueBlock,env,mv,dictionary);
+          visitCondition(condition, falseLabel, env, mv, dictionary, function);
+          // visit the true block
+          visit(trueBlock,env,mv,dictionary,function);
 
           var endLabel = new Label();
           mv.visitJumpInsn(GOTO, endLabel);
           // visit the false block
           mv.visitLabel(falseLabel);
-          visit(falseBlock,env,mv,dictionary);
+          visit(falseBlock,env,mv,dictionary,function);
           mv.visitLabel(endLabel);
 
         }
+        case While(Expr condition, Block body, int lineNumber) -> {
+          // a real backward branch, so HotSpot can compile a long running loop with an on-stack replacement
+          var loopLabel = new Label();
+          mv.visitLabel(loopLabel);
+          var osrEntry = function.osrEntries.get(condition);
+          if (osrEntry != null) {
+            mv.visitLabel(osrEntry);
+          }
+          var endLabel = new Label();
+          visitCondition(condition, endLabel, env, mv, dictionary, function);
+          visit(body,env,mv,dictionary,function);
+          mv.visitJumpInsn(GOTO, loopLabel);
+          mv.visitLabel(endLabel);
+        }
         case New(Map<String, Expr> initMap, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO New");
           // call newObject with an INVOKESTATIC
@@ -306,39 +859,71 @@ public class ByteCodeRewriter {
             mv.visitInsn(DUP);
             // generate a string with the key
             mv.visitLdcInsn(s);
-            visit(expr,env,mv,dictionary);
+            visit(expr,env,mv,dictionary,function);
 
             // call register on the JSObject
             mv.visitMethodInsn(INVOKEVIRTUAL, "fr/umlv/smalljs/rt/JSObject", "register", "(Ljava/lang/String;Ljava/lang/Object;)V",false);
           });
 
 
+        }
+        case NewArray(List<Expr> elements, int lineNumber) -> {
+          // the values are collected in an Object[], JSArray.of chooses the storage
+          mv.visitLdcInsn(elements.size());
+          mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+          for (var i = 0; i < elements.size(); i++) {
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(i);
+            visit(elements.get(i),env,mv,dictionary,function);
+            mv.visitInsn(AASTORE);
+          }
+          mv.visitMethodInsn(INVOKESTATIC, JSARRAY, "of", "([Ljava/lang/Object;)L" + JSARRAY + ";", false);
+        }
+        case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+          visit(array,env,mv,dictionary,function);
+          visit(index,env,mv,dictionary,function);
+          // the call site loads from the int[] or the Object[] of the array, see RT.bsm_get_element
+          mv.visitInvokeDynamicInsn("get_element", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", BSM_GET_ELEMENT);
+        }
+        case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+          visit(array,env,mv,dictionary,function);
+          visit(index,env,mv,dictionary,function);
+          visit(expr,env,mv,dictionary,function);
+          mv.visitInvokeDynamicInsn("set_element", "(Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/Object;)V", BSM_SET_ELEMENT);
+        }
+        case FieldAccess(Expr receiver, String name, int lineNumber) when function.types.fieldSlot(receiver, name).isPresent() -> {
+          // the receiver has a known shape, the fields are in the order of the initialization
+          visit(receiver,env,mv,dictionary,function);
+          mv.visitTypeInsn(CHECKCAST, JSOBJECT);
+          mv.visitLdcInsn(function.types.fieldSlot(receiver, name).orElseThrow());
+          mv.visitMethodInsn(INVOKEVIRTUAL, JSOBJECT, "fastAccess", "(I)Ljava/lang/Object;", false);
         }
         case FieldAccess(Expr receiver, String name, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO FieldAccess");
           // visit the receiver
-          visit(receiver,env,mv,dictionary);
+          visit(receiver,env,mv,dictionary,function);
           // generate an invokedynamic that goes a get through BSM_GET
           mv.visitInvokeDynamicInsn("get_"+name,"(Ljava/lang/Object;)Ljava/lang/Object;", BSM_GET, name);
         }
         case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO FieldAssignment");
           // visit the receiver
-          visit(receiver,env,mv,dictionary);
+          visit(receiver,env,mv,dictionary,function);
           // visit the expression
-          visit(expr,env,mv,dictionary);
-          mv.visitInvokeDynamicInsn("set_"+name,"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", BSM_SET, name);
+          visit(expr,env,mv,dictionary,function);
+          // an instruction, nothing is left on the stack
+          mv.visitInvokeDynamicInsn("set_"+name,"(Ljava/lang/Object;Ljava/lang/Object;)V", BSM_SET, name);
 
         }
         case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
           //throw new UnsupportedOperationException("TODO MethodCall");
           // visit the receiver
-          visit(receiver,env,mv,dictionary);
+          visit(receiver,env,mv,dictionary,function);
 
           // for each argument
           for (Expr expr : args){
             // visit the argument
-            visit(expr,env,mv,dictionary);
+            visit(expr,env,mv,dictionary,function);
           }
           // generate an invokedynamic that call BSM_METHODCALL
           var desc = MethodType.genericMethodType(args.size()+1).toMethodDescriptorString();
@@ -0,0 +1,57 @@
+package fr.umlv.smalljs.jvminterp;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import fr.umlv.smalljs.ast.TypeInference;
+
+// options of the JVM backend
+//   verification: how the generated classes are checked before being loaded
+//   dumpDirectory: if present, the generated classes are written in that directory
+//   trampoline: a call in tail position (except to a builtin operator) returns a TailCall that is called by the caller
+//   background: the nested functions are interpreted until they are compiled by another thread
+//   wholeScript: the script and all its functions are compiled in one class before the execution,
+//                the functions are never compiled in background
+//   types: the types inferred for the script, the operations on provably typed values are not guarded
+public record CompileOptions(Verification verification, Optional<Path> dumpDirectory, boolean trampoline, boolean background,
+                             boolean wholeScript, TypeInference types) {
+  public enum Verification {
+    NONE,        // no check, the JVM verifier still runs when a class is loaded
+    STRUCTURAL,  // check the instructions and their arguments, no dataflow analysis
+    FULL         // check the instructions and the types of the stack and the locals with a dataflow analysis
+  }
+
+  public static final CompileOptions DEFAULT = new CompileOptions(Verification.NONE, Optional.empty(), false, false, false, TypeInference.NONE);
+
+  public CompileOptions {
+    requireNonNull(verification);
+    requireNonNull(dumpDirectory);
+    requireNonNull(types);
+  }
+
+  // full verification and the classes are written in the directory
+  public static CompileOptions debug(Path dumpDirectory) {
+    return DEFAULT.withVerification(Verification.FULL).withDumpDirectory(dumpDirectory);
+  }
+
+  public CompileOptions withVerification(Verification verification) {
+    return new CompileOptions(verification, dumpDirectory, trampoline, background, wholeScript, types);
+  }
+  public CompileOptions withDumpDirectory(Path dumpDirectory) {
+    return new CompileOptions(verification, Optional.of(dumpDirectory), trampoline, background, wholeScript, types);
+  }
+  public CompileOptions withTrampoline(boolean trampoline) {
+    return new CompileOptions(verification, dumpDirectory, trampoline, background, wholeScript, types);
+  }
+  public CompileOptions withBackground(boolean background) {
+    return new CompileOptions(verification, dumpDirectory, trampoline, background, wholeScript, types);
+  }
+  public CompileOptions withWholeScript(boolean wholeScript) {
+    return new CompileOptions(verification, dumpDirectory, trampoline, background, wholeScript, types);
+  }
+  public CompileOptions withTypes(TypeInference types) {
+    return new CompileOptions(verification, dumpDirectory, trampoline, background, wholeScript, types);
+  }
+}
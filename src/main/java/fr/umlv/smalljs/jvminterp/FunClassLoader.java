@@ -1,14 +1,21 @@
 package fr.umlv.smalljs.jvminterp;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import fr.umlv.smalljs.rt.JSObject;
 
 class FunClassLoader extends ClassLoader {
   private final FunDictionary dictionary;
   private final JSObject global; 
+  private final CompileOptions options;
+  // the functions defined by the class indexed by method name
+  private final ConcurrentHashMap<String, JSObject> functions = new ConcurrentHashMap<>();
   
-  FunClassLoader(FunDictionary dictionary, JSObject global) {
+  FunClassLoader(FunDictionary dictionary, JSObject global, CompileOptions options) {
     this.dictionary = dictionary;
     this.global = global;
+    this.options = options;
   }
 
   JSObject getGlobal() {
@@ -17,6 +24,18 @@ class FunClassLoader extends ClassLoader {
   FunDictionary getDictionary() {
     return dictionary;
   }
+  CompileOptions getOptions() {
+    return options;
+  }
+  JSObject getFunction(String methodName) {
+    return functions.get(methodName);
+  }
+  JSObject getFunction(String methodName, Function<String, JSObject> factory) {
+    return functions.computeIfAbsent(methodName, factory);
+  }
+  void setFunction(String methodName, JSObject function) {
+    functions.put(methodName, function);
+  }
   
   Class<?> createClass(String name, byte[] instrs) {
     return defineClass(name, instrs, 0, instrs.length);
@@ -1,21 +1,25 @@
 package fr.umlv.smalljs.jvminterp;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import fr.umlv.smalljs.ast.Expr.Fun;
 
 class FunDictionary {
-  private final ArrayList<Fun> dictionary = new ArrayList<>();
+  // a function and the variables it captures
+  record FunEntry(Fun fun, List<String> captures) {}
+
+  private final ArrayList<FunEntry> dictionary = new ArrayList<>();
   
-  int register(Fun fun) {
+  int register(Fun fun, List<String> captures) {
     var id = dictionary.size();
-    dictionary.add(fun);
+    dictionary.add(new FunEntry(fun, captures));
     return id;
   }
   
-  Fun lookupAndClear(int id) {
-    var fun = dictionary.get(id);
+  FunEntry lookupAndClear(int id) {
+    var entry = dictionary.get(id);
     dictionary.set(id, null);     // Fun will be garbage collected
-    return fun;
+    return entry;
   }
 }
\ No newline at end of file
@@ -1,41 +1,66 @@
 package fr.umlv.smalljs.jvminterp;
 
 import static fr.umlv.smalljs.rt.JSObject.UNDEFINED;
-import static java.util.stream.Collectors.joining;
 
 import java.io.PrintStream;
-import java.util.Arrays;
 import java.util.List;
 
 import fr.umlv.smalljs.ast.Expr.Block;
 import fr.umlv.smalljs.ast.Script;
+import fr.umlv.smalljs.ast.TypeInference;
+import fr.umlv.smalljs.rt.JSArray;
 import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.rt.PrintSink;
+import fr.umlv.smalljs.rt.Rope;
 
 public class JVMInterpreter {
-  @SuppressWarnings("unchecked")
   public static void interpret(Script script, PrintStream outStream) {
-    JSObject globalEnv = JSObject.newEnv(null);
+    interpret(script, outStream, CompileOptions.DEFAULT);
+  }
+
+  public static void interpret(Script script, PrintStream outStream, CompileOptions options) {
+    var sink = new PrintSink(outStream);
+    JSObject globalEnv = createGlobalEnv(sink);
     Block body = script.body();
+    options = options.withTypes(TypeInference.infer(script));
+    JSObject function = options.wholeScript()
+        ? ByteCodeRewriter.createScript(body, globalEnv, options)
+        : ByteCodeRewriter.createFunction("main", List.of(), body, globalEnv, options);
+    try {
+      function.invoke(UNDEFINED, new Object[0]);
+    } finally {
+      sink.flush();
+    }
+  }
+
+  // the output is flushed after each print
+  public static JSObject createGlobalEnv(PrintStream outStream) {
+    return createGlobalEnv(new PrintSink(outStream, 0));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static JSObject createGlobalEnv(PrintSink sink) {
+    JSObject globalEnv = JSObject.newEnv(null);
     globalEnv.register("global", globalEnv);
     globalEnv.register("print", JSObject.newFunction("print", (self, receiver, args) -> {
-        //System.err.println("print called with " + Arrays.toString(args));
-        outStream.println(Arrays.stream(args).map(String::valueOf).collect(joining(" ")));
+        sink.print(args);
         return UNDEFINED;
     }));
-    globalEnv.register("+", JSObject.newFunction("+", (self, receiver, args) -> (Integer) args[0] + (Integer) args[1]));
+    globalEnv.register("length", JSObject.newFunction("length", (self, receiver, args) ->
+        args[0] instanceof JSArray array ? array.length() : ((CharSequence) args[0]).length()));
+    globalEnv.register("+", JSObject.newFunction("+", (self, receiver, args) ->
+        args[0] instanceof Integer left && args[1] instanceof Integer right ? (Object) (left + right) : Rope.concat(args[0], args[1])));
     globalEnv.register("-", JSObject.newFunction("-", (self, receiver, args) -> (Integer) args[0] - (Integer) args[1]));
     globalEnv.register("/", JSObject.newFunction("/", (self, receiver, args) -> (Integer) args[0] / (Integer) args[1]));
     globalEnv.register("*", JSObject.newFunction("*", (self, receiver, args) -> (Integer) args[0] * (Integer) args[1]));
     globalEnv.register("%", JSObject.newFunction("%", (self, receiver, args) -> (Integer) args[0] % (Integer) args[1]));
 
-    globalEnv.register("==", JSObject.newFunction("==", (self, receiver, args) -> args[0].equals(args[1])));
-    globalEnv.register("!=", JSObject.newFunction("!=", (self, receiver, args) -> !args[0].equals(args[1])));
-    globalEnv.register("<", JSObject.newFunction("<",   (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) < 0)));
-    globalEnv.register("<=", JSObject.newFunction("<=", (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) <= 0)));
-    globalEnv.register(">", JSObject.newFunction(">",   (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) > 0)));
-    globalEnv.register(">=", JSObject.newFunction(">=", (self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) >= 0)));
-
-    JSObject function = ByteCodeRewriter.createFunction("main", List.of(), body, globalEnv);
-    function.invoke(UNDEFINED, new Object[0]);
+    globalEnv.register("==", JSObject.newFunction("==", (self, receiver, args) -> Rope.flatten(args[0]).equals(Rope.flatten(args[1]))));
+    globalEnv.register("!=", JSObject.newFunction("!=", (self, receiver, args) -> !Rope.flatten(args[0]).equals(Rope.flatten(args[1]))));
+    globalEnv.register("<", JSObject.newFunction("<",   (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) < 0)));
+    globalEnv.register("<=", JSObject.newFunction("<=", (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) <= 0)));
+    globalEnv.register(">", JSObject.newFunction(">",   (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) > 0)));
+    globalEnv.register(">=", JSObject.newFunction(">=", (self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) >= 0)));
+    return globalEnv;
   }
 }
@@ -20,10 +20,12 @@ import java.lang.invoke.MutableCallSite;
 import fr.umlv.smalljs.rt.ArrayMap;
 import fr.umlv.smalljs.rt.ArrayMap.Layout;
 import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.JSArray;
 import fr.umlv.smalljs.rt.JSObject;
 
 public class RT {
-  private static final MethodHandle INVOKER, LOOKUP, REGISTER, TRUTH, GET_MH, METH_LOOKUP_MH;
+  private static final MethodHandle INVOKER, LOOKUP, REGISTER, TRUTH, GET_MH, METH_LOOKUP_MH, TAIL_CALL, TRAMPOLINE, CLOSURE,
+      IS_INT_ARRAY, GET_INT_ELEMENT, GET_ELEMENT, IS_INT_ARRAY_AND_INT, SET_INT_ELEMENT, SET_ELEMENT;
   static {
     var lookup = MethodHandles.lookup();
     try {
@@ -34,6 +36,15 @@ public class RT {
 
       GET_MH = lookup.findVirtual(JSObject.class, "getMethodHandle", methodType(MethodHandle.class));
       METH_LOOKUP_MH = lookup.findStatic(RT.class, "lookupMethodHandle", methodType(MethodHandle.class, JSObject.class, String.class));
+      TAIL_CALL = lookup.findStatic(RT.class, "tailCall", methodType(Object.class, Object.class, Object.class, Object[].class));
+      TRAMPOLINE = lookup.findStatic(RT.class, "trampoline", methodType(Object.class, Object.class));
+      CLOSURE = lookup.findStatic(RT.class, "closure", methodType(Object.class, String.class, Object.class, Object[].class));
+      IS_INT_ARRAY = lookup.findStatic(RT.class, "isIntArray", methodType(boolean.class, Object.class));
+      GET_INT_ELEMENT = lookup.findStatic(RT.class, "getIntElement", methodType(Object.class, Object.class, Object.class));
+      GET_ELEMENT = lookup.findStatic(RT.class, "getElement", methodType(Object.class, Object.class, Object.class));
+      IS_INT_ARRAY_AND_INT = lookup.findStatic(RT.class, "isIntArrayAndInt", methodType(boolean.class, Object.class, Object.class, Object.class));
+      SET_INT_ELEMENT = lookup.findStatic(RT.class, "setIntElement", methodType(void.class, Object.class, Object.class, Object.class));
+      SET_ELEMENT = lookup.findStatic(RT.class, "setElement", methodType(void.class, Object.class, Object.class, Object.class));
     } catch (NoSuchMethodException | IllegalAccessException e) {
       throw new AssertionError(e);
     }
@@ -137,8 +148,147 @@ public static CallSite bsm_funcall(Lookup lookup, String name, MethodType type)
     //throw new UnsupportedOperationException("TODO bsm_fun");
     var classLoader = (FunClassLoader) lookup.lookupClass().getClassLoader();
     var globalEnv = classLoader.getGlobal();
-    var fun = classLoader.getDictionary().lookupAndClear(funId);
-    return ByteCodeRewriter.createFunction(fun.name().orElse("lambda"), fun.parameters(), fun.body(), globalEnv);
+    var entry = classLoader.getDictionary().lookupAndClear(funId);
+    var fun = entry.fun();
+    var options = classLoader.getOptions();
+    if (options.background() && entry.captures().isEmpty() && BackgroundCompiler.canInterpret(fun)) {
+      return BackgroundCompiler.createFunction(fun.name().orElse("lambda"), fun.parameters(), fun.body(), fun.lineNumber(), globalEnv, options);
+    }
+    return ByteCodeRewriter.createFunction(fun.name().orElse("lambda"), entry.captures(), fun.parameters(), fun.body(), globalEnv, options);
+  }
+
+  // a closure, the function has the cells of the captured variables as first parameters
+  public static CallSite bsm_closure(Lookup lookup, String name, MethodType type, String functionName) {
+    var target = insertArguments(CLOSURE, 0, functionName).asCollector(Object[].class, type.parameterCount() - 1).asType(type);
+    return new ConstantCallSite(target);
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static Object closure(String name, Object function, Object[] cells) {
+    var template = (JSObject) function;
+    var mh = insertArguments(template.getMethodHandle(), 0, cells);
+    if (template instanceof TrampolineFunction trampolineFunction) {
+      return TrampolineFunction.newFunction(name, mh, insertArguments(trampolineFunction.tailCallHandle(), 0, cells));
+    }
+    return JSObject.newFunction(name, mh);
+  }
+
+  // the name is the name of the method of the function
+  public static Object bsm_self(Lookup lookup, String name, Class<?> type) {
+    var classLoader = (FunClassLoader) lookup.lookupClass().getClassLoader();
+    return classLoader.getFunction(name);
+  }
+
+  // whole script mode, the name is the name of the static method of the function
+  public static Object bsm_function(Lookup lookup, String name, Class<?> type, String functionName, int parameterCount) {
+    var classLoader = (FunClassLoader) lookup.lookupClass().getClassLoader();
+    return classLoader.getFunction(name, methodName -> {
+      MethodHandle mh;
+      try {
+        mh = lookup.findStatic(lookup.lookupClass(), methodName, genericMethodType(1 + parameterCount));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new AssertionError(e);
+      }
+      return ByteCodeRewriter.newFunction(functionName, mh, classLoader.getOptions().trampoline());
+    });
+  }
+
+  // whole script mode, a call to a global function declared in the script
+  public static CallSite bsm_globalcall(Lookup lookup, String name, MethodType type, String globalName) {
+    var classLoader = (FunClassLoader) lookup.lookupClass().getClassLoader();
+    return new GlobalCallSite(type, classLoader.getGlobal(), globalName);
+  }
+
+  // the target calls the method handle of the function directly (the static method of the function
+  // if it is not a closure), it is guarded by the switch point of the global environment,
+  // so the call is relinked if a global is changed
+  private static class GlobalCallSite extends MutableCallSite {
+    private static final MethodHandle RELINK;
+    static {
+      var lookup = MethodHandles.lookup();
+      try {
+        RELINK = lookup.findVirtual(GlobalCallSite.class, "relink", methodType(Object.class, Object[].class));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new AssertionError(e);
+      }
+    }
+
+    private final JSObject global;
+    private final String globalName;
+    private final MethodHandle relink;
+
+    private GlobalCallSite(MethodType type, JSObject global, String globalName) {
+      super(type);
+      this.global = global;
+      this.globalName = globalName;
+      this.relink = RELINK.bindTo(this).asCollector(Object[].class, type.parameterCount()).asType(type);
+      setTarget(relink);
+    }
+
+    @SuppressWarnings("unused")  // used by a method handle
+    private Object relink(Object[] args) throws Throwable {
+      var switchPoint = global.getSwitchPoint();  // before the lookup
+      var value = global.lookup(globalName);
+      if (!(value instanceof JSObject qualifier)) {
+        throw new Failure("not a function " + value);
+      }
+      var mh = qualifier.getMethodHandle();
+      if (mh.type().parameterCount() == type().parameterCount()) {
+        setTarget(switchPoint.guardWithTest(mh.asType(type()), relink));
+      }
+      var receiver = args[0];
+      var arguments = new Object[args.length - 1];
+      System.arraycopy(args, 1, arguments, 0, arguments.length);
+      return qualifier.invoke(receiver, arguments);
+    }
+  }
+
+  // a call in tail position that is done by the caller
+  private record TailCall(Object qualifier, Object receiver, Object[] args) {
+    private Object call() {
+      var function = (JSObject) qualifier;
+      var mh = function instanceof TrampolineFunction trampolineFunction ? trampolineFunction.tailCallHandle() : null;
+      if (mh == null) {
+        // a native function, a function not compiled in trampoline mode or not yet compiled
+        return function.invoke(receiver, args);
+      }
+      if (args.length != mh.type().parameterCount() - 1) {
+        throw new Failure("arguments doesn't match parameters count " + args.length + " " + (mh.type().parameterCount() - 1));
+      }
+      var array = new Object[args.length + 1];
+      array[0] = receiver;
+      System.arraycopy(args, 0, array, 1, args.length);
+      try {
+        return mh.invokeWithArguments(array);
+      } catch(RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new Failure(e.getMessage(), e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static Object tailCall(Object qualifier, Object receiver, Object[] args) {
+    return new TailCall(qualifier, receiver, args);
+  }
+
+  public static CallSite bsm_tailcall(Lookup lookup, String name, MethodType type) {
+    var target = TAIL_CALL.asCollector(Object[].class, type.parameterCount() - 2).asType(type);
+    return new ConstantCallSite(target);
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static Object trampoline(Object result) {
+    while (result instanceof TailCall tailCall) {
+      result = tailCall.call();
+    }
+    return result;
+  }
+
+  // run the tail calls returned by the function in a loop
+  static MethodHandle trampoline(MethodHandle mh) {
+    return MethodHandles.filterReturnValue(mh, TRAMPOLINE);
   }
 
   public static CallSite bsm_register(Lookup lookup, String name, MethodType type, String functionName) {
@@ -157,6 +307,61 @@ public static CallSite bsm_funcall(Lookup lookup, String name, MethodType type)
     //throw new UnsupportedOperationException("TODO bsm_truth");
     return new ConstantCallSite(TRUTH);
   }
+  // the access to an element of an array, an array of ints (the common case) is read directly in its int[]
+  // with a bounds check, the other arrays and the errors go through the generic path
+  public static CallSite bsm_get_element(Lookup lookup, String name, MethodType type) {
+    return new ConstantCallSite(guardWithTest(IS_INT_ARRAY, GET_INT_ELEMENT, GET_ELEMENT).asType(type));
+  }
+
+  // an int stored in an array of ints is stored directly in its int[], the other values switch the storage
+  public static CallSite bsm_set_element(Lookup lookup, String name, MethodType type) {
+    return new ConstantCallSite(guardWithTest(IS_INT_ARRAY_AND_INT, SET_INT_ELEMENT, SET_ELEMENT).asType(type));
+  }
+
+  private static JSArray asJSArray(Object array) {
+    if (!(array instanceof JSArray jsArray)) {
+      throw new Failure("type error " + array + " is not an array");
+    }
+    return jsArray;
+  }
+
+  private static int asIndex(Object index) {
+    if (!(index instanceof Integer intIndex)) {
+      throw new Failure("type error " + index + " is not an index");
+    }
+    return intIndex;
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static boolean isIntArray(Object array) {
+    return array instanceof JSArray jsArray && jsArray.isIntArray();
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static Object getIntElement(Object array, Object index) {
+    return ((JSArray) array).getInt(asIndex(index));
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static Object getElement(Object array, Object index) {
+    return asJSArray(array).get(asIndex(index));
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static boolean isIntArrayAndInt(Object array, Object index, Object value) {
+    return array instanceof JSArray jsArray && jsArray.isIntArray() && value instanceof Integer;
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static void setIntElement(Object array, Object index, Object value) {
+    ((JSArray) array).setInt(asIndex(index), (Integer) value);
+  }
+
+  @SuppressWarnings("unused")  // used by a method handle
+  private static void setElement(Object array, Object index, Object value) {
+    asJSArray(array).set(asIndex(index), value);
+  }
+
   public static CallSite bsm_get(Lookup lookup, String name, MethodType type, String fieldName) {
     //return new ConstantCallSite(insertArguments(LOOKUP, 1, fieldName).asType(type));
     return new InliningFieldCache(type, fieldName);
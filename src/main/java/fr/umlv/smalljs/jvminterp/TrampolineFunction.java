@@ -0,0 +1,34 @@
+package fr.umlv.smalljs.jvminterp;
+
+import java.lang.invoke.MethodHandle;
+
+import fr.umlv.smalljs.rt.JSObject;
+
+// a function compiled in trampoline mode, the callers see a method handle that runs the tail calls in a loop,
+// a tail call uses the raw method handle so the stack does not grow. The raw method handle is stored
+// in a field and not in the value map so the scripts can not see it.
+final class TrampolineFunction extends JSObject {
+  private volatile MethodHandle tailCallHandle;  // null until the function is compiled
+
+  private TrampolineFunction(String name) {
+    super(null, "function " + name);
+  }
+
+  // the method handle is bound once the function is constructed, so this doesn't escape the constructor
+  static TrampolineFunction newFunction(String name, MethodHandle mh, MethodHandle tailCallHandle) {
+    var function = new TrampolineFunction(name);
+    function.bind(mh);
+    function.register("apply", function);
+    function.tailCallHandle = tailCallHandle;
+    return function;
+  }
+
+  // the raw method handle or null if the function is not yet compiled
+  MethodHandle tailCallHandle() {
+    return tailCallHandle;
+  }
+
+  void setTailCallHandle(MethodHandle tailCallHandle) {
+    this.tailCallHandle = tailCallHandle;
+  }
+}
@@ -0,0 +1,74 @@
+package fr.umlv.smalljs.main;
+
+import fr.umlv.smalljs.ast.Script;
+import fr.umlv.smalljs.stackinterp.RegisterInterpreter;
+import fr.umlv.smalljs.stackinterp.StackInterpreter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
+import static java.nio.file.Files.newBufferedReader;
+
+// compare the stack VM and the register VM on the same scripts,
+// the number of dispatched instructions and the average wall time of one run
+// run with java --class-path lib/tatoo-runtime.jar:target/smalljs-1.0.jar fr.umlv.smalljs.main.Benchmark [input-file.js ...]
+public class Benchmark {
+  private record Backend(String name, BiConsumer<Script, PrintStream> interpreter, LongSupplier dispatchCount, Runnable resetDispatchCount) {}
+
+  private static final List<Backend> BACKENDS = List.of(
+      new Backend("stack", StackInterpreter::interpret, StackInterpreter::dispatchCount, StackInterpreter::resetDispatchCount),
+      new Backend("register", RegisterInterpreter::interpret, RegisterInterpreter::dispatchCount, RegisterInterpreter::resetDispatchCount));
+
+  private static final int WARMUP_ITERATIONS = 1_000;
+  private static final int ITERATIONS = 1_000;
+
+  public static void main(String[] args) throws IOException {
+    // read when the interpreters are initialized, so before their first run
+    System.setProperty("smalljs.countDispatches", "true");
+
+    var paths = new ArrayList<Path>();
+    if (args.length == 0) {
+      try (var stream = Files.list(Path.of("samples"))) {
+        stream.filter(path -> path.toString().endsWith(".js")).sorted().forEach(paths::add);
+      }
+    } else {
+      for (var arg : args) {
+        paths.add(Path.of(arg));
+      }
+    }
+
+    var out = new PrintStream(OutputStream.nullOutputStream());
+    System.out.printf("%-16s %-10s %12s %12s%n", "script", "backend", "dispatches", "time (us)");
+    for (var path : paths) {
+      Script script;
+      try (var reader = newBufferedReader(path)) {
+        script = createScript(reader);
+      }
+      for (var backend : BACKENDS) {
+        try {
+          for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+            backend.interpreter.accept(script, out);
+          }
+          backend.resetDispatchCount.run();
+          var start = System.nanoTime();
+          for (var i = 0; i < ITERATIONS; i++) {
+            backend.interpreter.accept(script, out);
+          }
+          var time = (System.nanoTime() - start) / ITERATIONS / 1_000.0;
+          var dispatches = backend.dispatchCount.getAsLong() / ITERATIONS;
+          System.out.printf("%-16s %-10s %12d %12.2f%n", path.getFileName(), backend.name, dispatches, time);
+        } catch (RuntimeException e) {
+          System.out.printf("%-16s %-10s %s%n", path.getFileName(), backend.name, "failed: " + e.getMessage());
+        }
+      }
+    }
+  }
+}
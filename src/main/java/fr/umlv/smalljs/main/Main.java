@@ -1,9 +1,12 @@
 package fr.umlv.smalljs.main;
 
+import fr.umlv.smalljs.ast.ASTOptimizer;
 import fr.umlv.smalljs.ast.Script;
 import fr.umlv.smalljs.astinterp.ASTInterpreter;
 import fr.umlv.smalljs.jvminterp.JVMInterpreter;
+import fr.umlv.smalljs.stackinterp.RegisterInterpreter;
 import fr.umlv.smalljs.stackinterp.StackInterpreter;
+import fr.umlv.smalljs.tieredinterp.TieredInterpreter;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -21,7 +24,9 @@ public class Main {
     return switch (name) {
       case "ast" -> ASTInterpreter::interpret;
       case "stack" -> StackInterpreter::interpret;
+      case "register" -> RegisterInterpreter::interpret;
       case "jvm" -> JVMInterpreter::interpret;
+      case "tiered" -> TieredInterpreter::interpret;
       default -> throw new IllegalArgumentException("unkonwn interpreter " + name);
     };
   }
@@ -30,7 +35,9 @@ public class Main {
     System.err.println("""
             Help:
               fr.umlv.smalljs.main.Main interpreter [input-file.js]
-                available interpreters: ast, stack and jvm
+                available interpreters: ast, stack, register, jvm and tiered
+                the stack and register interpreters don't support the arrays (see samples/arr.js),
+                the register interpreter doesn't support the closures (see samples/closure.js)
             """);
     System.exit(1);
   }
@@ -43,7 +50,7 @@ public class Main {
     try {
       var interpreter = interpreter(args[0]);
       try (var reader = (args.length == 2) ? newBufferedReader(get(args[1])) : new InputStreamReader(in)) {
-        var script = createScript(reader);
+        var script = ASTOptimizer.optimize(createScript(reader));
         interpreter.accept(script, System.out);
       }
     } catch(RuntimeException e) {
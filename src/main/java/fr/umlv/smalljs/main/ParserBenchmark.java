@@ -0,0 +1,62 @@
+package fr.umlv.smalljs.main;
+
+import fr.umlv.smalljs.ast.ASTBuilder;
+import fr.umlv.smalljs.ast.Script;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// compare the parser generated by Tatoo and the hand-written parser on the same scripts,
+// the average wall time of one parse and whether the two ASTs are equal
+// run with java --class-path lib/tatoo-runtime.jar:target/smalljs-1.0.jar fr.umlv.smalljs.main.ParserBenchmark [input-file.js ...]
+public class ParserBenchmark {
+  private record Parser(String name, Function<Reader, Script> parser) {}
+
+  private static final List<Parser> PARSERS = List.of(
+      new Parser("tatoo", ASTBuilder::createScriptWithTatoo),
+      new Parser("hand-written", ASTBuilder::createScript));
+
+  private static final int WARMUP_ITERATIONS = 10_000;
+  private static final int ITERATIONS = 10_000;
+
+  public static void main(String[] args) throws IOException {
+    var paths = new ArrayList<Path>();
+    if (args.length == 0) {
+      try (var stream = Files.list(Path.of("samples"))) {
+        stream.filter(path -> path.toString().endsWith(".js")).sorted().forEach(paths::add);
+      }
+    } else {
+      for (var arg : args) {
+        paths.add(Path.of(arg));
+      }
+    }
+
+    System.out.printf("%-16s %-13s %12s %10s%n", "script", "parser", "time (us)", "same AST");
+    for (var path : paths) {
+      var code = Files.readString(path);
+      var expected = ASTBuilder.createScriptWithTatoo(new StringReader(code));
+      for (var parser : PARSERS) {
+        try {
+          Script script = null;
+          for (var i = 0; i < WARMUP_ITERATIONS; i++) {
+            script = parser.parser.apply(new StringReader(code));
+          }
+          var start = System.nanoTime();
+          for (var i = 0; i < ITERATIONS; i++) {
+            script = parser.parser.apply(new StringReader(code));
+          }
+          var time = (System.nanoTime() - start) / ITERATIONS / 1_000.0;
+          System.out.printf("%-16s %-13s %12.2f %10s%n", path.getFileName(), parser.name, time, expected.equals(script));
+        } catch (RuntimeException e) {
+          System.out.printf("%-16s %-13s %s%n", path.getFileName(), parser.name, "failed: " + e.getMessage());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package fr.umlv.smalljs.rt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.SwitchPoint;
+
+// guard of the code of a global function inlined at a call site, the inlined code can be used
+// while the global variable is bound to a function. The binding is only checked again
+// when the global environment has changed (its SwitchPoint has been invalidated), not thread safe
+public final class InlineGuard {
+  private final String name;
+  private SwitchPoint switchPoint;  // null if the binding was never checked
+  private boolean valid;
+
+  public InlineGuard(String name) {
+    this.name = requireNonNull(name);
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public boolean isValid(JSObject globalEnv) {
+    var switchPoint = this.switchPoint;
+    if (switchPoint == null || switchPoint.hasBeenInvalidated()) {
+      // take the SwitchPoint before the lookup, so a change during the lookup is not missed
+      this.switchPoint = globalEnv.getSwitchPoint();
+      valid = globalEnv.lookup(name) instanceof JSObject;
+    }
+    return valid;
+  }
+
+  @Override
+  public String toString() {
+    return "InlineGuard " + name;
+  }
+}
@@ -0,0 +1,107 @@
+package fr.umlv.smalljs.rt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// an array of values indexed from 0, the values are stored unboxed in an int[] while they are all ints,
+// the array switches to an Object[] the first time another value is stored (and never switches back).
+// Storing at the index equal to the length appends the value, the capacity doubles when the storage is full,
+// not thread safe
+public final class JSArray {
+  private int[] ints;  // null if the values are not all ints
+  private Object[] values;  // null if the values are all ints
+  private int length;
+
+  private JSArray(int[] ints, Object[] values, int length) {
+    this.ints = ints;
+    this.values = values;
+    this.length = length;
+  }
+
+  public static JSArray of(Object... values) {
+    requireNonNull(values);
+    if (Arrays.stream(values).allMatch(value -> value instanceof Integer)) {
+      var ints = Arrays.stream(values).mapToInt(value -> (Integer) value).toArray();
+      return new JSArray(ints, null, ints.length);
+    }
+    Arrays.stream(values).forEach(Objects::requireNonNull);
+    return new JSArray(null, values.clone(), values.length);
+  }
+
+  public int length() {
+    return length;
+  }
+
+  // true if the values are stored in an int[], see getInt() and setInt()
+  public boolean isIntArray() {
+    return ints != null;
+  }
+
+  private void checkIndex(int index, int bound) {
+    if (index < 0 || index >= bound) {
+      throw new Failure("index " + index + " out of bounds for length " + length);
+    }
+  }
+
+  public Object get(int index) {
+    checkIndex(index, length);
+    return ints != null ? (Object) ints[index] : values[index];
+  }
+
+  // the array must be an int array
+  public int getInt(int index) {
+    checkIndex(index, length);
+    return ints[index];
+  }
+
+  public void set(int index, Object value) {
+    requireNonNull(value);
+    if (ints != null) {
+      if (value instanceof Integer intValue) {
+        setInt(index, intValue);
+        return;
+      }
+      checkIndex(index, length + 1);
+      // all the values are boxed once
+      values = new Object[Math.max(ints.length, 1)];
+      for (var i = 0; i < length; i++) {
+        values[i] = ints[i];
+      }
+      ints = null;
+    }
+    checkIndex(index, length + 1);
+    if (index == length) {
+      if (length == values.length) {
+        values = Arrays.copyOf(values, Math.max(length << 1, 4));
+      }
+      length++;
+    }
+    values[index] = value;
+  }
+
+  // the array must be an int array
+  public void setInt(int index, int value) {
+    checkIndex(index, length + 1);
+    if (index == length) {
+      if (length == ints.length) {
+        ints = Arrays.copyOf(ints, Math.max(length << 1, 4));
+      }
+      length++;
+    }
+    ints[index] = value;
+  }
+
+  @Override
+  public String toString() {
+    var builder = new StringBuilder().append('[');
+    for (var i = 0; i < length; i++) {
+      if (i != 0) {
+        builder.append(", ");
+      }
+      builder.append(ints != null ? (Object) ints[i] : values[i]);
+    }
+    return builder.append(']').toString();
+  }
+}
@@ -14,7 +14,7 @@ import java.util.function.Function;
 public class JSObject {
   private final JSObject proto;
   private final String name;
-  private final MethodHandle mh;
+  private MethodHandle mh;  // only null for a subclass instance, until bind() is called
   private final /*LinkedHashMap<String, Object>*/ArrayMap valueMap = new /*LinkedHashMap<>*/ArrayMap();
   private SwitchPoint switchPoint = new SwitchPoint();
   
@@ -49,6 +49,28 @@ public class JSObject {
     this.mh = INVOKER.bindTo(invoker).bindTo(this).asVarargsCollector(Object[].class);
   }
   
+  // a subclass must call bind() once the instance is fully constructed
+  protected JSObject(JSObject proto, String name) {
+    this.proto = proto;
+    this.name = requireNonNull(name);
+  }
+  
+  protected final void bind(Invoker invoker) {
+    requireNonNull(invoker);
+    if (mh != null) {
+      throw new IllegalStateException("already bound " + name);
+    }
+    mh = INVOKER.bindTo(invoker).bindTo(this).asVarargsCollector(Object[].class);
+  }
+  
+  protected final void bind(MethodHandle mh) {
+    requireNonNull(mh);
+    if (this.mh != null) {
+      throw new IllegalStateException("already bound " + name);
+    }
+    this.mh = mh;
+  }
+  
   public static JSObject newObject(JSObject proto) {
     return new JSObject(proto, "object", (_1, _2, _3) -> { throw new Failure("object can not be applied"); });
   }
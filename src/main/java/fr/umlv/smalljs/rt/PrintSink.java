@@ -0,0 +1,100 @@
+package fr.umlv.smalljs.rt;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+// the output of the builtin print, the values are encoded in UTF-8 directly in a buffer
+// that is written when it contains at least threshold bytes, when it is full or when flush() is called
+// (the interpreters flush it at the end of the script), not thread safe
+public final class PrintSink {
+  private static final int CAPACITY = 1 << 16;
+  private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(UTF_8);
+
+  private final OutputStream outStream;
+  private final int threshold;
+  private final ByteBuffer buffer = ByteBuffer.allocate(CAPACITY);
+  private final CharsetEncoder encoder = UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+  public PrintSink(OutputStream outStream, int threshold) {
+    this.outStream = requireNonNull(outStream);
+    if (threshold < 0) {
+      throw new IllegalArgumentException("invalid threshold " + threshold);
+    }
+    this.threshold = Math.min(threshold, CAPACITY);
+  }
+
+  public PrintSink(OutputStream outStream) {
+    this(outStream, CAPACITY);
+  }
+
+  // the values separated by a space on one line
+  public void print(Object... values) {
+    for (var i = 0; i < values.length; i++) {
+      if (i != 0) {
+        put((byte) ' ');
+      }
+      append(String.valueOf(values[i]));
+    }
+    for (var b : LINE_SEPARATOR) {
+      put(b);
+    }
+    if (buffer.position() >= threshold) {
+      flush();
+    }
+  }
+
+  private void put(byte b) {
+    if (!buffer.hasRemaining()) {
+      drain();
+    }
+    buffer.put(b);
+  }
+
+  private void append(String string) {
+    // ASCII is copied as is, the encoder is used from the first other character
+    for (var i = 0; i < string.length(); i++) {
+      var c = string.charAt(i);
+      if (c >= 0x80) {
+        appendEncoded(CharBuffer.wrap(string, i, string.length()));
+        return;
+      }
+      put((byte) c);
+    }
+  }
+
+  private void appendEncoded(CharBuffer chars) {
+    while (encoder.encode(chars, buffer, true).isOverflow()) {
+      drain();
+    }
+    encoder.flush(buffer);
+    encoder.reset();
+  }
+
+  private void drain() {
+    try {
+      outStream.write(buffer.array(), 0, buffer.position());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.clear();
+  }
+
+  public void flush() {
+    drain();
+    try {
+      outStream.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package fr.umlv.smalljs.rt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+
+// a string built by the concatenation of two strings (each one a String or a Rope) in constant time,
+// the characters are only copied once, when the rope is flattened (printed, compared, ...).
+// A rope uses the identity for equals()/hashCode(), the builtins compare the flattened values, see flatten()
+public final class Rope implements CharSequence {
+  // under that length, a concatenation creates a String, copying is cheaper than a rope
+  private static final int FLAT_LENGTH = 32;
+
+  private CharSequence left;  // null if flattened
+  private CharSequence right;  // null if flattened
+  private final int length;
+  private String flat;  // null if not yet flattened
+
+  private Rope(CharSequence left, CharSequence right, int length) {
+    this.left = left;
+    this.right = right;
+    this.length = length;
+  }
+
+  // a String or a Rope
+  public static boolean isString(Object value) {
+    return value instanceof String || value instanceof Rope;
+  }
+
+  // the concatenation of two values, at least one of them must be a string, the other is converted to a String
+  public static CharSequence concat(Object left, Object right) {
+    requireNonNull(left);
+    requireNonNull(right);
+    if (!isString(left) && !isString(right)) {
+      throw new Failure("type error, can not concatenate " + left + " and " + right);
+    }
+    var leftString = isString(left) ? (CharSequence) left : String.valueOf(left);
+    var rightString = isString(right) ? (CharSequence) right : String.valueOf(right);
+    var length = leftString.length() + rightString.length();
+    if (length < 0) {
+      throw new Failure("string too long");
+    }
+    if (length <= FLAT_LENGTH) {
+      return leftString.toString() + rightString;
+    }
+    return new Rope(leftString, rightString, length);
+  }
+
+  // the String of a rope, the other values are returned unchanged
+  public static Object flatten(Object value) {
+    return value instanceof Rope rope ? rope.toString() : value;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    return toString().charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return toString().substring(start, end);
+  }
+
+  @Override
+  public String toString() {
+    if (flat != null) {
+      return flat;
+    }
+    // the rope can be deep, so no recursion, the leaves are copied from the right to the left
+    var chars = new char[length];
+    var end = length;
+    var stack = new ArrayDeque<CharSequence>();
+    stack.push(this);
+    while (!stack.isEmpty()) {
+      var current = stack.pop();
+      if (current instanceof Rope rope && rope.flat == null) {
+        stack.push(rope.left);
+        stack.push(rope.right);
+        continue;
+      }
+      var string = current.toString();
+      end -= string.length();
+      string.getChars(0, string.length(), chars, end);
+    }
+    flat = new String(chars);
+    // the parts are not needed anymore
+    left = null;
+    right = null;
+    return flat;
+  }
+}
@@ -0,0 +1,33 @@
+package fr.umlv.smalljs.stackinterp;
+
+final class ArrayHeap implements Heap {
+	private final int[] array;
+	private final StringTable strings = new StringTable();
+
+	ArrayHeap(int size) {
+		if (size < 0 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("invalid heap size " + size);
+		}
+		array = new int[size];
+	}
+
+	@Override
+	public int get(int address) {
+		return array[address];
+	}
+
+	@Override
+	public void set(int address, int value) {
+		array[address] = value;
+	}
+
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	@Override
+	public StringTable strings() {
+		return strings;
+	}
+}
@@ -2,11 +2,33 @@ package fr.umlv.smalljs.stackinterp;
 
 import static java.util.Objects.requireNonNull;
 
-public record Code(int[] instrs, int parameterCount, int slotCount) {
+import java.util.BitSet;
+
+// stackMaps[pc] are the live local slots when a GC occurs just before pc (after a FUNCALL, a TAILCALL, a NEW,
+// a LOOKUP, a CLOSURE, a BOX or an INT_OP), a code assembled by hand may have no stack map at all
+public record Code(int[] instrs, int parameterCount, int slotCount, BitSet[] stackMaps) {
 	public Code {
 		if (parameterCount < 1 || slotCount < 1 || parameterCount > slotCount) {
 			throw new IllegalArgumentException("invalid parameter or slot count");
 		}
 		requireNonNull(instrs);
+		requireNonNull(stackMaps);
+	}
+
+	public Code(int[] instrs, int parameterCount, int slotCount) {
+		this(instrs, parameterCount, slotCount, new BitSet[0]);
+	}
+
+	// returns the live local slots at pc or null if the code has no stack map, in that case all slots are always live.
+	// A missing map at a safepoint is a bug, scanning all slots would read the dead slots not updated by the previous GCs
+	BitSet liveSlots(int pc) {
+		if (stackMaps.length == 0) {
+			return null;
+		}
+		var liveSlots = pc < stackMaps.length ? stackMaps[pc] : null;
+		if (liveSlots == null) {
+			throw new AssertionError("no stack map at " + pc);
+		}
+		return liveSlots;
 	}
-}
\ No newline at end of file
+}
@@ -18,4 +18,8 @@ public class Dictionary {
 	public Object getConst(int index) {
 		return constants.get(index);
 	}
+
+	int size() {
+		return constants.size();
+	}
 }
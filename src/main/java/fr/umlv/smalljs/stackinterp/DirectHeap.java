@@ -0,0 +1,49 @@
+package fr.umlv.smalljs.stackinterp;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+final class DirectHeap implements Heap {
+	// a direct buffer is limited to 2 GiB, so the memory is split in chunks of 1 GiB
+	private static final int CHUNK_SHIFT = 28;
+	private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+	private final IntBuffer[] chunks;
+	private final int size;
+	private final StringTable strings = new StringTable();
+
+	DirectHeap(int size) {
+		if (size < 0 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("invalid heap size " + size);
+		}
+		var chunkCount = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+		var chunks = new IntBuffer[chunkCount];
+		for (var i = 0; i < chunkCount; i++) {
+			var chunkSize = Math.min(size - (i << CHUNK_SHIFT), 1 << CHUNK_SHIFT);
+			chunks[i] = ByteBuffer.allocateDirect(chunkSize * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+		}
+		this.chunks = chunks;
+		this.size = size;
+	}
+
+	@Override
+	public int get(int address) {
+		return chunks[address >>> CHUNK_SHIFT].get(address & CHUNK_MASK);
+	}
+
+	@Override
+	public void set(int address, int value) {
+		chunks[address >>> CHUNK_SHIFT].put(address & CHUNK_MASK, value);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public StringTable strings() {
+		return strings;
+	}
+}
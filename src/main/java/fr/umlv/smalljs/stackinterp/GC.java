@@ -0,0 +1,36 @@
+package fr.umlv.smalljs.stackinterp;
+
+// the memory manager of the stack interpreter, allocates the objects in a heap and
+// reclaims the memory of the objects that are not reachable from the stack anymore
+public interface GC {
+	int GC_OFFSET = 1;   // slot of the object header used by the GC
+	int GC_MARK = -1;
+	int GC_EMPTY = -2;
+
+	Heap heap();
+
+	// returns the address of a new object of size ints or -1 if there is not enough room
+	int allocate(int size);
+
+	// called when value is stored at address in the heap, after the object has been initialized
+	default void writeBarrier(int address, int value) {
+		// empty
+	}
+
+	// the values at stack[roots[i]] are references, they are rewritten if the objects move
+	void collect(int[] stack, int[] roots, Dictionary dict);
+
+	void dump(String message, Dictionary dict);
+
+	// mark all reachable objects, compute their new addresses in the GC slot,
+	// rewrite the references and slide the objects, so only one heap is needed
+	static GC markCompact(Heap heap) {
+		return new MarkCompactGC(heap);
+	}
+
+	// allocate in a nursery of nurserySize ints at the top of the heap, the objects alive
+	// at a minor collection are promoted to the old generation at the bottom of the heap
+	static GC generational(Heap heap, int nurserySize) {
+		return new GenerationalGC(heap, nurserySize);
+	}
+}
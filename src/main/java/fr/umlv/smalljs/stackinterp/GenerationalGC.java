@@ -0,0 +1,186 @@
+package fr.umlv.smalljs.stackinterp;
+
+import static fr.umlv.smalljs.stackinterp.MarkCompactGC.freeString;
+import static fr.umlv.smalljs.stackinterp.MarkCompactGC.objectSize;
+import static fr.umlv.smalljs.stackinterp.MarkCompactGC.referenceFieldCount;
+import static fr.umlv.smalljs.stackinterp.TagValues.OBJECT_HEADER_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.isReference;
+
+import java.util.Arrays;
+
+// the heap is split in two generations, the old generation at the bottom of the heap
+// and the nursery at the top, new objects are allocated in the nursery with a bump pointer.
+//
+// A minor collection copies the live objects of the nursery at the end of the old generation,
+// the roots are the stack and the dirty cards of the old generation,
+// a card is marked as dirty by the write barrier when a reference to the nursery is stored
+// in an object of the old generation.
+// When the old generation may not have enough room for the objects of the nursery,
+// a major collection compacts both generations in place.
+final class GenerationalGC implements GC {
+	private static final int CARD_SHIFT = 4;  // 16 ints per card
+
+	private final Heap heap;
+	private final int nurseryStart;
+	private int oldHp;      // heap pointer of the old generation
+	private int nurseryHp;  // heap pointer of the nursery
+
+	private final boolean[] dirtyCards;
+	// for each card of the old generation, the address of the object that covers the start of the card
+	private final int[] cardFirstObject;
+
+	GenerationalGC(Heap heap, int nurserySize) {
+		if (nurserySize <= 0 || nurserySize >= heap.size()) {
+			throw new IllegalArgumentException("invalid nursery size " + nurserySize);
+		}
+		this.heap = heap;
+		this.nurseryStart = heap.size() - nurserySize;
+		this.nurseryHp = nurseryStart;
+		var cardCount = (nurseryStart >> CARD_SHIFT) + 1;
+		this.dirtyCards = new boolean[cardCount];
+		this.cardFirstObject = new int[cardCount];
+		Arrays.fill(cardFirstObject, -1);
+	}
+
+	@Override
+	public Heap heap() {
+		return heap;
+	}
+
+	@Override
+	public int allocate(int size) {
+		if (oldHp > nurseryStart || nurseryHp + size > heap.size()) {
+			return -1;
+		}
+		var ref = nurseryHp;
+		nurseryHp += size;
+		return ref;
+	}
+
+	@Override
+	public void writeBarrier(int address, int value) {
+		if (address < nurseryStart && isReference(value) && decodeReference(value) >= nurseryStart) {
+			dirtyCards[address >> CARD_SHIFT] = true;
+		}
+	}
+
+	@Override
+	public void collect(int[] stack, int[] roots, Dictionary dict) {
+		if (nurseryStart - oldHp >= nurseryHp - nurseryStart) {
+			minorCollect(stack, roots, dict);
+		} else {
+			majorCollect(stack, roots, dict);
+		}
+	}
+
+	// copy the live objects of the nursery to the old generation, the cost is proportional
+	// to the number of live objects of the nursery and the number of dirty cards,
+	// the nursery is then swept to free the string table entries of the dead string objects
+	private void minorCollect(int[] stack, int[] roots, Dictionary dict) {
+		var scan = oldHp;
+
+		// the stack references the nursery
+		for (var root : roots) {
+			var value = stack[root];
+			if (isInNursery(value)) {
+				stack[root] = encodeReference(promote(decodeReference(value), dict));
+			}
+		}
+
+		// the dirty cards of the old generation references the nursery
+		for (var card = 0; card < dirtyCards.length; card++) {
+			if (!dirtyCards[card]) {
+				continue;
+			}
+			dirtyCards[card] = false;
+			var cardEnd = Math.min((card + 1) << CARD_SHIFT, scan);
+			for (var ref = cardFirstObject[card]; ref != -1 && ref < cardEnd;) {
+				var size = objectSize(heap, ref, dict);
+				promoteFields(ref, size, dict);
+				ref += size;
+			}
+		}
+
+		// the promoted objects references the nursery
+		while (scan < oldHp) {
+			var size = objectSize(heap, scan, dict);
+			promoteFields(scan, size, dict);
+			scan += size;
+		}
+
+		// an object not promoted has no forward address
+		for (var ref = nurseryStart; ref < nurseryHp;) {
+			var size = objectSize(heap, ref, dict);
+			if (heap.get(ref + GC_OFFSET) == GC_EMPTY) {
+				freeString(heap, ref);
+			}
+			ref += size;
+		}
+		nurseryHp = nurseryStart;
+	}
+
+	private boolean isInNursery(int value) {
+		return isReference(value) && decodeReference(value) >= nurseryStart;
+	}
+
+	private void promoteFields(int ref, int size, Dictionary dict) {
+		var fieldCount = referenceFieldCount(heap, ref, size);
+		for (var i = 0; i < fieldCount; i++) {
+			var value = heap.get(ref + OBJECT_HEADER_SIZE + i);
+			if (isInNursery(value)) {
+				heap.set(ref + OBJECT_HEADER_SIZE + i, encodeReference(promote(decodeReference(value), dict)));
+			}
+		}
+	}
+
+	// copy an object of the nursery to the old generation (once), the GC slot stores the new address
+	private int promote(int ref, Dictionary dict) {
+		var forward = heap.get(ref + GC_OFFSET);
+		if (forward != GC_EMPTY) {
+			return forward;
+		}
+		var size = objectSize(heap, ref, dict);
+		var newRef = oldHp;
+		for (var i = 0; i < size; i++) {
+			heap.set(newRef + i, heap.get(ref + i));
+		}
+		heap.set(ref + GC_OFFSET, newRef);
+		recordObject(newRef, size);
+		oldHp += size;
+		return newRef;
+	}
+
+	private void recordObject(int ref, int size) {
+		for (var card = ref >> CARD_SHIFT; card <= (ref + size - 1) >> CARD_SHIFT; card++) {
+			if (cardFirstObject[card] == -1) {
+				cardFirstObject[card] = ref;
+			}
+		}
+	}
+
+	// compact the old generation and the nursery, so all the live objects end up in the old generation
+	private void majorCollect(int[] stack, int[] roots, Dictionary dict) {
+		var newHp = MarkCompactGC.compact(heap, stack, roots, dict, 0, oldHp, nurseryStart, nurseryHp);
+		Arrays.fill(dirtyCards, false);
+		oldHp = newHp;
+		nurseryHp = nurseryStart;
+		if (oldHp > nurseryStart) {
+			// the live objects do not fit in the old generation, nothing can be allocated anymore
+			return;
+		}
+		Arrays.fill(cardFirstObject, -1);
+		for (var ref = 0; ref < oldHp;) {
+			var size = objectSize(heap, ref, dict);
+			recordObject(ref, size);
+			ref += size;
+		}
+	}
+
+	@Override
+	public void dump(String message, Dictionary dict) {
+		MarkCompactGC.dumpObjects(message + "(old generation)", heap, 0, oldHp, dict);
+		MarkCompactGC.dumpObjects(message + "(nursery)", heap, nurseryStart, nurseryHp, dict);
+	}
+}
@@ -0,0 +1,25 @@
+package fr.umlv.smalljs.stackinterp;
+
+// the memory where the stack interpreter stores the objects, an array of tagged values,
+// the object layout (class descriptor, GC slot, fields) doesn't depend on the backend
+public interface Heap {
+	int get(int address);
+	void set(int address, int value);
+	int size();
+
+	// the strings computed at runtime referenced by the string objects of the heap
+	StringTable strings();
+
+	int MAX_SIZE = 1 << 30;  // a reference is encoded on 30 bits
+
+	// an int array on the Java heap
+	static Heap ofArray(int size) {
+		return new ArrayHeap(size);
+	}
+
+	// direct memory outside the Java heap (up to 4 GiB), not scanned by the Java GC,
+	// the amount of direct memory is limited by -XX:MaxDirectMemorySize
+	static Heap ofDirect(int size) {
+		return new DirectHeap(size);
+	}
+}
@@ -15,25 +15,39 @@ import static fr.umlv.smalljs.stackinterp.Instructions.*;
 import static fr.umlv.smalljs.stackinterp.TagValues.*;
 
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import fr.umlv.smalljs.ast.Expr;
 import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
 import fr.umlv.smalljs.ast.Expr.FieldAccess;
 import fr.umlv.smalljs.ast.Expr.FieldAssignment;
 import fr.umlv.smalljs.ast.Expr.Fun;
 import fr.umlv.smalljs.ast.Expr.FunCall;
 import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
 import fr.umlv.smalljs.ast.Expr.Instr;
 import fr.umlv.smalljs.ast.Expr.Literal;
 import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
 import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
 import fr.umlv.smalljs.ast.Expr.MethodCall;
 import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
 import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.ast.TypeInference;
 import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.InlineGuard;
 import fr.umlv.smalljs.rt.JSObject;
 
 public class InstrRewriter {
@@ -58,51 +72,283 @@ public class InstrRewriter {
 		}
 
 		int placeholder() {
-			return size++;
+			var position = size;
+			emit(0);  // grow if necessary
+			return position;
 		}
 
 		void patch(int position, int label) {
 			instrs[position] = label;
 		}
 
+		int get(int position) {
+			return instrs[position];
+		}
+
 		int[] toInstrs() {
 			return Arrays.copyOf(instrs, size);
 		}
 	}
 
 	public static JSObject createFunction(Optional<String> name, List<String> parameters, Block body, Dictionary dict, JSObject globalEnv) {
+		return createFunction(name, parameters, body, dict, globalEnv, TypeInference.NONE);
+	}
+
+	// the types are used to avoid the dynamic checks, see TypeInference
+	public static JSObject createFunction(Optional<String> name, List<String> parameters, Block body, Dictionary dict, JSObject globalEnv,
+																			 TypeInference types) {
+		return createFunction(name, List.of(), new int[0], parameters, body, dict, globalEnv, types);
+	}
+
+	// the upvalue i of the function is the variable upvalueNames[i] captured from the enclosing functions,
+	// upvalues[i] is where the closure finds its cell (see InterpretedFunction)
+	private static InterpretedFunction createFunction(Optional<String> name, List<String> upvalueNames, int[] upvalues, List<String> parameters,
+																										Block body, Dictionary dict, JSObject globalEnv, TypeInference types) {
 		var env = JSObject.newEnv(null);
 
+		var nonEscapingObjects = nonEscapingObjects(parameters, body);
+
 		env.register("this", 0);
 		for (var parameter : parameters) {
 			env.register(parameter, env.length());
 		}
-		visitVariable(body, env);
+		visitVariable(body, env, nonEscapingObjects);
+
+		var upvalueEnv = JSObject.newEnv(null);
+		for (var upvalueName : upvalueNames) {
+			upvalueEnv.register(upvalueName, upvalueEnv.length());
+		}
+
+		var functions = new ArrayList<Fun>();
+		visitFunctions(body, functions::add);
+		registerLocalFunctions(functions, env, upvalueEnv);
+
+		// the local variables captured by a nested function are stored in a cell allocated on the heap
+		var cells = new LinkedHashSet<String>();
+		for (var fun : functions) {
+			for (var variable : freeVariables(fun.parameters(), fun.body())) {
+				if (env.lookup(variable) != UNDEFINED) {
+					cells.add(variable);
+				}
+			}
+		}
 
 		var buffer = new InstrBuffer();
-		visit(body, env, buffer, dict, globalEnv);
+		for (var cell : cells) {
+			buffer.emit(BOX).emit((int) env.lookup(cell));
+		}
+		visit(body, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 		buffer.emit(CONST).emit(encodeDictObject(UNDEFINED, dict));
 		buffer.emit(RET);
 
 		var instrs = buffer.toInstrs();
-		Instructions.dump(instrs, dict);
+		//Instructions.dump(instrs, dict);
 
-		var code = new Code(instrs, parameters.size() + 1 /* this */, env.length());
-		var function = JSObject.newFunction(name.orElse("lambda"), (self, receiver, args) -> {
+		var code = new Code(instrs, parameters.size() + 1 /* this */, env.length(), stackMaps(instrs));
+		var function = InterpretedFunction.newFunction(name.orElse("lambda"), code, upvalues, (self, receiver, args) -> {
 			if (receiver != UNDEFINED || args.length != 0) {
 				throw new Failure("can not interpret a function with a receiver and/or arguments");
 			}
 			return StackInterpreter.execute(self, dict, globalEnv);
 		});
-		function.register("__code__", code);
+		dict.index(function);  // pre-resolve the function index
 		return function;
 	}
 
-	private static void visitVariable(Expr expression, JSObject env) {
+	// compute the live local slots after each instruction that may trigger a GC (FUNCALL, TAILCALL, NEW, LOOKUP,
+	// CLOSURE, BOX and INT_OP), a slot is live if it may be loaded before being stored, the GC does not scan the dead slots.
+	// A slot containing a cell is always live because CLOSURE reads it
+	static BitSet[] stackMaps(int[] instrs) {
+		var liveIn = new BitSet[instrs.length + 1];
+		for (var i = 0; i < liveIn.length; i++) {
+			liveIn[i] = new BitSet();
+		}
+		var starts = new IntStack();
+		var cells = new BitSet();
+		for (var pc = 0; pc < instrs.length; pc += Instructions.length(instrs[pc])) {
+			starts.push(pc);
+			if (instrs[pc] == BOX) {
+				cells.set(instrs[pc + 1]);
+			}
+		}
+		var pcs = starts.toArray();
+
+		// backward data flow analysis up to a fixpoint
+		for (var changed = true; changed;) {
+			changed = false;
+			for (var i = pcs.length; --i >= 0;) {
+				var pc = pcs[i];
+				var instr = instrs[pc];
+				var next = pc + Instructions.length(instr);
+				var live = switch (instr) {
+					case RET -> new BitSet();
+					case GOTO -> (BitSet) liveIn[instrs[pc + 1]].clone();
+					case JUMP_IF_FALSE -> {
+						var set = (BitSet) liveIn[instrs[pc + 1]].clone();
+						set.or(liveIn[next]);
+						yield set;
+					}
+					default -> (BitSet) liveIn[next].clone();
+				};
+				switch (instr) {
+					case LOAD, LOAD_CELL, STORE_CELL, BOX -> live.set(instrs[pc + 1]);
+					case STORE -> live.clear(instrs[pc + 1]);
+					default -> {}
+				}
+				if (!live.equals(liveIn[pc])) {
+					liveIn[pc] = live;
+					changed = true;
+				}
+			}
+		}
+
+		var stackMaps = new BitSet[instrs.length];
+		for (var pc : pcs) {
+			var instr = instrs[pc];
+			if (instr == FUNCALL || instr == TAILCALL || instr == NEW || instr == LOOKUP || instr == CLOSURE || instr == BOX || instr == INT_OP) {
+				var next = pc + Instructions.length(instr);
+				if (next < instrs.length) {
+					var live = (BitSet) liveIn[next].clone();
+					live.or(cells);
+					stackMaps[next] = live;
+				}
+			}
+		}
+		return stackMaps;
+	}
+
+	// name of the local slot that stores the field of a non escaping object,
+	// a dot can not appear in a variable name
+	private static String fieldSlotName(String name, String fieldName) {
+		return name + "." + fieldName;
+	}
+
+	// find the local variables initialized with an object literal that do not escape,
+	// those objects are never allocated on the heap, their fields are stored in local slots (scalar replacement).
+	// A variable is non escaping if it is declared once at the top level of the function body,
+	// never re-assigned and only used after its declaration to read or write a field of the literal.
+	// A variable captured by a nested function escapes.
+	static Map<String, New> nonEscapingObjects(List<String> parameters, Block body) {
+		var candidates = new HashMap<String, New>();
+		var declarations = new HashMap<String, Integer>();
+		var instrs = body.instrs();
+		for (var i = 0; i < instrs.size(); i++) {
+			if (instrs.get(i) instanceof LocalVarAssignment(String name, New newObject, boolean declaration, int lineNumber)
+					&& declaration && !parameters.contains(name)) {
+				candidates.put(name, newObject);
+				declarations.put(name, i);
+			}
+		}
+		if (candidates.isEmpty()) {
+			return Map.of();
+		}
+		var escaped = new HashSet<String>();
+		var assignments = new HashMap<String, Integer>();
+		for (var i = 0; i < instrs.size(); i++) {
+			visitEscape(instrs.get(i), i, candidates, declarations, assignments, escaped);
+		}
+		candidates.keySet().removeIf(name -> escaped.contains(name) || assignments.get(name) != 1);
+		return candidates;
+	}
+
+	private static void visitEscape(Expr expression, int index, Map<String, New> candidates, Map<String, Integer> declarations,
+																	Map<String, Integer> assignments, Set<String> escaped) {
+		switch (expression) {
+			case Block(List<Expr> instrs, int lineNumber) -> {
+				for (var instr : instrs) {
+					visitEscape(instr, index, candidates, declarations, assignments, escaped);
+				}
+			}
+			case Literal<?>(Object value, int lineNumber) -> {
+				// do nothing
+			}
+			case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+				visitEscape(qualifier, index, candidates, declarations, assignments, escaped);
+				for (var arg : args) {
+					visitEscape(arg, index, candidates, declarations, assignments, escaped);
+				}
+			}
+			case LocalVarAccess(String name, int lineNumber) -> {
+				// the object is used as a value
+				escaped.add(name);
+			}
+			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+				assignments.merge(name, 1, Integer::sum);
+				visitEscape(expr, index, candidates, declarations, assignments, escaped);
+			}
+			case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) -> {
+				escaped.addAll(freeVariables(parameters, body));
+			}
+			case Return(Expr expr, int lineNumber) -> {
+				visitEscape(expr, index, candidates, declarations, assignments, escaped);
+			}
+			case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+				visitEscape(condition, index, candidates, declarations, assignments, escaped);
+				visitEscape(trueBlock, index, candidates, declarations, assignments, escaped);
+				visitEscape(falseBlock, index, candidates, declarations, assignments, escaped);
+			}
+			case While(Expr condition, Block body, int lineNumber) -> {
+				visitEscape(condition, index, candidates, declarations, assignments, escaped);
+				visitEscape(body, index, candidates, declarations, assignments, escaped);
+			}
+			case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+				// the arguments are evaluated once for both versions
+				visitEscape(call, index, candidates, declarations, assignments, escaped);
+				visitEscape(expr, index, candidates, declarations, assignments, escaped);
+			}
+			case New(Map<String, Expr> initMap, int lineNumber) -> {
+				for (var init : initMap.values()) {
+					visitEscape(init, index, candidates, declarations, assignments, escaped);
+				}
+			}
+			case NewArray(List<Expr> elements, int lineNumber) -> {
+				for (var element : elements) {
+					visitEscape(element, index, candidates, declarations, assignments, escaped);
+				}
+			}
+			case ElementAccess(Expr array, Expr elementIndex, int lineNumber) -> {
+				visitEscape(array, index, candidates, declarations, assignments, escaped);
+				visitEscape(elementIndex, index, candidates, declarations, assignments, escaped);
+			}
+			case ElementAssignment(Expr array, Expr elementIndex, Expr expr, int lineNumber) -> {
+				visitEscape(array, index, candidates, declarations, assignments, escaped);
+				visitEscape(elementIndex, index, candidates, declarations, assignments, escaped);
+				visitEscape(expr, index, candidates, declarations, assignments, escaped);
+			}
+			case FieldAccess(Expr receiver, String name, int lineNumber) -> {
+				if (!isFieldOfNonEscaping(receiver, name, index, candidates, declarations)) {
+					visitEscape(receiver, index, candidates, declarations, assignments, escaped);
+				}
+			}
+			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+				if (!isFieldOfNonEscaping(receiver, name, index, candidates, declarations)) {
+					visitEscape(receiver, index, candidates, declarations, assignments, escaped);
+				}
+				visitEscape(expr, index, candidates, declarations, assignments, escaped);
+			}
+			case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+				// the receiver is passed as this
+				visitEscape(receiver, index, candidates, declarations, assignments, escaped);
+				for (var arg : args) {
+					visitEscape(arg, index, candidates, declarations, assignments, escaped);
+				}
+			}
+		}
+	}
+
+	private static boolean isFieldOfNonEscaping(Expr receiver, String fieldName, int index, Map<String, New> candidates, Map<String, Integer> declarations) {
+		if (!(receiver instanceof LocalVarAccess(String name, int lineNumber))) {
+			return false;
+		}
+		var newObject = candidates.get(name);
+		return newObject != null && index > declarations.get(name) && newObject.initMap().containsKey(fieldName);
+	}
+
+	static void visitVariable(Expr expression, JSObject env, Map<String, New> nonEscapingObjects) {
 		switch (expression) {
 			case Block(List<Expr> instrs, int lineNumber) -> {
 				for (Expr instr : instrs) {
-					visitVariable(instr, env);
+					visitVariable(instr, env, nonEscapingObjects);
 				}
 			}
 			case Literal<?>(Object value, int lineNumber) -> {
@@ -116,7 +362,15 @@ public class InstrRewriter {
 			}
 			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
 				if (declaration) {
-					env.register(name, env.length());
+					var newObject = nonEscapingObjects.get(name);
+					if (newObject != null) {
+						// the fields of the object are stored in local slots
+						for (var fieldName : newObject.initMap().keySet()) {
+							env.register(fieldSlotName(name, fieldName), env.length());
+						}
+					} else {
+						env.register(name, env.length());
+					}
 				}
 			}
 			case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) -> {
@@ -126,12 +380,27 @@ public class InstrRewriter {
 				// do nothing
 			}
 			case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
-				visitVariable(trueBlock, env);
-				visitVariable(falseBlock, env);
+				visitVariable(trueBlock, env, nonEscapingObjects);
+				visitVariable(falseBlock, env, nonEscapingObjects);
+			}
+			case While(Expr condition, Block body, int lineNumber) -> {
+				visitVariable(body, env, nonEscapingObjects);
+			}
+			case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+				// do nothing, the renamed parameters are registered when the inlined call is visited
 			}
 			case New(Map<String, Expr> initMap, int lineNumber) -> {
 				// do nothing
 			}
+			case NewArray(List<Expr> elements, int lineNumber) -> {
+				// do nothing
+			}
+			case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+				// do nothing
+			}
+			case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+				// do nothing
+			}
 			case FieldAccess(Expr receiver, String name, int lineNumber) -> {
 				// do nothing
 			}
@@ -144,13 +413,226 @@ public class InstrRewriter {
 		};
 	}
 
-	private static void visit(Expr expression, JSObject env, InstrBuffer buffer, Dictionary dict, JSObject globalEnv) {
+	// find the functions declared in the expression, the bodies of those functions are not visited
+	static void visitFunctions(Expr expression, Consumer<Fun> consumer) {
+		switch (expression) {
+			case Block(List<Expr> instrs, int lineNumber) -> {
+				for (var instr : instrs) {
+					visitFunctions(instr, consumer);
+				}
+			}
+			case Literal<?>(Object value, int lineNumber) -> {
+				// do nothing
+			}
+			case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+				visitFunctions(qualifier, consumer);
+				for (var arg : args) {
+					visitFunctions(arg, consumer);
+				}
+			}
+			case LocalVarAccess(String name, int lineNumber) -> {
+				// do nothing
+			}
+			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+				visitFunctions(expr, consumer);
+			}
+			case Fun fun -> {
+				consumer.accept(fun);
+			}
+			case Return(Expr expr, int lineNumber) -> {
+				visitFunctions(expr, consumer);
+			}
+			case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+				visitFunctions(condition, consumer);
+				visitFunctions(trueBlock, consumer);
+				visitFunctions(falseBlock, consumer);
+			}
+			case While(Expr condition, Block body, int lineNumber) -> {
+				visitFunctions(condition, consumer);
+				visitFunctions(body, consumer);
+			}
+			case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+				// an inlined expression has no function
+				visitFunctions(call, consumer);
+			}
+			case New(Map<String, Expr> initMap, int lineNumber) -> {
+				for (var init : initMap.values()) {
+					visitFunctions(init, consumer);
+				}
+			}
+			case NewArray(List<Expr> elements, int lineNumber) -> {
+				for (var element : elements) {
+					visitFunctions(element, consumer);
+				}
+			}
+			case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+				visitFunctions(array, consumer);
+				visitFunctions(index, consumer);
+			}
+			case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+				visitFunctions(array, consumer);
+				visitFunctions(index, consumer);
+				visitFunctions(expr, consumer);
+			}
+			case FieldAccess(Expr receiver, String name, int lineNumber) -> {
+				visitFunctions(receiver, consumer);
+			}
+			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+				visitFunctions(receiver, consumer);
+				visitFunctions(expr, consumer);
+			}
+			case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+				visitFunctions(receiver, consumer);
+				for (var arg : args) {
+					visitFunctions(arg, consumer);
+				}
+			}
+		}
+	}
+
+	private static void visitUses(Expr expression, Set<String> uses) {
+		switch (expression) {
+			case Block(List<Expr> instrs, int lineNumber) -> {
+				for (var instr : instrs) {
+					visitUses(instr, uses);
+				}
+			}
+			case Literal<?>(Object value, int lineNumber) -> {
+				// do nothing
+			}
+			case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+				visitUses(qualifier, uses);
+				for (var arg : args) {
+					visitUses(arg, uses);
+				}
+			}
+			case LocalVarAccess(String name, int lineNumber) -> {
+				uses.add(name);
+			}
+			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+				uses.add(name);
+				visitUses(expr, uses);
+			}
+			case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) -> {
+				uses.addAll(freeVariables(parameters, body));
+			}
+			case Return(Expr expr, int lineNumber) -> {
+				visitUses(expr, uses);
+			}
+			case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+				visitUses(condition, uses);
+				visitUses(trueBlock, uses);
+				visitUses(falseBlock, uses);
+			}
+			case While(Expr condition, Block body, int lineNumber) -> {
+				visitUses(condition, uses);
+				visitUses(body, uses);
+			}
+			case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+				visitUses(call, uses);
+				var exprUses = new LinkedHashSet<String>();
+				visitUses(expr, exprUses);
+				parameters.forEach(exprUses::remove);
+				uses.addAll(exprUses);
+			}
+			case New(Map<String, Expr> initMap, int lineNumber) -> {
+				for (var init : initMap.values()) {
+					visitUses(init, uses);
+				}
+			}
+			case NewArray(List<Expr> elements, int lineNumber) -> {
+				for (var element : elements) {
+					visitUses(element, uses);
+				}
+			}
+			case ElementAccess(Expr array, Expr index, int lineNumber) -> {
+				visitUses(array, uses);
+				visitUses(index, uses);
+			}
+			case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) -> {
+				visitUses(array, uses);
+				visitUses(index, uses);
+				visitUses(expr, uses);
+			}
+			case FieldAccess(Expr receiver, String name, int lineNumber) -> {
+				visitUses(receiver, uses);
+			}
+			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+				visitUses(receiver, uses);
+				visitUses(expr, uses);
+			}
+			case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+				visitUses(receiver, uses);
+				for (var arg : args) {
+					visitUses(arg, uses);
+				}
+			}
+		}
+	}
+
+	// the variables used by a function or by its nested functions that are not declared by the function
+	static Set<String> freeVariables(List<String> parameters, Block body) {
+		var env = JSObject.newEnv(null);
+		env.register("this", 0);
+		for (var parameter : parameters) {
+			env.register(parameter, env.length());
+		}
+		visitVariable(body, env, Map.of());
+		var uses = new LinkedHashSet<String>();
+		visitUses(body, uses);
+		uses.removeIf(name -> env.lookup(name) != UNDEFINED);
+		return uses;
+	}
+
+	private static boolean isCaptured(String name, JSObject env, JSObject upvalueEnv) {
+		return env.lookup(name) != UNDEFINED || upvalueEnv.lookup(name) != UNDEFINED;
+	}
+
+	// a named function that captures a variable is a closure, it lives in the heap so it can not be registered
+	// in the global environment, it is stored in a local variable of the enclosing function instead.
+	// A function that uses that local variable captures it too, hence the fixpoint
+	private static void registerLocalFunctions(List<Fun> functions, JSObject env, JSObject upvalueEnv) {
+		for (var changed = true; changed;) {
+			changed = false;
+			for (var fun : functions) {
+				if (fun.name().isEmpty() || env.lookup(fun.name().orElseThrow()) != UNDEFINED) {
+					continue;
+				}
+				var name = fun.name().orElseThrow();
+				if (freeVariables(fun.parameters(), fun.body()).stream()
+						.anyMatch(variable -> !variable.equals(name) && isCaptured(variable, env, upvalueEnv))) {
+					env.register(name, env.length());
+					changed = true;
+				}
+			}
+		}
+	}
+
+	// emit the guard of an inlined call followed by the stores of the arguments in the renamed parameters,
+	// returns the placeholder of the jump to the call if the guard is invalid
+	private static int emitGuardAndParameters(FunCall call, List<String> parameters, InlineGuard guard,
+																						JSObject env, JSObject upvalueEnv, Set<String> cells, InstrBuffer buffer, Dictionary dict, JSObject globalEnv,
+																						TypeInference types) {
+		buffer.emit(GUARD).emit(encodeDictObject(guard, dict));
+		var callPlaceHolder = buffer.emit(JUMP_IF_FALSE).placeholder();
+		for (var i = 0; i < parameters.size(); i++) {
+			visit(call.args().get(i), env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+			// the renamed parameters are unique, so they are new local variables
+			var slot = env.length();
+			env.register(parameters.get(i), slot);
+			buffer.emit(STORE).emit(slot);
+		}
+		return callPlaceHolder;
+	}
+
+	private static void visit(Expr expression, JSObject env, JSObject upvalueEnv, Set<String> cells, InstrBuffer buffer, Dictionary dict, JSObject globalEnv,
+														TypeInference types) {
 		switch (expression) {
 			case Block(List<Expr> instrs, int lineNumber) -> {
 				// for each expression of the block
 				for (var instr : instrs) {
 					// visit the expression
-					visit(instr, env, buffer, dict, globalEnv);
+					visit(instr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 					// if the expression is an instruction (i.e. return void)
 					if (!(instr instanceof Instr)) {
 						// ask to top the top of the stack
@@ -160,8 +642,8 @@ public class InstrRewriter {
 			}
 			case Literal<?>(Object literalValue, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO Literal");
-//				 test if the literal value is a positive integers
-				if (literalValue instanceof Integer value && value >= 0) {
+//				 test if the literal value is an integer that fits in a small int
+				if (literalValue instanceof Integer value && fitsInSmallInt(value)) {
 //				 emit a small int
 				buffer.emit(CONST).emit(encodeSmallInt(value));
 				} else {
@@ -169,15 +651,23 @@ public class InstrRewriter {
 				buffer.emit(CONST).emit(encodeDictObject(literalValue,dict));
 				}
 			}
+			case FunCall(Expr qualifier, List<Expr> args, int lineNumber)
+					when types.isIntOperation((FunCall) expression) && qualifier instanceof LocalVarAccess(String operator, int operatorLineNumber)
+					&& env.lookup(operator) == UNDEFINED && upvalueEnv.lookup(operator) == UNDEFINED -> {
+				// the operands are ints, no call to the builtin
+				visit(args.get(0), env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				visit(args.get(1), env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.emit(INT_OP).emit(INT_OPERATORS.indexOf(operator));
+			}
 			case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO FunCall");
 				// visit the qualifier
-				visit(qualifier,env,buffer,dict,globalEnv);
+				visit(qualifier, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// emit undefined
 				buffer.emit(CONST).emit(encodeDictObject(UNDEFINED,dict));
 				// visit all arguments
 				for (var arg : args) {
-					visit(arg,env,buffer,dict,globalEnv);
+					visit(arg, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				}
 				// emit the funcall
 				buffer.emit(FUNCALL).emit(args.size());
@@ -188,30 +678,57 @@ public class InstrRewriter {
 
 				// find if there is a local variable in the environment with the name
 				var slotOrUndefined = env.lookup(name);
-				if (slotOrUndefined == UNDEFINED) {
+				if (slotOrUndefined != UNDEFINED) {
+					// load the local variable with the slot, a captured variable is in a cell
+					buffer.emit(cells.contains(name) ? LOAD_CELL : LOAD).emit((int) slotOrUndefined);
+					return;
+				}
+				// find if there is a variable captured from an enclosing function
+				var upvalueOrUndefined = upvalueEnv.lookup(name);
+				if (upvalueOrUndefined != UNDEFINED) {
+					buffer.emit(LOAD_UPVAL).emit((int) upvalueOrUndefined);
+					return;
+				}
 				// emit a lookup with the name
 				buffer.emit(LOOKUP).emit(encodeDictObject(name,dict));
-				} else {
-				// load the local variable with the slot
-				buffer.emit(LOAD).emit((int)slotOrUndefined);
-				}
+			}
+			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber)
+					when declaration && expr instanceof New(Map<String, Expr> initMap, int newLineNumber) && env.lookup(name) == UNDEFINED -> {
+				// non escaping object, store each field value in its local slot instead of allocating
+				initMap.forEach((fieldName, init) -> {
+					visit(init, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+					buffer.emit(STORE).emit((int) env.lookup(fieldSlotName(name, fieldName)));
+				});
 			}
 			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO LocalVarAssignment");
 				// visit the expression
-				 visit(expr,env,buffer,dict,globalEnv);
-				// find if there is a local variable in the env from the name
-				var slotOrUndefined = env.lookup(name);
-				if (slotOrUndefined == UNDEFINED) {
-					throw new Failure("unknown local variable " + name);
-				}
-				// emit a store at the variable slot
-				buffer.emit(STORE).emit((int) slotOrUndefined);
+				 visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				// emit a store to the variable
+				emitStore(name, env, upvalueEnv, cells, buffer);
 			}
 			case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO Fun");
+				// find the variables captured by the function
+				var captures = freeVariables(parameters, body).stream()
+						.filter(variable -> isCaptured(variable, env, upvalueEnv))
+						.toList();
+				if (!captures.isEmpty()) {
+					// a closure, the cells are in the local slots or in the upvalues of the current function
+					var upvalues = captures.stream()
+							.mapToInt(variable -> env.lookup(variable) instanceof Integer slot ? slot : -1 - (int) upvalueEnv.lookup(variable))
+							.toArray();
+					var function = createFunction(optName, captures, upvalues, parameters, body, dict, globalEnv, types);
+					buffer.emit(CLOSURE).emit(encodeDictObject(function, dict));
+					// a named closure is a local variable (see registerLocalFunctions)
+					optName.ifPresent(name -> {
+						buffer.emit(DUP);
+						emitStore(name, env, upvalueEnv, cells, buffer);
+					});
+					return;
+				}
 				// create a JSObject function
-				var function = createFunction(optName, parameters, body, dict, globalEnv);
+				var function = createFunction(optName, List.of(), new int[0], parameters, body, dict, globalEnv, types);
 				// emit a const on the function
 				buffer.emit(CONST).emit(encodeAnyValue(function,dict));
 				// if the name is present emit a code to register the function in the global environment
@@ -220,10 +737,21 @@ public class InstrRewriter {
 				buffer.emit(REGISTER).emit(encodeAnyValue(name,dict));
 				});
 			}
+			case Return(InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int callLineNumber), int lineNumber) -> {
+				// both versions return, so the call stays a tail call
+				var callPlaceHolder = emitGuardAndParameters(call, parameters, guard, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				visit(new Return(expr, lineNumber), env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.patch(callPlaceHolder, buffer.label());
+				visit(new Return(call, lineNumber), env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+			}
 			case Return(Expr expr, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO Return");
 				// emit a visit of the expression
-				visit(expr,env,buffer,dict,globalEnv);
+				visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				if ((expr instanceof FunCall || expr instanceof MethodCall) && buffer.get(buffer.label() - 2) == FUNCALL) {
+					// a tail call (not an INT_OP), replace the FUNCALL just emitted by a TAILCALL that reuses the current frame
+					buffer.patch(buffer.label() - 2, TAILCALL);
+				}
 				// emit a RET
 
 				buffer.emit(RET);
@@ -231,20 +759,38 @@ public class InstrRewriter {
 			case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
 				//throw new UnsupportedOperationException("TODO If");
 				// visit the condition
-				visit(condition,env,buffer,dict,globalEnv);
+				visit(condition, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// emit a JUMP_IF_FALSE and a placeholder
 				var falsePlaceHolder = buffer.emit(JUMP_IF_FALSE).placeholder();
 				// visit the true block
-				visit(trueBlock,env,buffer,dict,globalEnv);
+				visit(trueBlock, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// emit a goto with another placeholder
 				var endPlaceHolder = buffer.emit(GOTO).placeholder();
 				// patch the first placeholder
 				buffer.patch(falsePlaceHolder, buffer.label());
 				// visit the false block
-				visit(falseBlock,env,buffer,dict,globalEnv);
+				visit(falseBlock, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// patch the second placeholder
 				buffer.patch(endPlaceHolder, buffer.label());
 			}
+			case While(Expr condition, Block body, int lineNumber) -> {
+				// the condition is evaluated before each iteration, the body ends with a backward GOTO
+				var loopLabel = buffer.label();
+				visit(condition, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				var endPlaceHolder = buffer.emit(JUMP_IF_FALSE).placeholder();
+				visit(body, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.emit(GOTO).emit(loopLabel);
+				buffer.patch(endPlaceHolder, buffer.label());
+			}
+			case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+				// the inlined code is used if the guard is valid, otherwise the function is called
+				var callPlaceHolder = emitGuardAndParameters(call, parameters, guard, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				var endPlaceHolder = buffer.emit(GOTO).placeholder();
+				buffer.patch(callPlaceHolder, buffer.label());
+				visit(call, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.patch(endPlaceHolder, buffer.label());
+			}
 			case New(Map<String, Expr> initMap, int lineNumber) -> {
 //				throw new UnsupportedOperationException("TODO New");
 				// create a JSObject class
@@ -252,44 +798,88 @@ public class InstrRewriter {
 				// loop over all the field initializations
 				initMap.forEach((fieldName, expr) -> {
 				//  register the field name with the right slot
-				  clazz.register(fieldName,(int)env.lookup(fieldName));
+				  clazz.register(fieldName, clazz.length());
 				//   visit the initialization expression
-				  visit(expr,env,buffer,dict,globalEnv);
+				  visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				});
 				// emit a NEW with the class
 				buffer.emit(NEW).emit(encodeAnyValue(clazz,dict));
 			}
+			case NewArray(List<Expr> elements, int lineNumber) ->
+					throw new Failure("at line " + lineNumber + ", arrays are not supported by the stack interpreter");
+			case ElementAccess(Expr array, Expr index, int lineNumber) ->
+					throw new Failure("at line " + lineNumber + ", arrays are not supported by the stack interpreter");
+			case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) ->
+					throw new Failure("at line " + lineNumber + ", arrays are not supported by the stack interpreter");
+			case FieldAccess(Expr receiver, String name, int lineNumber)
+					when receiver instanceof LocalVarAccess(String varName, int varLineNumber)
+					&& env.lookup(varName) == UNDEFINED && env.lookup(fieldSlotName(varName, name)) != UNDEFINED -> {
+				// field of a non escaping object
+				buffer.emit(LOAD).emit((int) env.lookup(fieldSlotName(varName, name)));
+			}
+			case FieldAccess(Expr receiver, String name, int lineNumber) when types.fieldSlot(receiver, name).isPresent() -> {
+				// the receiver has a known shape
+				visit(receiver, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.emit(GET_SLOT).emit(types.fieldSlot(receiver, name).orElseThrow());
+			}
 			case FieldAccess(Expr receiver, String name, int lineNumber) -> {
-				throw new UnsupportedOperationException("TODO FieldAccess");
+				//throw new UnsupportedOperationException("TODO FieldAccess");
 				// visit the receiver
-				//visit(...);
+				visit(receiver, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// emit a GET with the field name
-				//buffer.emit(...).emit(...);
+				buffer.emit(GET).emit(encodeDictObject(name, dict));
+			}
+			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber)
+					when receiver instanceof LocalVarAccess(String varName, int varLineNumber)
+					&& env.lookup(varName) == UNDEFINED && env.lookup(fieldSlotName(varName, name)) != UNDEFINED -> {
+				// field of a non escaping object
+				visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.emit(STORE).emit((int) env.lookup(fieldSlotName(varName, name)));
+			}
+			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) when types.fieldSlot(receiver, name).isPresent() -> {
+				// the receiver has a known shape
+				visit(receiver, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				buffer.emit(PUT_SLOT).emit(types.fieldSlot(receiver, name).orElseThrow());
 			}
 			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
-				throw new UnsupportedOperationException("TODO FieldAssignment");
+				//throw new UnsupportedOperationException("TODO FieldAssignment");
 				// visit the receiver
-				//visit(...);
+				visit(receiver, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// visit the expression
-				//visit(...);
+				visit(expr, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// emit a PUT with the field name
-				//buffer.emit(...).emit(...);
+				buffer.emit(PUT).emit(encodeDictObject(name, dict));
 			}
 			case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
-				throw new UnsupportedOperationException("TODO MethodCall");
+				//throw new UnsupportedOperationException("TODO MethodCall");
 				// visit the receiver
-				//visit(...);
+				visit(receiver, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
 				// emit a DUP, get the field name and emit a SWAP of the qualifier and the receiver
-				//buffer.emit(DUP);
-				//buffer.emit(...).emit(...);
-				//buffer.emit(SWAP);
+				buffer.emit(DUP);
+				buffer.emit(GET).emit(encodeDictObject(name, dict));
+				buffer.emit(SWAP);
 				// visit all arguments
-				//for (var arg : args) {
-				  //visit(...);
-				//}
+				for (var arg : args) {
+					visit(arg, env, upvalueEnv, cells, buffer, dict, globalEnv, types);
+				}
 				// emit the funcall
-				//buffer.emit(...).emit(...);
+				buffer.emit(FUNCALL).emit(args.size());
 			}
 		}
 	}
+
+	private static void emitStore(String name, JSObject env, JSObject upvalueEnv, Set<String> cells, InstrBuffer buffer) {
+		var slotOrUndefined = env.lookup(name);
+		if (slotOrUndefined != UNDEFINED) {
+			buffer.emit(cells.contains(name) ? STORE_CELL : STORE).emit((int) slotOrUndefined);
+			return;
+		}
+		var upvalueOrUndefined = upvalueEnv.lookup(name);
+		if (upvalueOrUndefined != UNDEFINED) {
+			buffer.emit(STORE_UPVAL).emit((int) upvalueOrUndefined);
+			return;
+		}
+		throw new Failure("unknown local variable " + name);
+	}
 }
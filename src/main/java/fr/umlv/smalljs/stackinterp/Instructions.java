@@ -1,5 +1,7 @@
 package fr.umlv.smalljs.stackinterp;
 
+import java.util.List;
+
 public interface Instructions {
 	int CONST = 1; // CONST tag_value (smallint or dictionary_index)
 	int LOOKUP = 2; // LOOKUP dictionary_index (String global_name)
@@ -16,12 +18,37 @@ public interface Instructions {
 	int NEW = 13; // NEW dictionary_index (JSObject object)
 	int GET = 14; // GET dictionary_index (String field_name)
 	int PUT = 15; // PUT dictionary_index (String field_name)
+	int TAILCALL = 16; // TAILCALL argument_count, always followed by a RET
+	int LOAD_UPVAL = 17; // LOAD_UPVAL upvalue_index
+	int STORE_UPVAL = 18; // STORE_UPVAL upvalue_index
+	int CLOSURE = 19; // CLOSURE dictionary_index (InterpretedFunction function)
+	int BOX = 21; // BOX slot_index
+	int LOAD_CELL = 22; // LOAD_CELL slot_index
+	int STORE_CELL = 23; // STORE_CELL slot_index
+	int GUARD = 24; // GUARD dictionary_index (InlineGuard guard), push TRUE if the inlined code can be used
+	int INT_OP = 25; // INT_OP operator_index (see INT_OPERATORS), the two operands are ints
+	int GET_SLOT = 26; // GET_SLOT field_index, the object has a known shape
+	int PUT_SLOT = 27; // PUT_SLOT field_index, the object has a known shape
+
+	// the builtin operators of INT_OP
+	List<String> INT_OPERATORS = List.of("+", "-", "*", "/", "%", "==", "!=", "<", "<=", ">", ">=");
 
 	int PRINT = 20;
 
+	// number of ints used by the instruction, the opcode and its optional operand
+	static int length(int instr) {
+		return switch (instr) {
+			case DUP, POP, SWAP, RET, PRINT -> 1;
+			case CONST, LOOKUP, REGISTER, LOAD, STORE, FUNCALL, TAILCALL, GOTO, JUMP_IF_FALSE, NEW, GET, PUT,
+					LOAD_UPVAL, STORE_UPVAL, CLOSURE, BOX, LOAD_CELL, STORE_CELL, GUARD, INT_OP, GET_SLOT, PUT_SLOT -> 2;
+			default -> throw new AssertionError("unknown instr " + instr);
+		};
+	}
+
 	static void dump(int[] instrs, Dictionary dict) {
 		var strings = new String[] { null, "CONST", "LOOKUP", "REGISTER", "LOAD", "STORE", "DUP", "POP", "SWAP",
-				"FUNCALL", "RET", "GOTO", "JUMP_IF_FALSE", "NEW", "GET", "PUT", null, null, null, null, "PRINT" };
+				"FUNCALL", "RET", "GOTO", "JUMP_IF_FALSE", "NEW", "GET", "PUT", "TAILCALL", "LOAD_UPVAL", "STORE_UPVAL", "CLOSURE", "PRINT",
+				"BOX", "LOAD_CELL", "STORE_CELL", "GUARD", "INT_OP", "GET_SLOT", "PUT_SLOT" };
 		for (var pc = 0; pc < instrs.length;) {
 			System.err.print(pc + " ");
 			var instr = instrs[pc++];
@@ -31,15 +58,20 @@ public interface Instructions {
 					System.err.println(strings[instr]);
 				}
 				// int arg instr
-				case LOAD, STORE, GOTO, JUMP_IF_FALSE, FUNCALL -> {
+				case LOAD, STORE, GOTO, JUMP_IF_FALSE, FUNCALL, TAILCALL, LOAD_UPVAL, STORE_UPVAL, BOX, LOAD_CELL, STORE_CELL, GET_SLOT, PUT_SLOT -> {
 					var operand = instrs[pc++];
 					System.err.println(strings[instr] + " " + operand);
 				}
 				// dictionary constant arg instr
-				case LOOKUP, REGISTER, NEW, GET, PUT -> {
+				case LOOKUP, REGISTER, NEW, GET, PUT, CLOSURE, GUARD -> {
 					var operand = instrs[pc++];
 					System.err.println(strings[instr] + " " + TagValues.decodeDictObject(operand, dict));
 				}
+				// operator arg instr
+				case INT_OP -> {
+					var operand = instrs[pc++];
+					System.err.println(strings[instr] + " " + INT_OPERATORS.get(operand));
+				}
 				// int or dictionary arg instr
 				case CONST -> {
 					var operand = instrs[pc++];
@@ -0,0 +1,28 @@
+package fr.umlv.smalljs.stackinterp;
+
+import java.util.Arrays;
+
+// a growable stack of ints
+final class IntStack {
+	private int[] array = new int[16];
+	private int size;
+
+	void push(int value) {
+		if (size == array.length) {
+			array = Arrays.copyOf(array, size << 1);
+		}
+		array[size++] = value;
+	}
+
+	int pop() {
+		return array[--size];
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int[] toArray() {
+		return Arrays.copyOf(array, size);
+	}
+}
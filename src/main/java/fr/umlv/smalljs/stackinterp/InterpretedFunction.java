@@ -0,0 +1,57 @@
+package fr.umlv.smalljs.stackinterp;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.umlv.smalljs.rt.JSObject;
+
+final class InterpretedFunction extends JSObject {
+	// name of the field of a closure object that stores the function, the cells of the upvalues follow
+	static final String CLOSURE_FUNCTION = "__function__";
+
+	private final Code code;
+	private final int[] upvalues;
+	private final JSObject closureClass;
+
+	// upvalues[i] is where the cell of the upvalue i is when the closure is created,
+	// a slot of the enclosing function if positive, the upvalue -1 - upvalues[i] of the enclosing closure otherwise
+	private InterpretedFunction(String name, Code code, int[] upvalues) {
+		super(null, "function " + name);
+		this.code = requireNonNull(code);
+		this.upvalues = requireNonNull(upvalues);
+		if (upvalues.length == 0) {
+			closureClass = null;
+			return;
+		}
+		closureClass = JSObject.newObject(null);
+		closureClass.register(CLOSURE_FUNCTION, 0);
+		for (var i = 0; i < upvalues.length; i++) {
+			closureClass.register("upvalue" + i, closureClass.length());
+		}
+	}
+
+	static InterpretedFunction newFunction(String name, Code code, Invoker invoker) {
+		return newFunction(name, code, new int[0], invoker);
+	}
+
+	// the invoker is bound once the function is constructed, so this doesn't escape the constructor
+	static InterpretedFunction newFunction(String name, Code code, int[] upvalues, Invoker invoker) {
+		var function = new InterpretedFunction(name, code, upvalues);
+		function.bind(invoker);
+		function.register("apply", function);
+		function.register("__code__", code);
+		return function;
+	}
+
+	Code code() {
+		return code;
+	}
+
+	int[] upvalues() {
+		return upvalues;
+	}
+
+	// the class of the closure objects of this function or null if the function has no upvalue
+	JSObject closureClass() {
+		return closureClass;
+	}
+}
@@ -0,0 +1,205 @@
+package fr.umlv.smalljs.stackinterp;
+
+import static fr.umlv.smalljs.stackinterp.TagValues.BOXED_INT_HEADER;
+import static fr.umlv.smalljs.stackinterp.TagValues.BOXED_INT_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.OBJECT_HEADER_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.STRING_HEADER;
+import static fr.umlv.smalljs.stackinterp.TagValues.STRING_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeDictObject;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeSmallInt;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.isReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.isSmallInt;
+
+import fr.umlv.smalljs.rt.JSObject;
+
+final class MarkCompactGC implements GC {
+	private final Heap heap;
+	private int hp;  // heap pointer
+
+	MarkCompactGC(Heap heap) {
+		this.heap = heap;
+	}
+
+	@Override
+	public Heap heap() {
+		return heap;
+	}
+
+	@Override
+	public int allocate(int size) {
+		if (hp + size > heap.size()) {
+			return -1;
+		}
+		var ref = hp;
+		hp += size;
+		return ref;
+	}
+
+	static int objectSize(Heap heap, int ref, Dictionary dict) {
+		var vClass = heap.get(ref);
+		if (vClass == BOXED_INT_HEADER) {
+			return BOXED_INT_SIZE;
+		}
+		if (vClass == STRING_HEADER) {
+			return STRING_SIZE;
+		}
+		var clazz = (JSObject) decodeDictObject(vClass, dict);
+		return OBJECT_HEADER_SIZE + clazz.length();
+	}
+
+	// number of fields that may contain a reference (the value of a boxed int and the index of a string are raw)
+	static int referenceFieldCount(Heap heap, int ref, int size) {
+		var vClass = heap.get(ref);
+		return vClass == BOXED_INT_HEADER || vClass == STRING_HEADER ? 0 : size - OBJECT_HEADER_SIZE;
+	}
+
+	// the string table entry of a dead string object can be reused
+	static void freeString(Heap heap, int ref) {
+		if (heap.get(ref) == STRING_HEADER) {
+			heap.strings().free(heap.get(ref + OBJECT_HEADER_SIZE));
+		}
+	}
+
+	@Override
+	public void collect(int[] stack, int[] roots, Dictionary dict) {
+		hp = compact(heap, stack, roots, dict, 0, hp);
+	}
+
+	// compact the live objects of the regions (pairs of start/end addresses, in increasing order)
+	// to the bottom of the heap and returns the new heap pointer,
+	// the objects are only moved down so they can be moved in place
+	static int compact(Heap heap, int[] stack, int[] roots, Dictionary dict, int... regions) {
+		// 1. scan the stack and mark all reachable objects
+		var worklist = new IntStack();
+		for (var root : roots) {
+			mark(heap, decodeReference(stack[root]), worklist, dict);
+		}
+
+		// 2. compute the new addresses of the live objects and store them in the GC slot
+		var newHp = 0;
+		var moved = false;
+		for (var r = 0; r < regions.length; r += 2) {
+			for (var ref = regions[r]; ref < regions[r + 1];) {
+				var size = objectSize(heap, ref, dict);
+				if (heap.get(ref + GC.GC_OFFSET) == GC.GC_MARK) {
+					heap.set(ref + GC.GC_OFFSET, newHp);
+					moved |= newHp != ref;
+					newHp += size;
+				} else {
+					freeString(heap, ref);
+					moved = true;
+				}
+				ref += size;
+			}
+		}
+
+		// 3. check if memory can be freed
+		if (!moved) {
+			for (var ref = 0; ref < newHp;) {
+				heap.set(ref + GC.GC_OFFSET, GC.GC_EMPTY);
+				ref += objectSize(heap, ref, dict);
+			}
+			return newHp;
+		}
+
+		// 4. rewrite the field references of the live objects
+		for (var r = 0; r < regions.length; r += 2) {
+			for (var ref = regions[r]; ref < regions[r + 1];) {
+				var size = objectSize(heap, ref, dict);
+				if (heap.get(ref + GC.GC_OFFSET) != GC.GC_EMPTY) {
+					var fieldCount = referenceFieldCount(heap, ref, size);
+					for (var i = 0; i < fieldCount; i++) {
+						var value = heap.get(ref + OBJECT_HEADER_SIZE + i);
+						if (isReference(value)) {
+							heap.set(ref + OBJECT_HEADER_SIZE + i, forward(heap, value));
+						}
+					}
+				}
+				ref += size;
+			}
+		}
+
+		// 5. rewrite the references of the stack
+		for (var root : roots) {
+			stack[root] = forward(heap, stack[root]);
+		}
+
+		// 6. move the objects to their new addresses, a new address is always lower or equal
+		for (var r = 0; r < regions.length; r += 2) {
+			for (var ref = regions[r]; ref < regions[r + 1];) {
+				var size = objectSize(heap, ref, dict);
+				var newRef = heap.get(ref + GC.GC_OFFSET);
+				if (newRef != GC.GC_EMPTY) {
+					for (var i = 0; i < size; i++) {
+						heap.set(newRef + i, heap.get(ref + i));
+					}
+					heap.set(newRef + GC.GC_OFFSET, GC.GC_EMPTY);
+				}
+				ref += size;
+			}
+		}
+		return newHp;
+	}
+
+	private static int forward(Heap heap, int value) {
+		return encodeReference(heap.get(decodeReference(value) + GC.GC_OFFSET));
+	}
+
+	private static void mark(Heap heap, int root, IntStack worklist, Dictionary dict) {
+		if (heap.get(root + GC.GC_OFFSET) == GC.GC_MARK) {
+			return;
+		}
+		heap.set(root + GC.GC_OFFSET, GC.GC_MARK);
+		worklist.push(root);
+		while (!worklist.isEmpty()) {
+			var ref = worklist.pop();
+			var fieldCount = referenceFieldCount(heap, ref, objectSize(heap, ref, dict));
+			for (var i = 0; i < fieldCount; i++) {
+				var value = heap.get(ref + OBJECT_HEADER_SIZE + i);
+				if (isReference(value)) {
+					var fieldRef = decodeReference(value);
+					if (heap.get(fieldRef + GC.GC_OFFSET) != GC.GC_MARK) {
+						heap.set(fieldRef + GC.GC_OFFSET, GC.GC_MARK);
+						worklist.push(fieldRef);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void dump(String message, Dictionary dict) {
+		dumpObjects(message, heap, 0, hp, dict);
+	}
+
+	static void dumpObjects(String message, Heap heap, int start, int end, Dictionary dict) {
+		System.err.println(message);
+		for (var ref = start; ref < end;) {
+			var size = objectSize(heap, ref, dict);
+			var builder = new StringBuilder().append(ref).append(": [").append(heap.get(ref + GC.GC_OFFSET)).append("] ");
+			if (heap.get(ref) == BOXED_INT_HEADER) {
+				builder.append("boxed ").append(heap.get(ref + OBJECT_HEADER_SIZE));
+			} else if (heap.get(ref) == STRING_HEADER) {
+				builder.append("string ").append(heap.get(ref + OBJECT_HEADER_SIZE));
+			} else {
+				builder.append("object");
+				for (var i = OBJECT_HEADER_SIZE; i < size; i++) {
+					var value = heap.get(ref + i);
+					builder.append(' ');
+					if (isSmallInt(value)) {
+						builder.append(decodeSmallInt(value));
+					} else if (isReference(value)) {
+						builder.append('@').append(decodeReference(value));
+					} else {
+						builder.append(decodeDictObject(value, dict));
+					}
+				}
+			}
+			System.err.println(builder);
+			ref += size;
+		}
+		System.err.println();
+	}
+}
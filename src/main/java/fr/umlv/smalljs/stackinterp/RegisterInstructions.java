@@ -0,0 +1,65 @@
+package fr.umlv.smalljs.stackinterp;
+
+// instructions of the register VM, the operands are register indexes (relative to the base pointer
+// of the current frame) except the tag values, the dictionary indexes and the labels.
+// The registers 0 to n are the parameters (register 0 is this), then the local variables, then the temporaries.
+public interface RegisterInstructions {
+	int CONST = 1;          // CONST dst tag_value
+	int LOOKUP = 2;         // LOOKUP dst dictionary_index (String global_name)
+	int REGISTER = 3;       // REGISTER src dictionary_index (String global_name)
+	int MOVE = 4;           // MOVE dst src
+	int CALL = 5;           // CALL dst qualifier base argument_count, the receiver is in base, the arguments follow
+	int OP = 6;             // OP dst dictionary_index (String operator_name) left right
+	int RET = 7;            // RET src
+	int GOTO = 8;           // GOTO instr_index
+	int JUMP_IF_FALSE = 9;  // JUMP_IF_FALSE src instr_index
+	int NEW = 10;           // NEW dst dictionary_index (JSObject class) base, the field values are in base, base + 1, etc
+	int GET = 11;           // GET dst src dictionary_index (String field_name)
+	int PUT = 12;           // PUT object dictionary_index (String field_name) src
+
+	// number of ints used by the instruction, the opcode and its operands
+	static int length(int instr) {
+		return switch (instr) {
+			case RET, GOTO -> 2;
+			case CONST, LOOKUP, REGISTER, MOVE, JUMP_IF_FALSE -> 3;
+			case NEW, GET, PUT -> 4;
+			case CALL, OP -> 5;
+			default -> throw new AssertionError("unknown instr " + instr);
+		};
+	}
+
+	static void dump(int[] instrs, Dictionary dict) {
+		var strings = new String[] { null, "CONST", "LOOKUP", "REGISTER", "MOVE", "CALL", "OP", "RET", "GOTO",
+				"JUMP_IF_FALSE", "NEW", "GET", "PUT" };
+		for (var pc = 0; pc < instrs.length;) {
+			var instr = instrs[pc];
+			var builder = new StringBuilder().append(pc).append(' ').append(strings[instr]);
+			switch (instr) {
+				case CONST -> {
+					var operand = instrs[pc + 2];
+					builder.append(" r").append(instrs[pc + 1]).append(' ')
+							.append(TagValues.isSmallInt(operand) ? TagValues.decodeSmallInt(operand) : TagValues.decodeDictObject(operand, dict));
+				}
+				case LOOKUP, REGISTER -> builder.append(" r").append(instrs[pc + 1]).append(' ').append(TagValues.decodeDictObject(instrs[pc + 2], dict));
+				case MOVE -> builder.append(" r").append(instrs[pc + 1]).append(" r").append(instrs[pc + 2]);
+				case CALL -> builder.append(" r").append(instrs[pc + 1]).append(" r").append(instrs[pc + 2])
+						.append(" r").append(instrs[pc + 3]).append(' ').append(instrs[pc + 4]);
+				case OP -> builder.append(" r").append(instrs[pc + 1]).append(' ').append(TagValues.decodeDictObject(instrs[pc + 2], dict))
+						.append(" r").append(instrs[pc + 3]).append(" r").append(instrs[pc + 4]);
+				case RET -> builder.append(" r").append(instrs[pc + 1]);
+				case GOTO -> builder.append(' ').append(instrs[pc + 1]);
+				case JUMP_IF_FALSE -> builder.append(" r").append(instrs[pc + 1]).append(' ').append(instrs[pc + 2]);
+				case NEW -> builder.append(" r").append(instrs[pc + 1]).append(' ').append(TagValues.decodeDictObject(instrs[pc + 2], dict))
+						.append(" r").append(instrs[pc + 3]);
+				case GET -> builder.append(" r").append(instrs[pc + 1]).append(" r").append(instrs[pc + 2])
+						.append(' ').append(TagValues.decodeDictObject(instrs[pc + 3], dict));
+				case PUT -> builder.append(" r").append(instrs[pc + 1]).append(' ').append(TagValues.decodeDictObject(instrs[pc + 2], dict))
+						.append(" r").append(instrs[pc + 3]);
+				default -> throw new AssertionError("unknown instr " + instr);
+			}
+			System.err.println(builder);
+			pc += length(instr);
+		}
+		System.err.println();
+	}
+}
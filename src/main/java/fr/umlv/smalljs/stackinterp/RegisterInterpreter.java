@@ -0,0 +1,308 @@
+package fr.umlv.smalljs.stackinterp;
+
+import static fr.umlv.smalljs.rt.JSObject.UNDEFINED;
+import static fr.umlv.smalljs.stackinterp.GC.GC_EMPTY;
+import static fr.umlv.smalljs.stackinterp.GC.GC_OFFSET;
+import static fr.umlv.smalljs.stackinterp.TagValues.BOXED_INT_HEADER;
+import static fr.umlv.smalljs.stackinterp.TagValues.BOXED_INT_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.OBJECT_HEADER_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.STRING_HEADER;
+import static fr.umlv.smalljs.stackinterp.TagValues.STRING_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeAnyValue;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeDictObject;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeAnyValue;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeDictObject;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.fitsInSmallInt;
+import static fr.umlv.smalljs.stackinterp.TagValues.isReference;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.umlv.smalljs.ast.Script;
+import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.rt.PrintSink;
+import fr.umlv.smalljs.rt.Rope;
+
+// interpreter of the register VM (see RegisterInstructions), it uses the same values, heap and GC as the stack VM.
+// The registers of all frames are stored in one array, the frame of a callee starts at the register
+// containing the receiver, so the arguments are not copied. Unlike the stack VM, the activation
+// (bp, pc, function and destination register of the caller) is stored in a separate array,
+// so the registers only contain tagged values.
+public class RegisterInterpreter {
+	private static final int BP_OFFSET = 0;
+	private static final int PC_OFFSET = 1;
+	private static final int FUN_OFFSET = 2;
+	private static final int DST_OFFSET = 3;
+	private static final int FRAME_SIZE = 4;
+
+	private static final int REGISTER_COUNT = 4096;
+	private static final int MAX_FRAME_COUNT = 1024;
+
+	// the benchmark counts the dispatched instructions, only when run with -Dsmalljs.countDispatches=true
+	private static final boolean COUNT_DISPATCHES = Boolean.getBoolean("smalljs.countDispatches");
+
+	private static final LongAdder DISPATCH_COUNTER = new LongAdder();
+
+	// number of instructions executed by all the interpreters since the last reset, 0 if the dispatches are not counted
+	public static long dispatchCount() {
+		return DISPATCH_COUNTER.sum();
+	}
+
+	public static void resetDispatchCount() {
+		DISPATCH_COUNTER.reset();
+	}
+
+	private static Code codeOf(JSObject function) {
+		return function instanceof InterpretedFunction interpretedFunction ? interpretedFunction.code() : null;
+	}
+
+	// the frame of a callee starts inside the frame of the caller, so all the registers below the end
+	// of the largest frame are used and initialized
+	private static int[] rootRegisters(int[] registers, int[] frames, int fp, int bp, Code code, Dictionary dict) {
+		var end = bp + code.slotCount();
+		for (var frame = 0; frame < fp; frame += FRAME_SIZE) {
+			var frameCode = codeOf((JSObject) decodeDictObject(frames[frame + FUN_OFFSET], dict));
+			end = Math.max(end, frames[frame + BP_OFFSET] + frameCode.slotCount());
+		}
+		var roots = new IntStack();
+		for (var i = 0; i < end; i++) {
+			if (isReference(registers[i])) {
+				roots.push(i);
+			}
+		}
+		return roots.toArray();
+	}
+
+	private static int allocate(int size, GC gc, int[] registers, int[] frames, int fp, int bp, Code code, Dictionary dict) {
+		var ref = gc.allocate(size);
+		if (ref == -1) {
+			gc.collect(registers, rootRegisters(registers, frames, fp, bp, code, dict), dict);
+			ref = gc.allocate(size);
+			if (ref == -1) {
+				throw new Failure("out of memory");
+			}
+		}
+		return ref;
+	}
+
+	// an int that doesn't fit in 31 bits is boxed on the heap and a string is a string object of the heap,
+	// so neither of them is added to the dictionary
+	private static int encodeResult(Object value, GC gc, int[] registers, int[] frames, int fp, int bp, Code code, Dictionary dict) {
+		var heap = gc.heap();
+		if (Rope.isString(value)) {
+			var ref = allocate(STRING_SIZE, gc, registers, frames, fp, bp, code, dict);
+			heap.set(ref, STRING_HEADER);
+			heap.set(ref + GC_OFFSET, GC_EMPTY);
+			heap.set(ref + OBJECT_HEADER_SIZE, heap.strings().add((CharSequence) value));
+			return encodeReference(ref);
+		}
+		if (value instanceof Integer intValue && !fitsInSmallInt(intValue)) {
+			var ref = allocate(BOXED_INT_SIZE, gc, registers, frames, fp, bp, code, dict);
+			heap.set(ref, BOXED_INT_HEADER);
+			heap.set(ref + GC_OFFSET, GC_EMPTY);
+			heap.set(ref + OBJECT_HEADER_SIZE, intValue);
+			return encodeReference(ref);
+		}
+		return encodeAnyValue(value, dict);
+	}
+
+	public static Object execute(JSObject function, Dictionary dict, JSObject globalEnv) {
+		return execute(function, dict, globalEnv, GC.markCompact(Heap.ofArray(4096)));
+	}
+
+	public static Object execute(JSObject function, Dictionary dict, JSObject globalEnv, GC gc) {
+		var registers = new int[REGISTER_COUNT];
+		var frames = new int[MAX_FRAME_COUNT * FRAME_SIZE];
+		var heap = gc.heap();
+		var funTag = encodeDictObject(function, dict);
+		var code = codeOf(function);
+		var instrs = code.instrs();
+
+		var undefined = encodeDictObject(UNDEFINED, dict);
+
+		var pc = 0;  // instruction pointer
+		var bp = 0;  // base pointer
+		var fp = 0;  // frame pointer, the activations of the callers are in frames[0 .. fp]
+
+		for (var i = 0; i < code.slotCount(); i++) {
+			registers[i] = undefined;
+		}
+
+		for (;;) {
+			if (COUNT_DISPATCHES) {
+				DISPATCH_COUNTER.increment();
+			}
+			switch (instrs[pc]) {
+				case RegisterInstructions.CONST -> {
+					registers[bp + instrs[pc + 1]] = instrs[pc + 2];
+					pc += 3;
+				}
+				case RegisterInstructions.LOOKUP -> {
+					var name = (String) decodeDictObject(instrs[pc + 2], dict);
+					var value = globalEnv.lookup(name);
+					registers[bp + instrs[pc + 1]] = encodeResult(value, gc, registers, frames, fp, bp, code, dict);
+					pc += 3;
+				}
+				case RegisterInstructions.REGISTER -> {
+					var name = (String) decodeDictObject(instrs[pc + 2], dict);
+					globalEnv.register(name, decodeAnyValue(registers[bp + instrs[pc + 1]], dict, heap));
+					pc += 3;
+				}
+				case RegisterInstructions.MOVE -> {
+					registers[bp + instrs[pc + 1]] = registers[bp + instrs[pc + 2]];
+					pc += 3;
+				}
+				case RegisterInstructions.OP -> {
+					var operator = (JSObject) globalEnv.lookup((String) decodeDictObject(instrs[pc + 2], dict));
+					var left = decodeAnyValue(registers[bp + instrs[pc + 3]], dict, heap);
+					var right = decodeAnyValue(registers[bp + instrs[pc + 4]], dict, heap);
+					var value = operator.invoke(UNDEFINED, new Object[] { left, right });
+					registers[bp + instrs[pc + 1]] = encodeResult(value, gc, registers, frames, fp, bp, code, dict);
+					pc += 5;
+				}
+				case RegisterInstructions.CALL -> {
+					var dst = instrs[pc + 1];
+					var qualifier = registers[bp + instrs[pc + 2]];
+					var base = bp + instrs[pc + 3];
+					var argumentCount = instrs[pc + 4];
+					pc += 5;
+
+					var newFunction = (JSObject) decodeDictObject(qualifier, dict);
+					var newCode = codeOf(newFunction);
+					if (newCode == null) { // native call
+						var receiver = decodeAnyValue(registers[base], dict, heap);
+						var args = new Object[argumentCount];
+						for (var i = 0; i < argumentCount; i++) {
+							args[i] = decodeAnyValue(registers[base + 1 + i], dict, heap);
+						}
+						var value = newFunction.invoke(receiver, args);
+						registers[bp + dst] = encodeResult(value, gc, registers, frames, fp, bp, code, dict);
+						continue;
+					}
+
+					if (newCode.parameterCount() != argumentCount + 1/* this */) {
+						throw new Failure("wrong number of arguments for " + newFunction.getName() + " expected "
+								+ (newCode.parameterCount() - 1) + " but was " + argumentCount);
+					}
+					if (fp + FRAME_SIZE > frames.length || base + newCode.slotCount() > registers.length) {
+						throw new Failure("stack overflow");
+					}
+
+					// save the activation of the caller
+					frames[fp + BP_OFFSET] = bp;
+					frames[fp + PC_OFFSET] = pc;
+					frames[fp + FUN_OFFSET] = funTag;
+					frames[fp + DST_OFFSET] = dst;
+					fp += FRAME_SIZE;
+
+					// initialize all registers that are not parameters
+					bp = base;
+					for (var i = bp + newCode.parameterCount(); i < bp + newCode.slotCount(); i++) {
+						registers[i] = undefined;
+					}
+
+					pc = 0;
+					funTag = qualifier;
+					code = newCode;
+					instrs = code.instrs();
+				}
+				case RegisterInstructions.RET -> {
+					var result = registers[bp + instrs[pc + 1]];
+					if (fp == 0) {
+						// end of the interpreter
+						return decodeAnyValue(result, dict, heap);
+					}
+
+					// restore the activation of the caller
+					fp -= FRAME_SIZE;
+					bp = frames[fp + BP_OFFSET];
+					pc = frames[fp + PC_OFFSET];
+					funTag = frames[fp + FUN_OFFSET];
+					code = codeOf((JSObject) decodeDictObject(funTag, dict));
+					instrs = code.instrs();
+
+					registers[bp + frames[fp + DST_OFFSET]] = result;
+				}
+				case RegisterInstructions.GOTO -> {
+					pc = instrs[pc + 1];
+				}
+				case RegisterInstructions.JUMP_IF_FALSE -> {
+					if (registers[bp + instrs[pc + 1]] == TagValues.FALSE) {
+						pc = instrs[pc + 2];
+					} else {
+						pc += 3;
+					}
+				}
+				case RegisterInstructions.NEW -> {
+					var vClass = instrs[pc + 2];
+					var clazz = (JSObject) decodeDictObject(vClass, dict);
+
+					// allocate, the GC may run if the heap is full
+					var size = OBJECT_HEADER_SIZE + clazz.length();
+					var ref = gc.allocate(size);
+					if (ref == -1) {
+						gc.collect(registers, rootRegisters(registers, frames, fp, bp, code, dict), dict);
+						ref = gc.allocate(size);
+						if (ref == -1) {
+							throw new Failure("out of memory");
+						}
+					}
+
+					heap.set(ref, vClass);
+					heap.set(ref + GC_OFFSET, GC_EMPTY);
+					var base = bp + instrs[pc + 3];
+					for (var i = 0; i < clazz.length(); i++) {
+						heap.set(ref + OBJECT_HEADER_SIZE + i, registers[base + i]);
+					}
+					registers[bp + instrs[pc + 1]] = encodeReference(ref);
+					pc += 4;
+				}
+				case RegisterInstructions.GET -> {
+					var ref = decodeReference(registers[bp + instrs[pc + 2]]);
+					var clazz = (JSObject) decodeDictObject(heap.get(ref), dict);
+					var slotOrUndefined = clazz.lookup((String) decodeDictObject(instrs[pc + 3], dict));
+					registers[bp + instrs[pc + 1]] = slotOrUndefined == UNDEFINED
+							? undefined
+							: heap.get(ref + OBJECT_HEADER_SIZE + (int) slotOrUndefined);
+					pc += 4;
+				}
+				case RegisterInstructions.PUT -> {
+					var fieldName = (String) decodeDictObject(instrs[pc + 2], dict);
+					var ref = decodeReference(registers[bp + instrs[pc + 1]]);
+					var clazz = (JSObject) decodeDictObject(heap.get(ref), dict);
+					var slotOrUndefined = clazz.lookup(fieldName);
+					if (slotOrUndefined == UNDEFINED) {
+						throw new Failure("invalid field " + fieldName);
+					}
+					var address = ref + OBJECT_HEADER_SIZE + (int) slotOrUndefined;
+					var value = registers[bp + instrs[pc + 3]];
+					heap.set(address, value);
+					gc.writeBarrier(address, value);
+					pc += 4;
+				}
+				default -> throw new AssertionError("unknown instruction " + instrs[pc]);
+			}
+		}
+	}
+
+	public static void interpret(Script script, PrintStream outStream) {
+		interpret(script, outStream, GC.markCompact(Heap.ofArray(4096)));
+	}
+
+	public static void interpret(Script script, PrintStream outStream, GC gc) {
+		var sink = new PrintSink(outStream);
+		var globalEnv = StackInterpreter.createGlobalEnv(sink);
+		var dict = new Dictionary();
+		var function = RegisterRewriter.createFunction(Optional.of("main"), List.of(), script.body(), dict, globalEnv);
+		try {
+			execute(function, dict, globalEnv, gc);
+		} finally {
+			sink.flush();
+		}
+	}
+}
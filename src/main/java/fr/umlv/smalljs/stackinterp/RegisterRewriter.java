@@ -0,0 +1,258 @@
+package fr.umlv.smalljs.stackinterp;
+
+import static fr.umlv.smalljs.rt.JSObject.UNDEFINED;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.CALL;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.CONST;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.GET;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.GOTO;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.JUMP_IF_FALSE;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.LOOKUP;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.MOVE;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.NEW;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.OP;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.PUT;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.REGISTER;
+import static fr.umlv.smalljs.stackinterp.RegisterInstructions.RET;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeAnyValue;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeDictObject;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeSmallInt;
+import static fr.umlv.smalljs.stackinterp.TagValues.fitsInSmallInt;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import fr.umlv.smalljs.ast.Expr;
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.ElementAccess;
+import fr.umlv.smalljs.ast.Expr.ElementAssignment;
+import fr.umlv.smalljs.ast.Expr.FieldAccess;
+import fr.umlv.smalljs.ast.Expr.FieldAssignment;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.ast.Expr.FunCall;
+import fr.umlv.smalljs.ast.Expr.If;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
+import fr.umlv.smalljs.ast.Expr.Literal;
+import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
+import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
+import fr.umlv.smalljs.ast.Expr.MethodCall;
+import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
+import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.InlineGuard;
+import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.stackinterp.InstrRewriter.InstrBuffer;
+
+// generate the code of the register VM, a local variable is a register so reading it requires no instruction,
+// the temporaries are allocated like a stack above the local variables (top is the first free register),
+// an expression is evaluated in a destination register (dst) or in top if there is no destination (-1)
+public class RegisterRewriter {
+	// operators called with a dedicated instruction, they are native functions of the global environment
+	private static final Set<String> OPERATORS = Set.of("+", "-", "*", "/", "%", "==", "!=", "<", "<=", ">", ">=");
+
+	private final JSObject env;
+	private final InstrBuffer buffer = new InstrBuffer();
+	private final Dictionary dict;
+	private final JSObject globalEnv;
+	private int registerCount;
+
+	private RegisterRewriter(JSObject env, Dictionary dict, JSObject globalEnv) {
+		this.env = env;
+		this.dict = dict;
+		this.globalEnv = globalEnv;
+		this.registerCount = env.length();
+	}
+
+	public static JSObject createFunction(Optional<String> name, List<String> parameters, Block body, Dictionary dict, JSObject globalEnv) {
+		var env = JSObject.newEnv(null);
+
+		env.register("this", 0);
+		for (var parameter : parameters) {
+			env.register(parameter, env.length());
+		}
+		InstrRewriter.visitVariable(body, env, Map.of());
+
+		var rewriter = new RegisterRewriter(env, dict, globalEnv);
+		var top = env.length();
+		rewriter.visit(body, -1, top);
+		rewriter.buffer.emit(CONST).emit(rewriter.use(top)).emit(encodeDictObject(UNDEFINED, dict));
+		rewriter.buffer.emit(RET).emit(top);
+
+		var instrs = rewriter.buffer.toInstrs();
+		//RegisterInstructions.dump(instrs, dict);
+
+		var code = new Code(instrs, parameters.size() + 1 /* this */, rewriter.registerCount);
+		var function = InterpretedFunction.newFunction(name.orElse("lambda"), code, (self, receiver, args) -> {
+			if (receiver != UNDEFINED || args.length != 0) {
+				throw new Failure("can not interpret a function with a receiver and/or arguments");
+			}
+			return RegisterInterpreter.execute(self, dict, globalEnv);
+		});
+		dict.index(function);  // pre-resolve the function index
+		return function;
+	}
+
+	private int use(int register) {
+		registerCount = Math.max(registerCount, register + 1);
+		return register;
+	}
+
+	private int target(int dst, int top) {
+		return use(dst != -1 ? dst : top);
+	}
+
+	private void visitInto(Expr expression, int register, int top) {
+		var result = visit(expression, register, top);
+		if (result != register) {
+			buffer.emit(MOVE).emit(use(register)).emit(result);
+		}
+	}
+
+	// returns the register containing the value of the expression or -1 if the expression is an instruction
+	private int visit(Expr expression, int dst, int top) {
+		switch (expression) {
+			case Block(List<Expr> instrs, int lineNumber) -> {
+				for (var instr : instrs) {
+					// the value of an expression used as an instruction is just ignored
+					visit(instr, -1, top);
+				}
+				return -1;
+			}
+			case Literal<?>(Object literalValue, int lineNumber) -> {
+				var register = target(dst, top);
+				if (literalValue instanceof Integer value && fitsInSmallInt(value)) {
+					buffer.emit(CONST).emit(register).emit(encodeSmallInt(value));
+				} else {
+					buffer.emit(CONST).emit(register).emit(encodeDictObject(literalValue, dict));
+				}
+				return register;
+			}
+			case FunCall(LocalVarAccess(String name, int nameLineNumber), List<Expr> args, int lineNumber)
+					when args.size() == 2 && OPERATORS.contains(name) && env.lookup(name) == UNDEFINED -> {
+				var left = visit(args.get(0), -1, top);
+				var right = visit(args.get(1), -1, left == top ? top + 1 : top);
+				var register = target(dst, top);
+				buffer.emit(OP).emit(register).emit(encodeDictObject(name, dict)).emit(left).emit(right);
+				return register;
+			}
+			case FunCall(Expr qualifier, List<Expr> args, int lineNumber) -> {
+				// the receiver and the arguments must be in consecutive registers above all the used registers
+				var qualifierRegister = visit(qualifier, -1, top);
+				var base = qualifierRegister == top ? top + 1 : top;
+				buffer.emit(CONST).emit(use(base)).emit(encodeDictObject(UNDEFINED, dict));
+				for (var i = 0; i < args.size(); i++) {
+					visitInto(args.get(i), base + 1 + i, base + 2 + i);
+				}
+				var register = target(dst, top);
+				buffer.emit(CALL).emit(register).emit(qualifierRegister).emit(base).emit(args.size());
+				return register;
+			}
+			case LocalVarAccess(String name, int lineNumber) -> {
+				var slotOrUndefined = env.lookup(name);
+				if (slotOrUndefined != UNDEFINED) {
+					// no instruction, the value is already in a register
+					return (int) slotOrUndefined;
+				}
+				var register = target(dst, top);
+				buffer.emit(LOOKUP).emit(register).emit(encodeDictObject(name, dict));
+				return register;
+			}
+			case LocalVarAssignment(String name, Expr expr, boolean declaration, int lineNumber) -> {
+				var slotOrUndefined = env.lookup(name);
+				if (slotOrUndefined == UNDEFINED) {
+					throw new Failure("unknown local variable " + name);
+				}
+				// all instructions write their destination register last, so the value can be computed in place
+				visitInto(expr, (int) slotOrUndefined, top);
+				return -1;
+			}
+			case Fun(Optional<String> optName, List<String> parameters, Block body, int lineNumber) -> {
+				// no closure in the register VM, otherwise a captured variable would be looked up in the global environment
+				for (var variable : InstrRewriter.freeVariables(parameters, body)) {
+					if (env.lookup(variable) != UNDEFINED) {
+						throw new Failure("at line " + lineNumber + ", the variable " + variable + " captured by "
+								+ optName.orElse("lambda") + " is not supported by the register interpreter");
+					}
+				}
+				var function = createFunction(optName, parameters, body, dict, globalEnv);
+				var register = target(dst, top);
+				buffer.emit(CONST).emit(register).emit(encodeAnyValue(function, dict));
+				optName.ifPresent(name -> buffer.emit(REGISTER).emit(register).emit(encodeDictObject(name, dict)));
+				return register;
+			}
+			case Return(Expr expr, int lineNumber) -> {
+				var register = visit(expr, -1, top);
+				buffer.emit(RET).emit(register);
+				return -1;
+			}
+			case If(Expr condition, Block trueBlock, Block falseBlock, int lineNumber) -> {
+				var conditionRegister = visit(condition, -1, top);
+				var falsePlaceHolder = buffer.emit(JUMP_IF_FALSE).emit(conditionRegister).placeholder();
+				visit(trueBlock, -1, top);
+				var endPlaceHolder = buffer.emit(GOTO).placeholder();
+				buffer.patch(falsePlaceHolder, buffer.label());
+				visit(falseBlock, -1, top);
+				buffer.patch(endPlaceHolder, buffer.label());
+				return -1;
+			}
+			case While(Expr condition, Block body, int lineNumber) -> {
+				var loopLabel = buffer.label();
+				var conditionRegister = visit(condition, -1, top);
+				var endPlaceHolder = buffer.emit(JUMP_IF_FALSE).emit(conditionRegister).placeholder();
+				visit(body, -1, top);
+				buffer.emit(GOTO).emit(loopLabel);
+				buffer.patch(endPlaceHolder, buffer.label());
+				return -1;
+			}
+			case InlinedCall(FunCall call, List<String> parameters, Expr expr, InlineGuard guard, int lineNumber) -> {
+				// the register VM already calls a function without copying the arguments
+				return visit(call, dst, top);
+			}
+			case New(Map<String, Expr> initMap, int lineNumber) -> {
+				var clazz = JSObject.newObject(null);
+				var register = top;
+				for (var entry : initMap.entrySet()) {
+					clazz.register(entry.getKey(), clazz.length());
+					visitInto(entry.getValue(), register, register + 1);
+					register++;
+				}
+				var result = target(dst, top);
+				buffer.emit(NEW).emit(result).emit(encodeDictObject(clazz, dict)).emit(top);
+				return result;
+			}
+			case NewArray(List<Expr> elements, int lineNumber) ->
+					throw new Failure("at line " + lineNumber + ", arrays are not supported by the register interpreter");
+			case ElementAccess(Expr array, Expr index, int lineNumber) ->
+					throw new Failure("at line " + lineNumber + ", arrays are not supported by the register interpreter");
+			case ElementAssignment(Expr array, Expr index, Expr expr, int lineNumber) ->
+					throw new Failure("at line " + lineNumber + ", arrays are not supported by the register interpreter");
+			case FieldAccess(Expr receiver, String name, int lineNumber) -> {
+				var receiverRegister = visit(receiver, -1, top);
+				var register = target(dst, top);
+				buffer.emit(GET).emit(register).emit(receiverRegister).emit(encodeDictObject(name, dict));
+				return register;
+			}
+			case FieldAssignment(Expr receiver, String name, Expr expr, int lineNumber) -> {
+				var receiverRegister = visit(receiver, -1, top);
+				var register = visit(expr, -1, receiverRegister == top ? top + 1 : top);
+				buffer.emit(PUT).emit(receiverRegister).emit(encodeDictObject(name, dict)).emit(register);
+				return -1;
+			}
+			case MethodCall(Expr receiver, String name, List<Expr> args, int lineNumber) -> {
+				// the qualifier is in top, the receiver in base
+				var base = top + 1;
+				visitInto(receiver, base, base + 1);
+				buffer.emit(GET).emit(use(top)).emit(base).emit(encodeDictObject(name, dict));
+				for (var i = 0; i < args.size(); i++) {
+					visitInto(args.get(i), base + 1 + i, base + 2 + i);
+				}
+				var register = target(dst, top);
+				buffer.emit(CALL).emit(register).emit(top).emit(base).emit(args.size());
+				return register;
+			}
+		}
+	}
+}
@@ -1,23 +1,38 @@
 package fr.umlv.smalljs.stackinterp;
 
 import static fr.umlv.smalljs.rt.JSObject.UNDEFINED;
+import static fr.umlv.smalljs.stackinterp.GC.GC_EMPTY;
+import static fr.umlv.smalljs.stackinterp.GC.GC_OFFSET;
+import static fr.umlv.smalljs.stackinterp.TagValues.BOXED_INT_HEADER;
+import static fr.umlv.smalljs.stackinterp.TagValues.BOXED_INT_SIZE;
 import static fr.umlv.smalljs.stackinterp.TagValues.OBJECT_HEADER_SIZE;
+import static fr.umlv.smalljs.stackinterp.TagValues.STRING_HEADER;
+import static fr.umlv.smalljs.stackinterp.TagValues.STRING_SIZE;
 import static fr.umlv.smalljs.stackinterp.TagValues.decodeAnyValue;
 import static fr.umlv.smalljs.stackinterp.TagValues.decodeDictObject;
 import static fr.umlv.smalljs.stackinterp.TagValues.decodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.decodeSmallInt;
 import static fr.umlv.smalljs.stackinterp.TagValues.encodeAnyValue;
 import static fr.umlv.smalljs.stackinterp.TagValues.encodeDictObject;
 import static fr.umlv.smalljs.stackinterp.TagValues.encodeReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.encodeSmallInt;
+import static fr.umlv.smalljs.stackinterp.TagValues.fitsInSmallInt;
+import static fr.umlv.smalljs.stackinterp.TagValues.isReference;
+import static fr.umlv.smalljs.stackinterp.TagValues.isSmallInt;
 
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 import fr.umlv.smalljs.ast.Script;
+import fr.umlv.smalljs.ast.TypeInference;
 import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.InlineGuard;
 import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.rt.PrintSink;
+import fr.umlv.smalljs.rt.Rope;
 
 public class StackInterpreter {
 	private static void push(int[] stack, int sp, int value) {
@@ -40,7 +55,7 @@ public class StackInterpreter {
 		return stack[bp + offset];
 	}
 
-	private static void dumpStack(String message, int[] stack, int sp, int bp, Dictionary dict, int[] heap) {
+	private static void dumpStack(String message, int[] stack, int sp, int bp, Dictionary dict, Heap heap) {
 		System.err.println(message);
 		for (var i = sp - 1; i >= 0; i = i - 1) {
 			var value = stack[i];
@@ -53,23 +68,22 @@ public class StackInterpreter {
 		System.err.println();
 	}
 
-	private static void dumpHeap(String message, int[] heap, int hp, Dictionary dict) {
-		System.err.println(message);
-		for (var i = 0; i < hp; i++) {
-			var value = heap[i];
-			try {
-				System.err.println(i + ": " + value + " " + decodeAnyValue(value, dict, heap));
-			} catch (IndexOutOfBoundsException | ClassCastException e) {
-				System.err.println(i + ": " + value + " (can't decode)");
-			}
-		}
-		System.err.println();
-	}
 
+	private static final boolean DEBUG = false;
+
+	// the benchmark counts the dispatched instructions, only when run with -Dsmalljs.countDispatches=true
+	private static final boolean COUNT_DISPATCHES = Boolean.getBoolean("smalljs.countDispatches");
+
+	private static final LongAdder DISPATCH_COUNTER = new LongAdder();
+
+	// number of instructions executed by all the interpreters since the last reset, 0 if the dispatches are not counted
+	public static long dispatchCount() {
+		return DISPATCH_COUNTER.sum();
+	}
 
-	private static final int GC_OFFSET = 1;
-	private static final int GC_MARK = -1;
-	private static final int GC_EMPTY = -2;
+	public static void resetDispatchCount() {
+		DISPATCH_COUNTER.reset();
+	}
 
 	private static final int BP_OFFSET = 0;
 	private static final int PC_OFFSET = 1;
@@ -79,16 +93,144 @@ public class StackInterpreter {
 	private static final int RECEIVER_BASE_ARG_OFFSET = -1;
 	private static final int QUALIFIER_BASE_ARG_OFFSET = -2;
 	private static final int FUNCALL_PREFIX = 2;
+	// the qualifier of a call is kept just below the frame of the callee, for a closure it stores the upvalues
+	private static final int CLOSURE_BP_OFFSET = -1;
+
+	// class of the cells that store the local variables captured by a closure
+	private static final JSObject CELL_CLASS = cellClass();
+
+	private static JSObject cellClass() {
+		var cellClass = JSObject.newObject(null);
+		cellClass.register("value", 0);
+		return cellClass;
+	}
+
+	// value of a small int, of a boxed int or of a large int constant
+	private static int intValue(int value, Dictionary dict, Heap heap) {
+		return isSmallInt(value) ? decodeSmallInt(value) : (int) decodeAnyValue(value, dict, heap);
+	}
+
+	// same semantics as the builtins of the global environment, see Instructions.INT_OPERATORS
+	private static int intOperation(int operator, int left, int right) {
+		return switch (operator) {
+			case 0 -> left + right;
+			case 1 -> left - right;
+			case 2 -> left * right;
+			case 3 -> left / right;
+			case 4 -> left % right;
+			case 5 -> left == right ? 1 : 0;
+			case 6 -> left != right ? 1 : 0;
+			case 7 -> left < right ? 1 : 0;
+			case 8 -> left <= right ? 1 : 0;
+			case 9 -> left > right ? 1 : 0;
+			case 10 -> left >= right ? 1 : 0;
+			default -> throw new AssertionError("unknown operator " + operator);
+		};
+	}
+
+	private static void writeBoxedInt(Heap heap, int ref, int value) {
+		heap.set(ref, BOXED_INT_HEADER);
+		heap.set(ref + GC_OFFSET, GC_EMPTY);
+		heap.set(ref + OBJECT_HEADER_SIZE, value);
+	}
+
+	private static void writeString(Heap heap, int ref, CharSequence string) {
+		heap.set(ref, STRING_HEADER);
+		heap.set(ref + GC_OFFSET, GC_EMPTY);
+		heap.set(ref + OBJECT_HEADER_SIZE, heap.strings().add(string));
+	}
+
+	// find the stack slots containing a reference by walking the stack frames through the saved bp,
+	// the activation zones contain raw ints so they are skipped and the stack maps of the code
+	// tell which local slots are still live at pc
+	private static int[] rootSlots(int[] stack, int sp, int bp, int pc, Code code, Dictionary dict) {
+		var roots = new IntStack();
+		var top = sp;
+		for (;;) {
+			var activation = bp + code.slotCount();
+			var liveSlots = code.liveSlots(pc);
+			for (var i = bp; i < activation; i++) {
+				if ((liveSlots == null || liveSlots.get(i - bp)) && isReference(stack[i])) {
+					roots.push(i);
+				}
+			}
+			for (var i = activation + ACTIVATION_SIZE; i < top; i++) {
+				if (isReference(stack[i])) {
+					roots.push(i);
+				}
+			}
+			pc = stack[activation + PC_OFFSET];
+			if (pc == 0) {  // main function
+				return roots.toArray();
+			}
+			top = bp;
+			code = codeOf((JSObject) decodeDictObject(stack[activation + FUN_OFFSET], dict));
+			bp = stack[activation + BP_OFFSET];
+		}
+	}
+
+	private static int allocate(GC gc, int size, int[] stack, int sp, int bp, int pc, Code code, Dictionary dict) {
+		var ref = gc.allocate(size);
+		if (ref != -1) {
+			return ref;
+		}
+		if (DEBUG) {
+			gc.dump("before GC ", dict);
+		}
+		gc.collect(stack, rootSlots(stack, sp, bp, pc, code, dict), dict);
+		if (DEBUG) {
+			gc.dump("after GC ", dict);
+		}
+		ref = gc.allocate(size);
+		if (ref == -1) {
+			throw new Failure("out of memory");
+		}
+		return ref;
+	}
+
+	// encode a value coming from outside the interpreter, an int that doesn't fit in 31 bits is boxed on the heap
+	// and a string is a string object of the heap, so neither of them is added to the dictionary
+	private static int encodeOrAllocate(Object value, GC gc, int[] stack, int sp, int bp, int pc, Code code, Dictionary dict) {
+		if (Rope.isString(value)) {
+			var ref = allocate(gc, STRING_SIZE, stack, sp, bp, pc, code, dict);
+			writeString(gc.heap(), ref, (CharSequence) value);
+			return encodeReference(ref);
+		}
+		if (!(value instanceof Integer intValue) || fitsInSmallInt(intValue)) {
+			return encodeAnyValue(value, dict);
+		}
+		var ref = allocate(gc, BOXED_INT_SIZE, stack, sp, bp, pc, code, dict);
+		writeBoxedInt(gc.heap(), ref, intValue);
+		return encodeReference(ref);
+	}
+
+	private static Code codeOf(JSObject function) {
+		if (function instanceof InterpretedFunction interpretedFunction) {
+			return interpretedFunction.code();
+		}
+		// native function or function assembled by hand
+		var maybeCode = function.lookup("__code__");
+		return maybeCode == UNDEFINED ? null : (Code) maybeCode;
+	}
 
 	public static Object execute(JSObject function, Dictionary dict, JSObject globalEnv) {
+		return execute(function, dict, globalEnv, Heap.ofArray(96 /* 4096 */));
+	}
+
+	public static Object execute(JSObject function, Dictionary dict, JSObject globalEnv, Heap heap) {
+		return execute(function, dict, globalEnv, GC.markCompact(heap));
+	}
+
+	public static Object execute(JSObject function, Dictionary dict, JSObject globalEnv, GC gc) {
 		var stack = new int[96 /* 4096 */];
-		var heap = new int[96 /* 4096 */];
-		var code = (Code) function.lookup("__code__");
+		var heap = gc.heap();
+		var funTag = encodeDictObject(function, dict); // only hashed once, the activations store the tag
+		var code = codeOf(function);
 		var instrs = code.instrs();
 
 		var undefined = encodeDictObject(UNDEFINED, dict);
+		var cellClass = encodeDictObject(CELL_CLASS, dict);
 
-		var hp = 0; // heap pointer
 		var pc = 0; // instruction pointer
 		var bp = 0; // base pointer
 		var sp = bp + code.slotCount() + ACTIVATION_SIZE; // stack pointer
@@ -99,6 +241,9 @@ public class StackInterpreter {
 		}
 
 		for (;;) {
+			if (COUNT_DISPATCHES) {
+				DISPATCH_COUNTER.increment();
+			}
 			switch (instrs[pc++]) {
 				case Instructions.CONST -> {
 					//throw new UnsupportedOperationException("TODO CONST");
@@ -115,10 +260,13 @@ public class StackInterpreter {
 					String name = (String)decodeDictObject(indexTagValue,dict);
 					// lookup the name and push as any anyValue
 					var value = globalEnv.lookup(name);
-					var tagVal = encodeAnyValue(value,dict);
-					push(stack,sp++,tagVal);
+					// allocate before pushing, the slot above sp is not a root
+					var result = encodeOrAllocate(value, gc, stack, sp, bp, pc, code, dict);
+					push(stack,sp++,result);
 
-					dumpStack("in lookup", stack, sp, bp, dict, heap);
+					if (DEBUG) {
+						dumpStack("in lookup", stack, sp, bp, dict, heap);
+					}
 				}
 				case Instructions.REGISTER -> {
 					//throw new UnsupportedOperationException("TODO REGISTER");
@@ -171,10 +319,13 @@ public class StackInterpreter {
 					// push second value on top of the stack
           push(stack,sp++,value2);
 				}
-				case Instructions.FUNCALL -> {
+				case Instructions.FUNCALL, Instructions.TAILCALL -> {
 					//throw new UnsupportedOperationException("TODO FUNCALL");
-					// DEBUG
-					dumpStack(">start funcall dump", stack, sp, bp, dict, heap);
+					// a native tail call or a tail call from main is executed as a FUNCALL followed by a RET
+					var tailCall = instrs[pc - 1] == Instructions.TAILCALL;
+					if (DEBUG) {
+						dumpStack(">start funcall dump", stack, sp, bp, dict, heap);
+					}
 
 					// find argument count
 					var argumentCount = instrs[pc++];
@@ -186,8 +337,13 @@ public class StackInterpreter {
 
 					// decode qualifier
 					var funTagVal = stack[baseArg+QUALIFIER_BASE_ARG_OFFSET];
+					var closure = isReference(funTagVal);
+					if (closure) {
+						// the qualifier stays below the frame of the callee, the function is the first field of the closure
+						funTagVal = heap.get(decodeReference(funTagVal) + OBJECT_HEADER_SIZE);
+					}
 					var newFunction = (JSObject) decodeDictObject(funTagVal,dict);
-					{ // DEBUG
+					if (DEBUG) {
 						var receiver = decodeAnyValue(stack[baseArg + RECEIVER_BASE_ARG_OFFSET], dict, heap);
 						var args = new Object[argumentCount];
 						for (var i = 0; i < argumentCount; i++) {
@@ -196,9 +352,9 @@ public class StackInterpreter {
 						System.err.println("funcall " + newFunction.getName() + " with " + receiver + " " + Arrays.toString(args));
 					}
 
-					// check if the function contains a code attribute
-					var maybeCode = newFunction.lookup("__code__");
-					if (maybeCode == UNDEFINED) { // native call !
+					// find the code of the function, null if the function is native
+					var newCode = codeOf(newFunction);
+					if (newCode == null) { // native call !
 					// decode receiver
 					var receiver = decodeAnyValue(stack[baseArg + RECEIVER_BASE_ARG_OFFSET],dict,heap);
 
@@ -208,11 +364,14 @@ public class StackInterpreter {
 					  	args[i] = decodeAnyValue(stack[baseArg+i],dict,heap);
 					  }
 
-					   System.err.println("call native " + newFunction.getName() + " with " +
-					   receiver + " " + java.util.Arrays.toString(args));
+					  if (DEBUG) {
+					    System.err.println("call native " + newFunction.getName() + " with " +
+					    receiver + " " + java.util.Arrays.toString(args));
+					  }
 
 					  // call native function
-					  var result = encodeAnyValue(newFunction.invoke(receiver, args), dict);
+					  var value = newFunction.invoke(receiver, args);
+					  var result = encodeOrAllocate(value, gc, stack, sp, bp, pc, code, dict);
 
 					  // fixup sp (receiver and function must be dropped)
 					  sp = baseArg-2;
@@ -224,25 +383,49 @@ public class StackInterpreter {
 					//throw new UnsupportedOperationException("TODO FUNCALL");
 
 					// initialize new code
-					code = (Code) maybeCode;
+					var oldCode = code;
+					code = newCode;
 
 					// check number of arguments
 					if (code.parameterCount() != argumentCount + 1/* this */) {
 						throw new Failure("wrong number of arguments for " + newFunction.getName() + " expected "
 								+ (code.parameterCount() - 1) + " but was " + argumentCount);
 					}
+					if (!closure && newFunction instanceof InterpretedFunction interpretedFunction && interpretedFunction.upvalues().length != 0) {
+						throw new Failure("the closure " + newFunction.getName() + " is called without its upvalues");
+					}
 
-					// save bp/pc/code in activation zone
-					//stack[activation + offset] = ??
-					var activation = baseArg-1+ code.slotCount();
-					stack[activation + BP_OFFSET] = bp;
-					stack[activation + PC_OFFSET] = pc;
-					stack[activation + FUN_OFFSET] = encodeDictObject(function,dict);
-
-					// initialize pc, bp and sp
-					pc = 0;
-					bp = baseArg-1;
-					sp = activation + ACTIVATION_SIZE;
+					if (tailCall && bp != 0) {
+						// reuse the current frame, keep the activation of the caller
+						var oldActivation = bp + oldCode.slotCount();
+						var savedBp = stack[oldActivation + BP_OFFSET];
+						var savedPc = stack[oldActivation + PC_OFFSET];
+						var savedFunTag = stack[oldActivation + FUN_OFFSET];
+
+						// move the qualifier, the receiver and the arguments down to the start of the frame
+						var newBaseArg = bp + 1;
+						System.arraycopy(stack, baseArg + QUALIFIER_BASE_ARG_OFFSET, stack, newBaseArg + QUALIFIER_BASE_ARG_OFFSET, argumentCount + FUNCALL_PREFIX);
+
+						var activation = bp + code.slotCount();
+						stack[activation + BP_OFFSET] = savedBp;
+						stack[activation + PC_OFFSET] = savedPc;
+						stack[activation + FUN_OFFSET] = savedFunTag;
+
+						pc = 0;
+						sp = activation + ACTIVATION_SIZE;
+					} else {
+						// save bp/pc/code in activation zone
+						//stack[activation + offset] = ??
+						var activation = baseArg-1+ code.slotCount();
+						stack[activation + BP_OFFSET] = bp;
+						stack[activation + PC_OFFSET] = pc;
+						stack[activation + FUN_OFFSET] = funTag;
+
+						// initialize pc, bp and sp
+						pc = 0;
+						bp = baseArg-1;
+						sp = activation + ACTIVATION_SIZE;
+					}
 
 					// initialize all locals that are not parameters
 					for (var i = bp + code.parameterCount(); i < bp + code.slotCount(); i++) {
@@ -251,20 +434,25 @@ public class StackInterpreter {
 
 					// initialize function and instrs of the new function
 					function = newFunction;
+					funTag = funTagVal;
 					instrs = code.instrs();
 
-					// DEBUG
-					 dumpStack(">end funcall dump", stack, sp, bp, dict, heap);
+					if (DEBUG) {
+						dumpStack(">end funcall dump", stack, sp, bp, dict, heap);
+					}
 				}
 				case Instructions.RET -> {
 					//throw new UnsupportedOperationException("TODO RET");
-					// DEBUG
-					dumpStack("> start ret dump", stack, sp, bp, dict, heap);
+					if (DEBUG) {
+						dumpStack("> start ret dump", stack, sp, bp, dict, heap);
+					}
 
 					// get the return value from the top of the stack
 					int result =pop(stack,--sp);
 
-					System.err.println("ret " + decodeAnyValue(result, dict, heap));
+					if (DEBUG) {
+						System.err.println("ret " + decodeAnyValue(result, dict, heap));
+					}
 
 					// find activation and restore pc
 					int activation = bp+ code.slotCount();
@@ -276,18 +464,20 @@ public class StackInterpreter {
 
 					// restore sp, function and bp
 					sp = bp-1;
-					function = (JSObject) decodeDictObject(stack[activation + FUN_OFFSET],dict);
+					funTag = stack[activation + FUN_OFFSET];
+					function = (JSObject) decodeDictObject(funTag,dict);
 					bp = stack[activation + BP_OFFSET];
 
 					// restore code and instrs
-					code = (Code) function.lookup("__code__");
+					code = codeOf(function);
 					instrs = code.instrs();
 
 					// push return value
 					push(stack,sp++,result);
 
-					// DEBUG
-					 dumpStack("> end ret dump", stack, sp, bp, dict, heap);
+					if (DEBUG) {
+						dumpStack("> end ret dump", stack, sp, bp, dict, heap);
+					}
 				}
 				case Instructions.GOTO -> {
 					//throw new UnsupportedOperationException("TODO GOTO");
@@ -314,30 +504,21 @@ public class StackInterpreter {
 					var vClass = instrs[pc++];
 					var clazz = (JSObject)  decodeAnyValue(vClass,dict,heap);;
 
-					// out of memory ?
-					if (hp + OBJECT_HEADER_SIZE + clazz.length() >= heap.length) {
-						dumpHeap("before GC ", heap, hp, dict);
-
-						throw new UnsupportedOperationException("TODO !!! GC !!!");
-
-					//	dumpHeap("after GC ", heap, hp, dict);
-					}
-
-					var ref = hp;
+					// allocate, the GC may run if the heap is full
+					var ref = allocate(gc, OBJECT_HEADER_SIZE + clazz.length(), stack, sp, bp, pc, code, dict);
 
 					// write the class on heap
-					heap[ref] = vClass;
+					heap.set(ref, vClass);
 					// write the empty GC mark
-					heap[ref + GC_OFFSET] = GC_EMPTY;
+					heap.set(ref + GC_OFFSET, GC_EMPTY);
 					// get all fields values from the stack and write them on heap
 					var baseArg = sp - clazz.length();
 					for (var i = 0; i < clazz.length(); i++) {
-						heap[ref + OBJECT_HEADER_SIZE + i] = stack[baseArg + i];
+						heap.set(ref + OBJECT_HEADER_SIZE + i, stack[baseArg + i]);
 					}
 
-					// adjust stack pointer and heap pointer
+					// adjust stack pointer
 					sp = baseArg;
-					hp += OBJECT_HEADER_SIZE+ clazz.length();
 
 					// push the reference on top of the stack
 					push(stack,sp++,encodeReference(ref));
@@ -352,12 +533,11 @@ public class StackInterpreter {
 					int value = pop(stack,--sp) ;
 					int ref = decodeReference(value);
 					// get class on heap from the reference
-					int vClass = heap[ref];
+					int vClass = heap.get(ref);
 					// get JSObject from class
 					var clazz = (JSObject) decodeDictObject(vClass, dict);
 					// get field slot from JSObject
 					var slot = clazz.lookup(fieldName);
-					System.out.println(slot);
 					if (slot == UNDEFINED) {
 					// no slot, push undefined
 						push(stack,sp++,undefined);
@@ -368,7 +548,7 @@ public class StackInterpreter {
 					int fieldIndex = (int) slot;
 					// get field value
 
-					int fieldValue = heap[ref+OBJECT_HEADER_SIZE+fieldIndex];
+					int fieldValue = heap.get(ref+OBJECT_HEADER_SIZE+fieldIndex);
 					// push field value on top of the stack
 					push(stack,sp++,fieldValue);
 				}
@@ -379,9 +559,9 @@ public class StackInterpreter {
 					// get new value from the top of the stack
 					var value = pop(stack,--sp);
 					// get reference from the top of the stack
-					 var ref = pop(stack,--sp);
+					var ref = decodeReference(pop(stack,--sp));
 					// get class on heap from the reference
-					var vClass = heap[ref];
+					var vClass = heap.get(ref);
 					// get JSObject from class
 					var clazz = (JSObject) decodeDictObject(vClass, dict);
 					// get field slot from JSObject
@@ -393,7 +573,91 @@ public class StackInterpreter {
 					// get the field index
 					var fieldIndex = (int) slotOrUndefined;
 					// store field value from the top of the stack on heap
-					heap[ref+OBJECT_HEADER_SIZE+fieldIndex] = value;
+					heap.set(ref+OBJECT_HEADER_SIZE+fieldIndex, value);
+					// an old object may now reference a young object
+					gc.writeBarrier(ref+OBJECT_HEADER_SIZE+fieldIndex, value);
+				}
+				case Instructions.LOAD_UPVAL -> {
+					var closure = decodeReference(stack[bp + CLOSURE_BP_OFFSET]);
+					var cell = decodeReference(heap.get(closure + OBJECT_HEADER_SIZE + 1 + instrs[pc++]));
+					push(stack, sp++, heap.get(cell + OBJECT_HEADER_SIZE));
+				}
+				case Instructions.STORE_UPVAL -> {
+					var closure = decodeReference(stack[bp + CLOSURE_BP_OFFSET]);
+					var cell = decodeReference(heap.get(closure + OBJECT_HEADER_SIZE + 1 + instrs[pc++]));
+					var value = pop(stack, --sp);
+					heap.set(cell + OBJECT_HEADER_SIZE, value);
+					gc.writeBarrier(cell + OBJECT_HEADER_SIZE, value);
+				}
+				case Instructions.CLOSURE -> {
+					var vFunction = instrs[pc++];
+					var closureFunction = (InterpretedFunction) decodeDictObject(vFunction, dict);
+					var upvalues = closureFunction.upvalues();
+
+					// allocate, the GC may run, the slots containing a cell are always live
+					var ref = allocate(gc, OBJECT_HEADER_SIZE + 1 + upvalues.length, stack, sp, bp, pc, code, dict);
+					heap.set(ref, encodeDictObject(closureFunction.closureClass(), dict));
+					heap.set(ref + GC_OFFSET, GC_EMPTY);
+					heap.set(ref + OBJECT_HEADER_SIZE, vFunction);
+					for (var i = 0; i < upvalues.length; i++) {
+						var upvalue = upvalues[i];
+						var cell = upvalue >= 0
+								? stack[bp + upvalue]
+								: heap.get(decodeReference(stack[bp + CLOSURE_BP_OFFSET]) + OBJECT_HEADER_SIZE + 1 + (-1 - upvalue));
+						heap.set(ref + OBJECT_HEADER_SIZE + 1 + i, cell);
+					}
+					push(stack, sp++, encodeReference(ref));
+				}
+				case Instructions.BOX -> {
+					var offset = instrs[pc++];
+					// allocate first, the GC may move the value of the slot
+					var ref = allocate(gc, OBJECT_HEADER_SIZE + 1, stack, sp, bp, pc, code, dict);
+					heap.set(ref, cellClass);
+					heap.set(ref + GC_OFFSET, GC_EMPTY);
+					heap.set(ref + OBJECT_HEADER_SIZE, load(stack, bp, offset));
+					store(stack, bp, offset, encodeReference(ref));
+				}
+				case Instructions.LOAD_CELL -> {
+					var cell = decodeReference(load(stack, bp, instrs[pc++]));
+					push(stack, sp++, heap.get(cell + OBJECT_HEADER_SIZE));
+				}
+				case Instructions.STORE_CELL -> {
+					var cell = decodeReference(load(stack, bp, instrs[pc++]));
+					var value = pop(stack, --sp);
+					heap.set(cell + OBJECT_HEADER_SIZE, value);
+					gc.writeBarrier(cell + OBJECT_HEADER_SIZE, value);
+				}
+				case Instructions.INT_OP -> {
+					// no call to the builtin, the operands are known to be ints
+					var operator = instrs[pc++];
+					var right = intValue(pop(stack, --sp), dict, heap);
+					var left = intValue(pop(stack, --sp), dict, heap);
+					var result = intOperation(operator, left, right);
+					if (fitsInSmallInt(result)) {
+						push(stack, sp++, encodeSmallInt(result));
+						continue;
+					}
+					var ref = allocate(gc, BOXED_INT_SIZE, stack, sp, bp, pc, code, dict);
+					writeBoxedInt(heap, ref, result);
+					push(stack, sp++, encodeReference(ref));
+				}
+				case Instructions.GET_SLOT -> {
+					// the object has a known shape, so no lookup of the field in the class
+					var fieldIndex = instrs[pc++];
+					var ref = decodeReference(pop(stack, --sp));
+					push(stack, sp++, heap.get(ref + OBJECT_HEADER_SIZE + fieldIndex));
+				}
+				case Instructions.PUT_SLOT -> {
+					var fieldIndex = instrs[pc++];
+					var value = pop(stack, --sp);
+					var ref = decodeReference(pop(stack, --sp));
+					var address = ref + OBJECT_HEADER_SIZE + fieldIndex;
+					heap.set(address, value);
+					gc.writeBarrier(address, value);
+				}
+				case Instructions.GUARD -> {
+					var guard = (InlineGuard) decodeDictObject(instrs[pc++], dict);
+					push(stack, sp++, guard.isValid(globalEnv) ? TagValues.TRUE : TagValues.FALSE);
 				}
 				case Instructions.PRINT -> {
 					//throw new UnsupportedOperationException("TODO PRINT");
@@ -415,40 +679,58 @@ public class StackInterpreter {
 	}
 
 
-	@SuppressWarnings("unchecked")
+	// the output is flushed after each print
 	public static JSObject createGlobalEnv(PrintStream outStream) {
+		return createGlobalEnv(new PrintSink(outStream, 0));
+	}
+
+	@SuppressWarnings("unchecked")
+	public static JSObject createGlobalEnv(PrintSink sink) {
 		JSObject globalEnv = JSObject.newEnv(null);
 		globalEnv.register("global", globalEnv);
 		globalEnv.register("print", JSObject.newFunction("print", (self, receiver, args) -> {
-			System.err.println("print called with " + Arrays.toString(args));
-			outStream.println(Arrays.stream(args).map(Object::toString).collect(Collectors.joining(" ")));
+			sink.print(args);
 			return UNDEFINED;
 		}));
-		globalEnv.register("+", JSObject.newFunction("+", (self, receiver, args) -> (Integer) args[0] + (Integer) args[1]));
+		globalEnv.register("+", JSObject.newFunction("+", (self, receiver, args) ->
+				args[0] instanceof Integer left && args[1] instanceof Integer right ? (Object) (left + right) : Rope.concat(args[0], args[1])));
 		globalEnv.register("-", JSObject.newFunction("-", (self, receiver, args) -> (Integer) args[0] - (Integer) args[1]));
 		globalEnv.register("/", JSObject.newFunction("/", (self, receiver, args) -> (Integer) args[0] / (Integer) args[1]));
 		globalEnv.register("*", JSObject.newFunction("*", (self, receiver, args) -> (Integer) args[0] * (Integer) args[1]));
 		globalEnv.register("%", JSObject.newFunction("%", (self, receiver, args) -> (Integer) args[0] % (Integer) args[1]));
 
-		globalEnv.register("==", JSObject.newFunction("==", (self, receiver, args) -> args[0].equals(args[1]) ? 1 : 0));
-		globalEnv.register("!=", JSObject.newFunction("!=", (self, receiver, args) -> !args[0].equals(args[1]) ? 1 : 0));
+		globalEnv.register("==", JSObject.newFunction("==", (self, receiver, args) -> Rope.flatten(args[0]).equals(Rope.flatten(args[1])) ? 1 : 0));
+		globalEnv.register("!=", JSObject.newFunction("!=", (self, receiver, args) -> !Rope.flatten(args[0]).equals(Rope.flatten(args[1])) ? 1 : 0));
 		globalEnv.register("<", JSObject.newFunction("<",
-				(self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) < 0) ? 1 : 0));
+				(self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) < 0) ? 1 : 0));
 		globalEnv.register("<=", JSObject.newFunction("<=",
-				(self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) <= 0) ? 1 : 0));
+				(self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) <= 0) ? 1 : 0));
 		globalEnv.register(">", JSObject.newFunction(">",
-				(self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) > 0) ? 1 : 0));
+				(self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) > 0) ? 1 : 0));
 		globalEnv.register(">=", JSObject.newFunction(">=",
-				(self, receiver, args) -> (((Comparable<Object>) args[0]).compareTo(args[1]) >= 0) ? 1 : 0));
+				(self, receiver, args) -> (((Comparable<Object>) Rope.flatten(args[0])).compareTo(Rope.flatten(args[1])) >= 0) ? 1 : 0));
 
 		return globalEnv;
 	}
 
 	public static void interpret(Script script, PrintStream outStream) {
-		JSObject globalEnv = createGlobalEnv(outStream);
+		interpret(script, outStream, Heap.ofArray(96 /* 4096 */));
+	}
+
+	public static void interpret(Script script, PrintStream outStream, Heap heap) {
+		interpret(script, outStream, GC.markCompact(heap));
+	}
+
+	public static void interpret(Script script, PrintStream outStream, GC gc) {
+		var sink = new PrintSink(outStream);
+		JSObject globalEnv = createGlobalEnv(sink);
 		var body = script.body();
-		var function = InstrRewriter.createFunction(Optional.of("main"), List.of(), body, new Dictionary(),
-				globalEnv);
-		function.invoke(UNDEFINED, new Object[0]);
+		var dict = new Dictionary();
+		var function = InstrRewriter.createFunction(Optional.of("main"), List.of(), body, dict, globalEnv, TypeInference.infer(script));
+		try {
+			execute(function, dict, globalEnv, gc);
+		} finally {
+			sink.flush();
+		}
 	}
 }
@@ -0,0 +1,38 @@
+package fr.umlv.smalljs.stackinterp;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+
+// the strings (a String or a Rope) computed at runtime, unlike the constants of the dictionary they are
+// referenced by a string object of the heap (see TagValues.STRING_HEADER) that stores their index,
+// the GC frees the index when the string object is not reachable anymore, so the index can be reused
+final class StringTable {
+	private final ArrayList<CharSequence> strings = new ArrayList<>();
+	private final IntStack freeIndexes = new IntStack();
+
+	int add(CharSequence string) {
+		requireNonNull(string);
+		if (!freeIndexes.isEmpty()) {
+			var index = freeIndexes.pop();
+			strings.set(index, string);
+			return index;
+		}
+		strings.add(string);
+		return strings.size() - 1;
+	}
+
+	CharSequence get(int index) {
+		return strings.get(index);
+	}
+
+	void free(int index) {
+		strings.set(index, null);
+		freeIndexes.push(index);
+	}
+
+	// number of indexes used, freed or not
+	int capacity() {
+		return strings.size();
+	}
+}
@@ -5,19 +5,24 @@ import fr.umlv.smalljs.rt.JSObject;
 public interface TagValues {
 	// every value are stored as 32 bits integer, boolean, small ints, constant (dictionary object) and reference
 	// the suffix indicates the kind of value
-	//    1 -> small integers (SmallInt) or boolean (TRUE/FALSE)
+	//    1 -> small integers (SmallInt, signed on 31 bits) or boolean (TRUE/FALSE)
 	//   10 -> dictionary index
 	//   00 -> reference 
+	// an int that doesn't fit in 31 bits is boxed on the heap (see BOXED_INT_HEADER)
+	// and a string computed at runtime is a string object of the heap (see STRING_HEADER)
 	
   static boolean isSmallInt(int value) {
     return (value & 0b1) == 0b1;
   }
+  static boolean fitsInSmallInt(int value) {
+    return value >= SMALL_INT_MIN && value <= SMALL_INT_MAX;
+  }
 
   static int encodeSmallInt(int value) {
     return value << 1 | 0b1;
   }
   static int decodeSmallInt(int value) {
-    return value >>> 1;
+    return value >> 1;
   }
 
   static int encodeDictObject(Object object, Dictionary dict) {
@@ -38,19 +43,29 @@ public interface TagValues {
     return value >>> 2;
   }
 
-  static Object decodeAnyValue(int tagValue, Dictionary dict, int[] heap) {
+  static Object decodeAnyValue(int tagValue, Dictionary dict, Heap heap) {
     if (isSmallInt(tagValue)) {
       return decodeSmallInt(tagValue);
     }
     if (isReference(tagValue)) {
       var ref = decodeReference(tagValue);
-      var clazz = (JSObject) decodeDictObject(heap[ref], dict);
-      return clazz.mirror(offset -> decodeAnyValue(heap[ref + OBJECT_HEADER_SIZE + (int)offset], dict, heap));
+      if (heap.get(ref) == BOXED_INT_HEADER) {
+        return heap.get(ref + OBJECT_HEADER_SIZE);
+      }
+      if (heap.get(ref) == STRING_HEADER) {
+        return heap.strings().get(heap.get(ref + OBJECT_HEADER_SIZE));
+      }
+      var clazz = (JSObject) decodeDictObject(heap.get(ref), dict);
+      if (clazz.lookup(InterpretedFunction.CLOSURE_FUNCTION) != JSObject.UNDEFINED) {
+        // a closure is seen as its function outside of the interpreter
+        return decodeDictObject(heap.get(ref + OBJECT_HEADER_SIZE), dict);
+      }
+      return clazz.mirror(offset -> decodeAnyValue(heap.get(ref + OBJECT_HEADER_SIZE + (int)offset), dict, heap));
     }
     return decodeDictObject(tagValue, dict);
   }
   static int encodeAnyValue(Object object, Dictionary dict) {
-  	if (object instanceof Integer smallInt && smallInt >= 0) {
+  	if (object instanceof Integer smallInt && fitsInSmallInt(smallInt)) {
       return encodeSmallInt(smallInt);
     }
     return encodeDictObject(object, dict);
@@ -59,5 +74,18 @@ public interface TagValues {
   int TRUE = encodeSmallInt(1);
   int FALSE = encodeSmallInt(0);
   
+  int SMALL_INT_MIN = -(1 << 30);
+  int SMALL_INT_MAX = (1 << 30) - 1;
+
   int OBJECT_HEADER_SIZE = 2;  // CLASS_DESCRIPTOR + GC_POINTER
+
+  // a boxed int uses a small int as class descriptor (that can not be confused with a dictionary index)
+  // followed by the int value stored raw (not tagged)
+  int BOXED_INT_HEADER = encodeSmallInt(0);
+  int BOXED_INT_SIZE = OBJECT_HEADER_SIZE + 1;
+
+  // a string object uses another small int as class descriptor followed by the index (raw)
+  // of the string in the string table of the heap
+  int STRING_HEADER = encodeSmallInt(1);
+  int STRING_SIZE = OBJECT_HEADER_SIZE + 1;
 }
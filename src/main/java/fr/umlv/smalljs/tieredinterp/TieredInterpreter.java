@@ -0,0 +1,173 @@
+package fr.umlv.smalljs.tieredinterp;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.umlv.smalljs.ast.Expr;
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.While;
+import fr.umlv.smalljs.ast.Script;
+import fr.umlv.smalljs.astinterp.ASTInterpreter;
+import fr.umlv.smalljs.astinterp.ASTInterpreter.FunctionFactory;
+import fr.umlv.smalljs.jvminterp.ByteCodeRewriter;
+import fr.umlv.smalljs.jvminterp.CompileOptions;
+import fr.umlv.smalljs.jvminterp.JVMInterpreter;
+import fr.umlv.smalljs.rt.Failure;
+import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.rt.PrintSink;
+
+// an engine that starts to run all functions with the AST interpreter and compiles a function
+// with the JVM backend when it has been called enough times.
+// The method handle of a function is the dynamic invoker of a mutable call site, so the callers,
+// interpreted or compiled, see the compiled code when the target of the call site is changed.
+// A loop that runs long enough in an interpreted call jumps into a compiled version of the function
+// (on-stack replacement) that continues the call from the head of the loop.
+public class TieredInterpreter {
+  private static final int DEFAULT_THRESHOLD = 100;
+
+  private static final MethodHandle INTERPRET;
+  static {
+    var lookup = MethodHandles.lookup();
+    try {
+      INTERPRET = lookup.findVirtual(TieredFunction.class, "interpret", methodType(Object.class, Object.class, Object[].class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static final LongAdder COMPILATION_COUNTER = new LongAdder();
+  private static final LongAdder OSR_COUNTER = new LongAdder();
+
+  // number of functions compiled by all the interpreters since the last reset
+  public static long compilationCount() {
+    return COMPILATION_COUNTER.sum();
+  }
+
+  public static void resetCompilationCount() {
+    COMPILATION_COUNTER.reset();
+  }
+
+  // number of loops that have continued in compiled code since the last reset
+  public static long osrCount() {
+    return OSR_COUNTER.sum();
+  }
+
+  public static void resetOSRCount() {
+    OSR_COUNTER.reset();
+  }
+
+  private static final class TieredFunction implements FunctionFactory {
+    private final String name;
+    private final List<String> parameters;
+    private final Block body;
+    private final JSObject env;
+    private final int lineNumber;
+    private final JSObject globalEnv;
+    private final int threshold;
+    private final MutableCallSite callSite;
+    private JSObject self;  // the function object
+    private int invocationCount;  // not thread safe, at worst the function is compiled twice
+    private int backEdgeCount;
+    // the on-stack replacement code of each loop, indexed by the condition of the loop
+    private final IdentityHashMap<Expr, Optional<MethodHandle>> loopCodes = new IdentityHashMap<>();
+
+    private TieredFunction(String name, List<String> parameters, Block body, JSObject env, int lineNumber, JSObject globalEnv, int threshold) {
+      this.name = name;
+      this.parameters = parameters;
+      this.body = body;
+      this.env = env;
+      this.lineNumber = lineNumber;
+      this.globalEnv = globalEnv;
+      this.threshold = threshold;
+      var interpret = INTERPRET.bindTo(this).asCollector(Object[].class, parameters.size());
+      this.callSite = new MutableCallSite(interpret);
+    }
+
+    // only the functions declared at top level are compiled, the local variables of the enclosing functions
+    // are not known by the JVM backend. A function that declares functions is not compiled either,
+    // the interpreted closures capture the variables by copy while the compiled ones share them in cells
+    private boolean isCompilable() {
+      return env == globalEnv && !ByteCodeRewriter.declaresFunctions(body);
+    }
+
+    @SuppressWarnings("unused")  // used by a method handle
+    private Object interpret(Object receiver, Object[] args) {
+      if (++invocationCount == threshold && isCompilable()) {
+        compile();
+      }
+      return ASTInterpreter.invoke(parameters, body, env, lineNumber, this, receiver, args);
+    }
+
+    // the loops of all the calls share the same counter, like the invocations
+    @Override
+    public Object backEdge(While loop, JSObject callEnv) {
+      if (++backEdgeCount < threshold || !isCompilable()) {
+        return null;
+      }
+      if (invocationCount < threshold) {
+        // the next calls also use the compiled code
+        invocationCount = threshold;
+        compile();
+      }
+      var loopCode = loopCodes.computeIfAbsent(loop.condition(),
+          condition -> ByteCodeRewriter.compileLoop(name, parameters, body, condition, globalEnv, CompileOptions.DEFAULT, self));
+      if (loopCode.isEmpty()) {
+        return null;
+      }
+      OSR_COUNTER.increment();
+      try {
+        return (Object) loopCode.orElseThrow().invokeExact((Object) callEnv);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new Failure(e.getMessage(), e);
+      }
+    }
+
+    private void compile() {
+      callSite.setTarget(ByteCodeRewriter.compile(name, parameters, body, globalEnv, CompileOptions.DEFAULT, self));
+      COMPILATION_COUNTER.increment();
+    }
+
+    @Override
+    public JSObject create(String name, List<String> parameters, Block body, JSObject env, int lineNumber) {
+      return TieredInterpreter.createFunction(name, parameters, body, env, lineNumber, globalEnv, threshold);
+    }
+  }
+
+  private static JSObject createFunction(String name, List<String> parameters, Block body, JSObject env, int lineNumber,
+                                         JSObject globalEnv, int threshold) {
+    var function = new TieredFunction(name, parameters, body, env, lineNumber, globalEnv, threshold);
+    var self = JSObject.newFunction(name, function.callSite.dynamicInvoker());
+    function.self = self;
+    return self;
+  }
+
+  public static void interpret(Script script, PrintStream outStream) {
+    interpret(script, outStream, DEFAULT_THRESHOLD);
+  }
+
+  // a function is compiled after threshold calls
+  public static void interpret(Script script, PrintStream outStream, int threshold) {
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("invalid threshold " + threshold);
+    }
+    var sink = new PrintSink(outStream);
+    var globalEnv = JVMInterpreter.createGlobalEnv(sink);
+    // the values are the values of the JVM backend, so both tiers can call each other
+    try {
+      ASTInterpreter.visit(script.body(), globalEnv,
+          (name, parameters, body, env, lineNumber) -> createFunction(name, parameters, body, env, lineNumber, globalEnv, threshold));
+    } finally {
+      sink.flush();
+    }
+  }
+}
@@ -0,0 +1,316 @@
+package fr.umlv.smalljs.ast;
+
+import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.umlv.smalljs.ast.ASTOptimizer.Pass;
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.FunCall;
+import fr.umlv.smalljs.ast.Expr.InlinedCall;
+import fr.umlv.smalljs.ast.Expr.LocalVarAccess;
+import fr.umlv.smalljs.astinterp.ASTInterpreter;
+import fr.umlv.smalljs.jvminterp.JVMInterpreter;
+import fr.umlv.smalljs.rt.InlineGuard;
+import fr.umlv.smalljs.rt.JSObject;
+import fr.umlv.smalljs.stackinterp.StackInterpreter;
+
+@SuppressWarnings("static-method")
+public class ASTOptimizerTests {
+  private static List<Expr> optimize(String code) {
+    return ASTOptimizer.optimize(createScript(new StringReader(code))).body().instrs();
+  }
+
+  private static List<Expr> optimize(String code, Set<Pass> passes) {
+    return ASTOptimizer.optimize(createScript(new StringReader(code)), passes).body().instrs();
+  }
+
+  private static List<Expr> parse(String code) {
+    return createScript(new StringReader(code)).body().instrs();
+  }
+
+  private static String execute(String code, BiConsumer<Script, PrintStream> interpreter) {
+    var script = ASTOptimizer.optimize(createScript(new StringReader(code)));
+    var outStream = new ByteArrayOutputStream(8192);
+    interpreter.accept(script, new PrintStream(outStream, false, UTF_8));
+    return outStream.toString(UTF_8).replace("\r\n", "\n");
+  }
+
+  @Tag("Q1") @Test
+  public void foldArithmetic() {
+    assertEquals(parse("print(5);\n"), optimize("print(1 + 2 * 2);\n"));
+    assertEquals(parse("print(4, 2);\n"), optimize("print(7 - 3, 7 % 5);\n"));
+  }
+  @Tag("Q1") @Test
+  public void doNotFoldADivisionByZero() {
+    assertEquals(parse("print(1 / 0);\n"), optimize("print(1 / 0);\n"));
+  }
+  @Tag("Q1") @Test
+  public void doNotFoldAStringConcatenation() {
+    assertEquals(parse("print('a' + 1);\n"), optimize("print('a' + 1);\n"));
+  }
+  @Tag("Q1") @Test
+  public void doNotFoldARedefinedOperator() {
+    var code = """
+        function add(+) {
+          return 1 + 2;
+        }
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+
+  @Tag("Q2") @Test
+  public void propagateAConstantVariable() {
+    assertEquals(parse("""
+        var a = 4;
+        print(5);
+        """), optimize("""
+        var a = 4;
+        print(1 + a);
+        """));
+  }
+  @Tag("Q2") @Test
+  public void doNotPropagateAVariableUsedBeforeItsDeclaration() {
+    var code = """
+        print(a);
+        var a = 2;
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q2") @Test
+  public void doNotPropagateAnAssignedVariable() {
+    var code = """
+        var a = 2;
+        a = 3;
+        print(a);
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q2") @Test
+  public void doNotPropagateAVariableDeclaredInABranch() {
+    var code = """
+        function f(x) {
+          if (x < 3) {
+            var a = 0;
+          } else {
+            var a = x;
+          }
+          return a;
+        }
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+
+  @Tag("Q3") @Test
+  public void eliminateADeadBranch() {
+    var instrs = optimize("""
+        var a = 2;
+        if (a == 2) {
+          print("true");
+          var b = 3;
+        } else {
+          print("false");
+        }
+        print(b);
+        """);
+    assertEquals(3, instrs.size());
+    var block = assertInstanceOf(Block.class, instrs.get(1));
+    assertEquals(parse("""
+        //
+        //
+          print("true");
+          var b = 3;
+        """), block.instrs());
+  }
+  @Tag("Q3") @Test
+  public void doNotEliminateABranchThatDeclaresAVariable() {
+    var code = """
+        if (1 < 2) {
+          print("true");
+        } else {
+          var b = 3;
+        }
+        print(b);
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q3") @Test
+  public void eliminateADeadBranchOnlyWithThePass() {
+    var code = """
+        if (1 < 2) {
+          print("true");
+        } else {
+          print("false");
+        }
+        """;
+    assertEquals(parse(code), optimize(code, Set.of(Pass.BUILTIN_INLINING, Pass.CONSTANT_FOLDING)));
+  }
+
+  @Tag("Q4") @Test
+  public void inlineABuiltinCalledOnGlobal() {
+    assertEquals(parse("print(3);\n"), optimize("global.print(1 + 2);\n"));
+  }
+  @Tag("Q4") @Test
+  public void inlineABuiltinCalledWithApply() {
+    assertEquals(parse("print(3);\n"), optimize("print.apply(3);\n"));
+  }
+  @Tag("Q4") @Test
+  public void doNotInlineARedefinedBuiltin() {
+    var code = """
+        global.print = 3;
+        global.print(1);
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+
+  @Tag("Q5") @Test
+  public void sameResultForAllInterpreters() {
+    var code = """
+        var a = 2;
+        if (a == 2) {
+          print("true");
+          var b = 3;
+        } else {
+          print("false");
+        }
+        print(b);
+        print(1 + 2 * 2);
+        global.print(a * 3);
+        """;
+    var expected = "true\n3\n5\n6\n";
+    assertEquals(expected, execute(code, ASTInterpreter::interpret));
+    assertEquals(expected, execute(code, StackInterpreter::interpret));
+    assertEquals(expected, execute(code, JVMInterpreter::interpret));
+  }
+
+  @Tag("Q6") @Test
+  public void inlineASmallFunction() {
+    var instrs = optimize("""
+        function add(a, b) {
+          return a + b;
+        }
+        print(add(1, 2));
+        """);
+    var print = assertInstanceOf(FunCall.class, instrs.get(1));
+    var inlinedCall = assertInstanceOf(InlinedCall.class, print.args().getFirst());
+    assertAll(
+        () -> assertEquals(List.of("a:0", "b:0"), inlinedCall.parameters()),
+        () -> assertEquals(new FunCall(new LocalVarAccess("+", 2),
+            List.of(new LocalVarAccess("a:0", 2), new LocalVarAccess("b:0", 2)), 2), inlinedCall.expr()),
+        () -> assertEquals("add", inlinedCall.guard().name())
+    );
+  }
+  @Tag("Q6") @Test
+  public void doNotInlineARecursiveFunction() {
+    var code = """
+        function f(n) {
+          return f(n);
+        }
+        print(f(1));
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q6") @Test
+  public void doNotInlineAFunctionDeclaredTwice() {
+    var code = """
+        function f(n) {
+          return n;
+        }
+        function f(n) {
+          return n + 1;
+        }
+        print(f(1));
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q6") @Test
+  public void doNotInlineAFunctionUsingALocalVariable() {
+    var code = """
+        function f(n) {
+          return n + y;
+        }
+        var y = 3;
+        print(f(1));
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q6") @Test
+  public void doNotInlineAFunctionWithSeveralInstructions() {
+    var code = """
+        function f(n) {
+          print(n);
+          return n;
+        }
+        print(f(1));
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q6") @Test
+  public void doNotInlineANestedFunction() {
+    var code = """
+        function f(n) {
+          function g(x) {
+            return x + n;
+          }
+          return g(1);
+        }
+        print(f(1));
+        """;
+    assertEquals(parse(code), optimize(code));
+  }
+  @Tag("Q6") @Test
+  public void guardIsInvalidWhenTheGlobalIsNotAFunction() {
+    var globalEnv = JSObject.newEnv(null);
+    var guard = new InlineGuard("f");
+    assertFalse(guard.isValid(globalEnv));
+    globalEnv.register("f", JSObject.newFunction("f", (self, receiver, args) -> 0));
+    assertTrue(guard.isValid(globalEnv));
+    globalEnv.register("f", 3);
+    assertFalse(guard.isValid(globalEnv));
+  }
+  @Tag("Q6") @Test
+  public void inlinedCallsSameResultForAllInterpreters() {
+    var code = """
+        function twice(x) {
+          return x + x;
+        }
+        function incr(o) {
+          o.n = o.n + 1;
+          return o.n;
+        }
+        function isEven(n) {
+          if (n < 2) {
+            return 1 - n;
+          } else {
+            return isOdd(n - 1);
+          }
+        }
+        function isOdd(n) {
+          return isEven(n - 1);
+        }
+        var counter = { n: 1 };
+        print(twice(incr(counter)));
+        print(counter.n);
+        print(twice(twice(3)));
+        print(isEven(10), isEven(7));
+        """;
+    var expected = "4\n2\n12\n1 0\n";
+    assertEquals(expected, execute(code, ASTInterpreter::interpret));
+    assertEquals(expected, execute(code, StackInterpreter::interpret));
+    assertEquals(expected, execute(code, JVMInterpreter::interpret));
+  }
+}
@@ -0,0 +1,140 @@
+package fr.umlv.smalljs.ast;
+
+import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
+import static fr.umlv.smalljs.ast.ASTBuilder.createScriptWithTatoo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.umlv.smalljs.ast.Expr.Block;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
+import fr.umlv.smalljs.ast.Expr.New;
+import fr.umlv.smalljs.ast.Expr.NewArray;
+import fr.umlv.smalljs.rt.Failure;
+
+@SuppressWarnings("static-method")
+public class ParserTests {
+  private static void assertSameAST(String code) {
+    assertEquals(createScriptWithTatoo(new StringReader(code)), createScript(new StringReader(code)), code);
+  }
+
+  private static void assertBothFail(String code) {
+    assertAll(code,
+        () -> assertThrows(RuntimeException.class, () -> createScriptWithTatoo(new StringReader(code))),
+        () -> assertThrows(Failure.class, () -> createScript(new StringReader(code))));
+  }
+
+  @Tag("Q1") @Test
+  public void samples() throws IOException {
+    List<Path> paths;
+    try (var stream = Files.list(Path.of("samples"))) {
+      paths = stream.filter(path -> path.toString().endsWith(".js")).sorted().toList();
+    }
+    assertFalse(paths.isEmpty());
+    for (var path : paths) {
+      assertSameAST(Files.readString(path));
+    }
+  }
+
+  @Tag("Q2") @Test
+  public void instructions() {
+    assertAll(
+        () -> assertSameAST(""),
+        () -> assertSameAST("print('hello');print(\"world\")\n"),
+        () -> assertSameAST("var a = 3\na = a + 1\n"),
+        () -> assertSameAST("o.x.y = 1; a[0][1] = a[1]\n"),
+        () -> assertSameAST("o.m(1, 2).x(3)(4)[5].y = 6;\n"),
+        () -> assertSameAST("if a < 3 {\n  print(a)\n} else {\n}\n"),
+        () -> assertSameAST("while a < 3 {\n  a = a + 1\n}\n"),
+        () -> assertSameAST("for (var i = 0; i < 10; i = i + 1) {\n  print(i)\n}\n"),
+        () -> assertSameAST("for (i = 0; i < 10; f(i)) {}\n"),
+        () -> assertSameAST("function fact(n) {\n  return n * fact(n - 1)\n}\n"),
+        () -> assertSameAST("\n\n// comment\nprint(1)\r\n")
+    );
+  }
+
+  @Tag("Q2") @Test
+  public void expressions() {
+    assertAll(
+        () -> assertSameAST("print(1 + 2 * 3 - 4 / 5 % 6)\n"),
+        () -> assertSameAST("print(a < b <= c > d >= e == f != g)\n"),
+        () -> assertSameAST("print((1 + 2) * 3, [1, [2]], [])\n"),
+        () -> assertSameAST("var o = {\n  x: 1,\n  f: function (a,\n b) {\n    return a\n  }\n}\n"),
+        () -> assertSameAST("var o = { a: 1, b: 2, a: 3 }\n"),
+        () -> assertSameAST("print(\"multi\nline\" + a)\n"),
+        () -> assertSameAST("print(a\n, b\n)\n"),
+        () -> assertSameAST("var x = a +\n  b\n")
+    );
+  }
+
+  // the tokens are the tokens of the Tatoo lexer, the longest one among the ones the grammar accepts
+  @Tag("Q3") @Test
+  public void tokens() {
+    assertAll(
+        () -> assertSameAST("a+b\n"),
+        () -> assertSameAST("print(x - -1, 2-1)\n"),
+        () -> assertSameAST("variable = 1\n"),
+        () -> assertSameAST("iffy(a <= b, a < b)\n"),
+        () -> assertSameAST("{}\n")
+    );
+  }
+
+  @Tag("Q3") @Test
+  public void lineNumbersOfEmptyBlocksObjectsAndArrays() {
+    var instrs = createScript(new StringReader("""
+        var f = function() {
+
+        }
+        var o = {
+        }
+        var a = [
+
+        ]
+        """)).body().instrs();
+    assertAll(
+        () -> assertEquals(new Fun(Optional.empty(), List.of(), new Block(List.of(), 3), 3),
+            ((LocalVarAssignment) instrs.get(0)).expr()),
+        () -> assertEquals(new New(Map.of(), 5), ((LocalVarAssignment) instrs.get(1)).expr()),
+        () -> assertEquals(new NewArray(List.of(), 8), ((LocalVarAssignment) instrs.get(2)).expr()),
+        () -> assertSameAST("if a {\n}\n\nelse {\n}\n")
+    );
+  }
+
+  @Tag("Q4") @Test
+  public void errors() {
+    assertAll(
+        () -> assertBothFail("print(1)"),
+        () -> assertBothFail("var x = a\n + b\n"),
+        () -> assertBothFail("print(1) // comment\nprint(2)\n"),
+        () -> assertBothFail("var o = {a: 1}\n"),
+        () -> assertBothFail("if a {\n  print(a)}\nelse {\n}\n"),
+        () -> assertBothFail("x = 12345678901\n")
+    );
+  }
+
+  // the eol is recognized after a field access and after the right operand of an operator, whatever the context
+  @Tag("Q4") @Test
+  public void eolAfterAFieldAccessOrAnOperation() {
+    assertAll(
+        () -> assertBothFail("print(a.f\n)\n"),
+        () -> assertBothFail("print(a + b\n)\n"),
+        () -> assertBothFail("if a + b\n{\n} else {\n}\n"),
+        () -> assertBothFail("for (var i = 0; i < n\n; i = i + 1) {\n}\n"),
+        () -> assertSameAST("print(a\n + b, f(1)\n, a[0]\n)\n"),
+        () -> assertSameAST("var o = { a: b + c\n, d: e.f\n}\n")
+    );
+  }
+}
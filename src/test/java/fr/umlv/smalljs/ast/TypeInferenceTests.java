@@ -0,0 +1,227 @@
+package fr.umlv.smalljs.ast;
+
+import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.umlv.smalljs.ast.Expr.FieldAccess;
+import fr.umlv.smalljs.ast.Expr.Fun;
+import fr.umlv.smalljs.ast.Expr.FunCall;
+import fr.umlv.smalljs.ast.Expr.LocalVarAssignment;
+import fr.umlv.smalljs.ast.Expr.Return;
+import fr.umlv.smalljs.ast.TypeInference.Type;
+import fr.umlv.smalljs.astinterp.ASTInterpreter;
+import fr.umlv.smalljs.jvminterp.CompileOptions;
+import fr.umlv.smalljs.jvminterp.CompileOptions.Verification;
+import fr.umlv.smalljs.jvminterp.JVMInterpreter;
+import fr.umlv.smalljs.stackinterp.StackInterpreter;
+
+@SuppressWarnings("static-method")
+public class TypeInferenceTests {
+  private record Result(List<Expr> instrs, TypeInference types) {}
+
+  private static Result infer(String code) {
+    var script = createScript(new StringReader(code));
+    return new Result(script.body().instrs(), TypeInference.infer(script));
+  }
+
+  private static String execute(String code, BiConsumer<Script, PrintStream> interpreter) {
+    var script = createScript(new StringReader(code));
+    var outStream = new ByteArrayOutputStream(8192);
+    interpreter.accept(script, new PrintStream(outStream, false, UTF_8));
+    return outStream.toString(UTF_8).replace("\r\n", "\n");
+  }
+
+  // the argument of the call at the index of the script
+  private static Expr argument(Result result, int index) {
+    return ((FunCall) result.instrs().get(index)).args().getFirst();
+  }
+
+  @Tag("Q1") @Test
+  public void literals() {
+    var result = infer("""
+        print(3);
+        print("hello");
+        """);
+    assertAll(
+        () -> assertEquals(Type.Basic.INT, result.types().typeOf(argument(result, 0))),
+        () -> assertEquals(Type.Basic.STRING, result.types().typeOf(argument(result, 1)))
+    );
+  }
+  @Tag("Q1") @Test
+  public void arithmetic() {
+    var result = infer("""
+        var a = 3;
+        print(a + 2 * a);
+        """);
+    var call = (FunCall) argument(result, 1);
+    assertAll(
+        () -> assertEquals(Type.Basic.INT, result.types().typeOf(call)),
+        () -> assertTrue(result.types().isIntOperation(call)),
+        () -> assertEquals(new Type.Builtin("+"), result.types().typeOf(call.qualifier()))
+    );
+  }
+  @Tag("Q1") @Test
+  public void variableWithSeveralTypes() {
+    var result = infer("""
+        var a = 3;
+        a = "hello";
+        print(a + 1);
+        """);
+    var call = (FunCall) argument(result, 2);
+    assertAll(
+        () -> assertEquals(Type.Basic.ANY, result.types().typeOf(call)),
+        () -> assertFalse(result.types().isIntOperation(call))
+    );
+  }
+  @Tag("Q1") @Test
+  public void redefinedOperator() {
+    var result = infer("""
+        global.+ = 3;
+        print(1 + 2);
+        """);
+    var call = (FunCall) argument(result, 1);
+    assertFalse(result.types().isIntOperation(call));
+  }
+  @Tag("Q1") @Test
+  public void comparison() {
+    var result = infer("""
+        print(1 < 2);
+        """);
+    assertEquals(Type.Basic.BOOLEAN, result.types().typeOf(argument(result, 0)));
+  }
+
+  @Tag("Q2") @Test
+  public void parameterOfACalledFunction() {
+    var result = infer("""
+        function fibo(n) {
+          if (n < 2) {
+            return n;
+          } else {
+            return fibo(n - 1) + fibo(n - 2);
+          }
+        }
+        print(fibo(7));
+        """);
+    var fun = (Fun) result.instrs().get(0);
+    assertAll(
+        () -> assertEquals(new Type.KnownFunction(fun), result.types().typeOf(fun)),
+        () -> assertEquals(Type.Basic.INT, result.types().typeOf(argument(result, 1)))
+    );
+  }
+  @Tag("Q2") @Test
+  public void parameterOfAnEscapingFunction() {
+    var result = infer("""
+        function f(n) {
+          return n + 1;
+        }
+        var g = f;
+        print(f(2));
+        """);
+    var fun = (Fun) result.instrs().get(0);
+    var ret = (Return) fun.body().instrs().getFirst();
+    assertEquals(Type.Basic.ANY, result.types().typeOf(ret.expr()));
+  }
+  @Tag("Q2") @Test
+  public void functionThatDoesNotAlwaysReturn() {
+    var result = infer("""
+        function f(n) {
+          if (n < 2) {
+            return n;
+          } else {
+            print(n);
+          }
+        }
+        print(f(2));
+        """);
+    assertEquals(Type.Basic.ANY, result.types().typeOf(argument(result, 1)));
+  }
+
+  @Tag("Q3") @Test
+  public void shape() {
+    var result = infer("""
+        var p = { x: 1, y: "a" };
+        print(p.x, p.y);
+        """);
+    var init = ((LocalVarAssignment) result.instrs().get(0)).expr();
+    var print = (FunCall) result.instrs().get(1);
+    assertAll(
+        () -> assertEquals(new Type.Shape(List.of("x", "y")), result.types().typeOf(init)),
+        () -> assertEquals(Type.Basic.INT, result.types().typeOf(print.args().get(0))),
+        () -> assertEquals(Type.Basic.STRING, result.types().typeOf(print.args().get(1))),
+        () -> assertEquals(Optional.of(1), result.types().fieldSlot(((FieldAccess) print.args().get(1)).receiver(), "y"))
+    );
+  }
+  @Tag("Q3") @Test
+  public void fieldAssignedWithAnotherType() {
+    var result = infer("""
+        var p = { x: 1 };
+        p.x = "a";
+        print(p.x);
+        """);
+    assertEquals(Type.Basic.ANY, result.types().typeOf(argument(result, 2)));
+  }
+  @Tag("Q3") @Test
+  public void fieldAssignedOnAnUnknownObject() {
+    var result = infer("""
+        function f(o) {
+          o.x = "a";
+        }
+        var g = f;
+        var p = { x: 1 };
+        print(p.x);
+        """);
+    assertEquals(Type.Basic.ANY, result.types().typeOf(argument(result, 3)));
+  }
+  @Tag("Q3") @Test
+  public void twoShapes() {
+    var result = infer("""
+        var p = { x: 1 };
+        p = { x: 1, y: 2 };
+        print(p.x);
+        """);
+    var fieldAccess = assertInstanceOf(FieldAccess.class, argument(result, 2));
+    assertAll(
+        () -> assertEquals(Type.Basic.ANY, result.types().typeOf(fieldAccess)),
+        () -> assertEquals(Optional.empty(), result.types().fieldSlot(fieldAccess.receiver(), "x"))
+    );
+  }
+
+  @Tag("Q4") @Test
+  public void sameResultForAllInterpreters() {
+    var code = """
+        function fibo(n) {
+          if (n < 2) {
+            return n;
+          } else {
+            return fibo(n - 1) + fibo(n - 2);
+          }
+        }
+        var p = { x: 1, y: 2 };
+        p.y = p.x + fibo(10);
+        var big = 1073741823 + 1;
+        print(p.x, p.y, big - 1, big + big, 0 - big - 1);
+        print(7 / 2, 7 % 2, 3 * 4, 2 <= 3, 3 != 3);
+        """;
+    // the comparisons of the JVM backend return a Boolean
+    var expected = "1 56 1073741823 -2147483648 -1073741825\n3 1 12 ";
+    assertEquals(expected + "1 0\n", execute(code, ASTInterpreter::interpret));
+    assertEquals(expected + "1 0\n", execute(code, StackInterpreter::interpret));
+    assertEquals(expected + "true false\n", execute(code, (script, out) ->
+        JVMInterpreter.interpret(script, out, CompileOptions.DEFAULT.withVerification(Verification.FULL))));
+  }
+}
@@ -388,4 +388,138 @@ public class ASTInterpreterTests {
                 object.foo(42);
                 """));
   }
+
+  @Tag("Q18") @Test
+  public void whileLoop() {
+    assertEquals("0\n1\n2\n", execute("""
+        var i = 0;
+        while (i < 3) {
+          print(i);
+          i = i + 1;
+        }
+        """));
+  }
+  @Tag("Q18") @Test
+  public void forLoopDeclaringAVariableInItsBody() {
+    assertEquals("385\n", execute("""
+        function sumOfSquares(n) {
+          var total = 0;
+          for (var i = 1; i <= n; i = i + 1) {
+            var square = i * i;
+            total = total + square;
+          }
+          return total;
+        }
+        print(sumOfSquares(10));
+        """));
+  }
+  @Tag("Q18") @Test
+  public void nestedLoops() {
+    assertEquals("0 0\n0 1\n1 0\n1 1\n", execute("""
+        for (var i = 0; i < 2; i = i + 1) {
+          var j = 0;
+          while (j < 2) {
+            print(i, j);
+            j = j + 1;
+          }
+        }
+        """));
+  }
+
+  @Tag("Q19") @Test
+  public void arrayLiteralAndIndexedAccess() {
+    assertEquals("[1, 2, 3]\n2 3\n", execute("""
+        var a = [1, 2, 3];
+        print(a);
+        print(a[1], length(a));
+        """));
+  }
+  @Tag("Q19") @Test
+  public void arrayElementAssignment() {
+    assertEquals("[1, 42, 3]\n", execute("""
+        var a = [1, 2, 3];
+        a[1] = 42;
+        print(a);
+        """));
+  }
+  @Tag("Q19") @Test
+  public void arrayGrowsWhenAppending() {
+    assertEquals("10 0 81\n", execute("""
+        var a = [];
+        for (var i = 0; i < 10; i = i + 1) {
+          a[length(a)] = i * i;
+        }
+        print(length(a), a[0], a[9]);
+        """));
+  }
+  @Tag("Q19") @Test
+  public void arrayOfIntsSwitchesToObjects() {
+    assertEquals("[1, hello, 3, 4]\n", execute("""
+        var a = [1, 2, 3];
+        a[1] = "hello";
+        a[3] = 4;
+        print(a);
+        """));
+  }
+  @Tag("Q19") @Test
+  public void arrayIndexOutOfBounds() {
+    assertThrows(Failure.class, () -> execute("""
+        var a = [1, 2];
+        print(a[2]);
+        """));
+    assertThrows(Failure.class, () -> execute("""
+        var a = [1, 2];
+        a[3] = 4;
+        """));
+  }
+
+  @Tag("Q20") @Test
+  public void stringConcatenation() {
+    assertEquals("hello world\nanswer 42\n", execute("""
+        print("hello" + " " + "world");
+        print("answer " + 42);
+        """));
+  }
+  @Tag("Q20") @Test
+  public void longStringBuiltRecursivelyIsComparedAsAString() {
+    assertEquals("abcdefghabcdefghabcdefghabcdefghabcdefgh\n1 0\n", execute("""
+        function repeat(s, n) {
+          if (n == 0) {
+            return "";
+          } else {
+            return s + repeat(s, n - 1);
+          }
+        }
+        var line = repeat("abcdefgh", 5);
+        print(line);
+        print(line == "abcdefgh" + repeat("abcdefgh", 4), line < repeat("abcdefgh", 4));
+        """));
+  }
+  @Tag("Q21") @Test
+  public void printNonAsciiIsEncodedInUTF8() {
+    assertEquals("h\u00e9llo \u20ac\n\ud83d\ude00 1\n", execute("""
+        print("h\u00e9llo \u20ac");
+        print("\ud83d\ude00", 1);
+        """));
+  }
+  @Tag("Q21") @Test
+  public void manyPrintsAreAllWritten() {
+    var output = execute("""
+        for (var i = 0; i < 20000; i = i + 1) {
+          print("line", i);
+        }
+        """);
+    assertEquals(20000, output.lines().count());
+    assertEquals("line 19999", output.lines().toList().getLast());
+  }
+  @Tag("Q21") @Test
+  public void printIsWrittenEvenIfTheScriptFails() {
+    var script = createScript(new StringReader("""
+        print("before");
+        print(1 + undefinedVariable);
+        """));
+    var outStream = new ByteArrayOutputStream(8192);
+    assertThrows(Failure.class, () -> ASTInterpreter.interpret(script, new PrintStream(outStream, false, UTF_8)));
+    assertEquals("before\n", outStream.toString(UTF_8).replace("\r\n", "\n"));
+  }
 }
@@ -4,24 +4,34 @@ import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import fr.umlv.smalljs.jvminterp.CompileOptions.Verification;
 import fr.umlv.smalljs.rt.Failure;
 
 @SuppressWarnings("static-method")
 public class JVMInterpreterTests {
   private static String execute(String code) {
+    return execute(code, CompileOptions.DEFAULT.withVerification(Verification.FULL));
+  }
+
+  private static String execute(String code, CompileOptions options) {
     var script = createScript(new StringReader(code));
     var outStream = new ByteArrayOutputStream(8192);
-    JVMInterpreter.interpret(script, new PrintStream(outStream, false, StandardCharsets.UTF_8));
+    JVMInterpreter.interpret(script, new PrintStream(outStream, false, StandardCharsets.UTF_8), options);
     return outStream.toString(StandardCharsets.UTF_8).replace("\r\n", "\n");
   }
 
@@ -412,4 +422,532 @@ public class JVMInterpreterTests {
                 """));
   }
 
+  @Tag("Q18") @Test
+  public void selfTailCallIsALoop() {
+    assertEquals(
+        "1000000\n",
+        execute("""
+                function count(n, acc) {
+                  if (n == 0) {
+                    return acc;
+                  } else {
+                    return count(n - 1, acc + 1);
+                  }
+                }
+                print(count(1000000, 0));
+                """));
+  }
+  @Tag("Q18") @Test
+  public void selfTailCallToAShadowedFunction() {
+    assertEquals(
+        "2\n",
+        execute("""
+                function f(n) {
+                  if (n == 0) {
+                    return 1;
+                  } else {
+                    return f(n - 1);
+                  }
+                }
+                var g = f;
+                function f(n) {
+                  return n + 2;
+                }
+                print(g(1));
+                """));
+  }
+  @Tag("Q18") @Test
+  public void mutuallyTailRecursiveFunctionsWithATrampoline() {
+    assertEquals(
+        "even\nodd\n",
+        execute("""
+                function isEven(n) {
+                  if (n == 0) {
+                    return "even";
+                  } else {
+                    return isOdd(n - 1);
+                  }
+                }
+                function isOdd(n) {
+                  if (n == 0) {
+                    return "odd";
+                  } else {
+                    return isEven(n - 1);
+                  }
+                }
+                print(isEven(100000));
+                print(isEven(100001));
+                """, CompileOptions.DEFAULT.withTrampoline(true)));
+  }
+  @Tag("Q18") @Test
+  public void trampolineCallsANativeFunctionInTailPosition() {
+    assertEquals(
+        "7\n",
+        execute("""
+                function add(a, b) {
+                  return a + b;
+                }
+                print(add(3, 4));
+                """, CompileOptions.DEFAULT.withTrampoline(true)));
+  }
+  @Tag("Q18") @Test
+  public void trampolineDoesNotTrampolineAnIntOperation(@TempDir Path directory) throws IOException {
+    assertEquals(
+        "7\n",
+        execute("""
+                function add(a, b) {
+                  return a + b;
+                }
+                print(add(3, 4));
+                """, CompileOptions.debug(directory).withTrampoline(true)));
+    try (var stream = Files.list(directory)) {
+      var add = stream.filter(path -> path.getFileName().toString().startsWith("add-")).findFirst().orElseThrow();
+      var bytes = new String(Files.readAllBytes(add), StandardCharsets.ISO_8859_1);
+      assertFalse(bytes.contains("bsm_tailcall"));
+    }
+  }
+  @Tag("Q18") @Test
+  public void trampolineHandleIsNotVisibleFromTheScript() {
+    assertEquals(
+        """
+        3 undefined
+        { // function f
+          apply: ... // function f
+          proto: null
+        }
+        """,
+        execute("""
+                function f(n) {
+                  return g(n);
+                }
+                function g(n) {
+                  return n;
+                }
+                print(f(3), f.__tailcall__);
+                print(f);
+                """, CompileOptions.DEFAULT.withTrampoline(true)));
+  }
+
+  @Tag("Q19") @Test
+  public void backgroundCompilation() {
+    assertEquals(
+        "10946\n",
+        execute("""
+                function fibo(n) {
+                  if (n < 2) {
+                    return 1;
+                  } else {
+                    return fibo(n - 1) + fibo(n - 2);
+                  }
+                }
+                print(fibo(20));
+                """, CompileOptions.DEFAULT.withBackground(true)));
+  }
+  @Tag("Q19") @Test
+  public void backgroundCompilationReplacesTheInterpretedCode() throws InterruptedException {
+    var compilationCount = BackgroundCompiler.compilationCount();
+    assertEquals(
+        "3\n",
+        execute("""
+                function add(a, b) {
+                  return a + b;
+                }
+                var sub = function(a, b) {
+                  return a - b;
+                };
+                print(sub(add(2, 2), 1));
+                """, CompileOptions.DEFAULT.withBackground(true)));
+    for (var i = 0; i < 500 && BackgroundCompiler.compilationCount() < compilationCount + 2; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(compilationCount + 2, BackgroundCompiler.compilationCount());
+  }
+  @Tag("Q19") @Test
+  public void backgroundCompilationWithATrampoline() throws InterruptedException {
+    var compilationCount = BackgroundCompiler.compilationCount();
+    assertEquals(
+        "1000\n",
+        execute("""
+                function isEven(n) {
+                  if (n == 0) {
+                    return 1;
+                  } else {
+                    return isOdd(n - 1);
+                  }
+                }
+                function isOdd(n) {
+                  if (n == 0) {
+                    return 0;
+                  } else {
+                    return isEven(n - 1);
+                  }
+                }
+                var count = 0;
+                for (var i = 0; i < 2000; i = i + 1) {
+                  count = count + isEven(i);
+                }
+                print(count);
+                """, CompileOptions.DEFAULT.withBackground(true).withTrampoline(true)));
+    for (var i = 0; i < 500 && BackgroundCompiler.compilationCount() < compilationCount + 2; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(compilationCount + 2, BackgroundCompiler.compilationCount());
+  }
+  @Tag("Q19") @Test
+  public void backgroundCompilationFailureKeepsTheFunctionInterpreted() throws InterruptedException {
+    var failureCount = BackgroundCompiler.failureCount();
+    // the bytecode of the function is too large for a method
+    assertEquals(
+        "10001\n",
+        execute("""
+                function f(x) {
+                """ + "  x = x + 1;\n".repeat(10_000) + """
+                  return x;
+                }
+                print(f(1));
+                """, CompileOptions.DEFAULT.withBackground(true)));
+    for (var i = 0; i < 500 && BackgroundCompiler.failureCount() < failureCount + 1; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(failureCount + 1, BackgroundCompiler.failureCount());
+  }
+
+  @Tag("Q20") @Test
+  public void allVerificationLevels() {
+    for (var verification : Verification.values()) {
+      assertEquals(
+          "5\n",
+          execute("""
+                  function add(a, b) {
+                    return a + b;
+                  }
+                  print(add(2, 3));
+                  """, CompileOptions.DEFAULT.withVerification(verification)));
+    }
+  }
+  @Tag("Q20") @Test
+  public void debugWritesTheClassesInADirectory(@TempDir Path directory) throws IOException {
+    assertEquals(
+        "5\n",
+        execute("""
+                function add(a, b) {
+                  return a + b;
+                }
+                print(add(2, 3));
+                """, CompileOptions.debug(directory)));
+    try (var stream = Files.list(directory)) {
+      var names = stream.map(path -> path.getFileName().toString()).sorted().toList();
+      assertEquals(2, names.size());
+      assertTrue(names.get(0).startsWith("add-") && names.get(0).endsWith(".class"));
+      assertTrue(names.get(1).startsWith("main-") && names.get(1).endsWith(".class"));
+    }
+  }
+
+  @Tag("Q21") @Test
+  public void wholeScriptIsOneClass(@TempDir Path directory) throws IOException {
+    assertEquals(
+        "6765\nhello 42\n",
+        execute("""
+                function fibo(n) {
+                  if (n < 2) {
+                    return 1;
+                  } else {
+                    return fibo(n - 1) + fibo(n - 2);
+                  }
+                }
+                print(fibo(19));
+                var object = {
+                  bar: "hello",
+                  foo: function(x) {
+                         print(this.bar, x);
+                       }
+                };
+                object.foo(42);
+                """, CompileOptions.debug(directory).withWholeScript(true)));
+    try (var stream = Files.list(directory)) {
+      assertEquals(1, stream.count());
+    }
+  }
+  @Tag("Q21") @Test
+  public void wholeScriptGlobalFunctionIsRedefined() {
+    assertEquals(
+        "1\n2\n",
+        execute("""
+                function f() {
+                  return 1;
+                }
+                function g() {
+                  return f();
+                }
+                print(g());
+                global.f = function() {
+                  return 2;
+                };
+                print(g());
+                """, CompileOptions.DEFAULT.withWholeScript(true)));
+  }
+  @Tag("Q21") @Test
+  public void wholeScriptCallAGlobalFunctionWithTheWrongNumberOfArguments() {
+    assertThrows(Failure.class, () -> execute("""
+        function foo(a, b) {
+        }
+        print(foo(2));
+        """, CompileOptions.DEFAULT.withWholeScript(true)));
+  }
+
+  @Tag("Q22") @Test
+  public void closureCapturesAParameter() {
+    assertEquals(
+        "hello 1\nbonjour 2\n",
+        execute("""
+                function greeter(message) {
+                  return function(n) {
+                    print(message, n);
+                  };
+                }
+                var hello = greeter("hello");
+                var bonjour = greeter("bonjour");
+                hello(1);
+                bonjour(2);
+                """));
+  }
+  @Tag("Q22") @Test
+  public void closuresShareACapturedVariable() {
+    assertEquals(
+        "1\n2\n2\n",
+        execute("""
+                function counter() {
+                  var count = 0;
+                  var object = {
+                    inc: function() {
+                      count = count + 1;
+                      return count;
+                    },
+                    get: function() {
+                      return count;
+                    }
+                  };
+                  return object;
+                }
+                var c = counter();
+                print(c.inc());
+                print(c.inc());
+                print(c.get());
+                """));
+  }
+  @Tag("Q22") @Test
+  public void nestedClosureCapturesAVariableOfTheMainScript() {
+    assertEquals(
+        "3\n",
+        execute("""
+                var base = 1;
+                function adder(a) {
+                  return function(b) {
+                    return base + a + b;
+                  };
+                }
+                print(adder(1)(1));
+                """));
+  }
+  @Tag("Q22") @Test
+  public void closureInWholeScriptAndTrampolineModes() {
+    var code = """
+        function adder(a) {
+          return function(b) {
+            return a + b;
+          };
+        }
+        var add2 = adder(2);
+        print(add2(3));
+        """;
+    assertEquals("5\n", execute(code, CompileOptions.DEFAULT.withWholeScript(true)));
+    assertEquals("5\n", execute(code, CompileOptions.DEFAULT.withTrampoline(true)));
+  }
+
+  @Tag("Q23") @Test
+  public void whileLoop() {
+    assertEquals("0\n1\n2\n", execute("""
+        var i = 0;
+        while (i < 3) {
+          print(i);
+          i = i + 1;
+        }
+        """));
+  }
+  @Tag("Q23") @Test
+  public void forLoopDeclaringAVariableInItsBody() {
+    assertEquals("385\n", execute("""
+        function sumOfSquares(n) {
+          var total = 0;
+          for (var i = 1; i <= n; i = i + 1) {
+            var square = i * i;
+            total = total + square;
+          }
+          return total;
+        }
+        print(sumOfSquares(10));
+        """));
+  }
+  @Tag("Q23") @Test
+  public void nestedLoops() {
+    assertEquals("0 0\n0 1\n1 0\n1 1\n", execute("""
+        for (var i = 0; i < 2; i = i + 1) {
+          var j = 0;
+          while (j < 2) {
+            print(i, j);
+            j = j + 1;
+          }
+        }
+        """));
+  }
+  @Tag("Q23") @Test
+  public void longLoopDoesNotGrowTheStack() {
+    assertEquals("100000\n", execute("""
+        function count(n) {
+          var i = 0;
+          while (i < n) {
+            i = i + 1;
+          }
+          return i;
+        }
+        print(count(100000));
+        """));
+  }
+
+  @Tag("Q24") @Test
+  public void arrayLiteralAndIndexedAccess() {
+    assertEquals("[1, 2, 3]\n2 3\n", execute("""
+        var a = [1, 2, 3];
+        print(a);
+        print(a[1], length(a));
+        """));
+  }
+  @Tag("Q24") @Test
+  public void arrayElementAssignment() {
+    assertEquals("[1, 42, 3]\n", execute("""
+        var a = [1, 2, 3];
+        a[1] = 42;
+        print(a);
+        """));
+  }
+  @Tag("Q24") @Test
+  public void arrayGrowsWhenAppending() {
+    assertEquals("10 0 81\n", execute("""
+        var a = [];
+        for (var i = 0; i < 10; i = i + 1) {
+          a[length(a)] = i * i;
+        }
+        print(length(a), a[0], a[9]);
+        """));
+  }
+  @Tag("Q24") @Test
+  public void arrayOfIntsSwitchesToObjects() {
+    assertEquals("[1, hello, 3, 4]\n", execute("""
+        var a = [1, 2, 3];
+        a[1] = "hello";
+        a[3] = 4;
+        print(a);
+        """));
+  }
+  @Tag("Q24") @Test
+  public void arrayIndexOutOfBounds() {
+    assertThrows(Failure.class, () -> execute("""
+        var a = [1, 2];
+        print(a[2]);
+        """));
+    assertThrows(Failure.class, () -> execute("""
+        var a = [1, 2];
+        a[3] = 4;
+        """));
+  }
+  @Tag("Q24") @Test
+  public void arraySumInAFunction() {
+    assertEquals("4950\n", execute("""
+        function sum(array) {
+          var total = 0;
+          for (var i = 0; i < length(array); i = i + 1) {
+            total = total + array[i];
+          }
+          return total;
+        }
+        var a = [];
+        for (var i = 0; i < 100; i = i + 1) {
+          a[i] = i;
+        }
+        print(sum(a));
+        """));
+  }
+  @Tag("Q24") @Test
+  public void fieldOfAnArrayElementAssignedInALoop() {
+    assertEquals("3 4\n", execute("""
+        function shift(points) {
+          for (var i = 0; i < length(points); i = i + 1) {
+            points[i].x = points[i].x + 2;
+          }
+        }
+        var points = [{ x: 1 }, { x: 2 }];
+        shift(points);
+        print(points[0].x, points[1].x);
+        """));
+  }
+
+  @Tag("Q25") @Test
+  public void stringConcatenation() {
+    assertEquals("hello world\nanswer 42\n", execute("""
+        print("hello" + " " + "world");
+        print("answer " + 42);
+        """));
+  }
+  @Tag("Q25") @Test
+  public void longStringBuiltRecursivelyIsComparedAsAString() {
+    assertEquals("abcdefghabcdefghabcdefghabcdefghabcdefgh\ntrue false\n", execute("""
+        function repeat(s, n) {
+          if (n == 0) {
+            return "";
+          } else {
+            return s + repeat(s, n - 1);
+          }
+        }
+        var line = repeat("abcdefgh", 5);
+        print(line);
+        print(line == "abcdefgh" + repeat("abcdefgh", 4), line < repeat("abcdefgh", 4));
+        """));
+  }
+  @Tag("Q25") @Test
+  public void longStringBuiltInALoop() {
+    assertEquals("100000 x\n", execute("""
+        var s = "";
+        for (var i = 0; i < 100000; i = i + 1) {
+          s = s + "x";
+        }
+        print(length(s), "x" + "");
+        """));
+  }
+  @Tag("Q26") @Test
+  public void printNonAsciiIsEncodedInUTF8() {
+    assertEquals("h\u00e9llo \u20ac\n\ud83d\ude00 1\n", execute("""
+        print("h\u00e9llo \u20ac");
+        print("\ud83d\ude00", 1);
+        """));
+  }
+  @Tag("Q26") @Test
+  public void manyPrintsAreAllWritten() {
+    var output = execute("""
+        for (var i = 0; i < 20000; i = i + 1) {
+          print("line", i);
+        }
+        """);
+    assertEquals(20000, output.lines().count());
+    assertEquals("line 19999", output.lines().toList().getLast());
+  }
+  @Tag("Q26") @Test
+  public void printIsWrittenEvenIfTheScriptFails() {
+    var script = createScript(new StringReader("""
+        print("before");
+        print(1 + undefinedVariable);
+        """));
+    var outStream = new ByteArrayOutputStream(8192);
+    assertThrows(Failure.class, () -> JVMInterpreter.interpret(script, new PrintStream(outStream, false, StandardCharsets.UTF_8)));
+    assertEquals("before\n", outStream.toString(StandardCharsets.UTF_8).replace("\r\n", "\n"));
+  }
 }
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
 
 import static fr.umlv.smalljs.rt.JSObject.UNDEFINED;
 import static fr.umlv.smalljs.stackinterp.Instructions.CONST;
@@ -21,12 +22,15 @@ import static fr.umlv.smalljs.stackinterp.Instructions.NEW;
 import static fr.umlv.smalljs.stackinterp.Instructions.POP;
 import static fr.umlv.smalljs.stackinterp.Instructions.PRINT;
 import static fr.umlv.smalljs.stackinterp.Instructions.PUT;
+import static fr.umlv.smalljs.stackinterp.Instructions.REGISTER;
 import static fr.umlv.smalljs.stackinterp.Instructions.RET;
 import static fr.umlv.smalljs.stackinterp.Instructions.STORE;
 import static fr.umlv.smalljs.stackinterp.TagValues.encodeDictObject;
 import static fr.umlv.smalljs.stackinterp.TagValues.encodeSmallInt;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SuppressWarnings("static-method")
 public class StackInterpreterGCTests {
@@ -39,11 +43,14 @@ public class StackInterpreterGCTests {
     return fun;
   }
   private static String execute(Code mainCode, Dictionary dict) {
+    return execute(mainCode, dict, GC.markCompact(Heap.ofArray(96)));
+  }
+  private static String execute(Code mainCode, Dictionary dict, GC gc) {
     var outStream = new ByteArrayOutputStream(8192);
     var globalEnv = StackInterpreter.createGlobalEnv(new PrintStream(outStream, false, UTF_8));
     var mainFun = newMainFunction(mainCode);
     globalEnv.register("main", mainFun);
-    StackInterpreter.execute(mainFun, dict, globalEnv);
+    StackInterpreter.execute(mainFun, dict, globalEnv, gc);
     return outStream.toString(UTF_8).replace("\r\n", "\n");
   }
 
@@ -80,133 +87,375 @@ public class StackInterpreterGCTests {
     execute(new Code(instrs, 1, 2), dict);
   }
 
-//  @Tag("Q3") @Test
-//  public void gcTestRewriteField() {
-//  	var dict = new Dictionary();
-//  	var clazz = JSObject.newObject(null);
-//  	clazz.register("field", 0);
-//  	int[] instrs = {
-//  		/* 0:*/ CONST, encodeSmallInt(21),
-//    	/* 2:*/ NEW, encodeDictObject(clazz, dict),
-//    	/* 4:*/ POP,  // should be GCed
-//
-//    	/* 5:*/ CONST, encodeSmallInt(42),
-//    	/* 7:*/ NEW, encodeDictObject(clazz, dict),
-//    	/* 9:*/ STORE, 2, // should not be GCed
-//
-//    	/*11:*/ LOAD, 2,
-//    	/*13:*/ CONST, encodeSmallInt(84),
-//    	/*15:*/ NEW, encodeDictObject(clazz, dict),
-//    	/*17:*/ PUT, encodeDictObject("field", dict), // modification after creation
-//
-//  		/*19:*/ CONST, encodeSmallInt(100),
-//  	  /*21:*/ STORE, 1,
-//
-//  	  /*23:*/ LOAD, 1,
-//  	  /*25:*/ JUMP_IF_FALSE, 46,
-//
-//  	  /*27:*/ LOAD, 2,
-//  	  /*29:*/ NEW, encodeDictObject(clazz, dict),
-//  	  /*31:*/ POP,  // should be GCed
-//
-//  	  /*32:*/ LOOKUP, encodeDictObject("-", dict),
-//  	  /*34:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*36:*/ LOAD, 1,
-//  	  /*38:*/ CONST, encodeSmallInt(1),
-//  	  /*40:*/ FUNCALL, 2,
-//  	  /*42:*/ STORE, 1,
-//
-//  	  /*44:*/ GOTO, 23,
-//
-//  	  /*46:*/ LOAD, 2,
-//  	  /*48:*/ GET, encodeDictObject("field", dict),
-//  	  /*50:*/ GET, encodeDictObject("field", dict),
-//  	  /*52:*/ PRINT,
-//
-//  	  /*53:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*31:*/ RET
-//  	};
-//    assertEquals("84\n", execute(new Code(instrs, 1, 3), dict));
-//  }
-//
-//  @Tag("Q4") @Test
-//  public void gcTestWithFields() {
-//  	var dict = new Dictionary();
-//  	var pointClass = JSObject.newObject(null);
-//  	pointClass.register("x", 0);
-//  	pointClass.register("y", 1);
-//  	var emptyClass = JSObject.newObject(null);
-//  	int[] instrs = {
-//  		/* 0:*/ CONST, encodeSmallInt(100),
-//  	  /* 2:*/ STORE, 1,
-//
-//  	  /* 4:*/ LOAD, 1,
-//  	  /* 6:*/ JUMP_IF_FALSE, 29,
-//
-//  	  /* 8:*/ NEW, encodeDictObject(emptyClass, dict),
-//  	  /*10:*/ NEW, encodeDictObject(emptyClass, dict),
-//  	  /*12:*/ NEW, encodeDictObject(pointClass, dict),
-//
-//  	  /*14:*/ POP,
-//
-//  	  /*15:*/ LOOKUP, encodeDictObject("-", dict),
-//  	  /*17:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*19:*/ LOAD, 1,
-//  	  /*21:*/ CONST, encodeSmallInt(1),
-//  	  /*23:*/ FUNCALL, 2,
-//  	  /*25:*/ STORE, 1,
-//
-//  	  /*27:*/ GOTO, 4,
-//
-//  	  /*29:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*31:*/ RET
-//  	};
-//    execute(new Code(instrs, 1, 2), dict);
-//  }
-//
-//  @Tag("Q5") @Test
-//  public void gcTestLikedList() {
-//  	var dict = new Dictionary();
-//  	var linkClass = JSObject.newObject(null);
-//  	linkClass.register("value", 0);
-//  	linkClass.register("next", 1);
-//  	int[] instrs = {
-//  		/* 0:*/ CONST, encodeSmallInt(100),
-//  	  /* 2:*/ STORE, 1,
-//  	  /* 4:*/ LOAD, 1,
-//  	  /* 6:*/ JUMP_IF_FALSE, 60,
-//  	  /* 8:*/ CONST, encodeSmallInt(10),
-//  	  /*10:*/ STORE, 2,
-//  	  /*12:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*14:*/ STORE, 3,
-//  	  /*16:*/ LOAD, 2,
-//  	  /*18:*/ JUMP_IF_FALSE, 42,
-//  	  /*20:*/ LOAD, 3,
-//  	  /*22:*/ LOAD, 2,
-//  	  /*24:*/ NEW, encodeDictObject(linkClass, dict),
-//  	  /*26:*/ STORE, 3,
-//
-//  	  /*28:*/ LOOKUP, encodeDictObject("-", dict),
-//  	  /*30:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*32:*/ LOAD, 2,
-//  	  /*34:*/ CONST, encodeSmallInt(1),
-//  	  /*36:*/ FUNCALL, 2,
-//  	  /*38:*/ STORE, 2,
-//
-//  	  /*40:*/ GOTO, 16,
-//  	  /*42:*/ CONST, encodeDictObject(UNDEFINED, dict),  // free
-//  	  /*44:*/ STORE, 3,
-//
-//  	  /*46:*/ LOOKUP, encodeDictObject("-", dict),
-//  	  /*48:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*50:*/ LOAD, 1,
-//  	  /*52:*/ CONST, encodeSmallInt(1),
-//  	  /*54:*/ FUNCALL, 2,
-//  	  /*56:*/ STORE, 1,
-//  	  /*58:*/ GOTO, 4,
-//  	  /*60:*/ CONST, encodeDictObject(UNDEFINED, dict),
-//  	  /*62:*/ RET
-//  	};
-//    execute(new Code(instrs, 1, 4), dict);
-//  }
+  @Tag("Q3") @Test
+  public void gcTestRewriteField() {
+  	var dict = new Dictionary();
+  	var clazz = JSObject.newObject(null);
+  	clazz.register("field", 0);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(21),
+    	/* 2:*/ NEW, encodeDictObject(clazz, dict),
+    	/* 4:*/ POP,  // should be GCed
+
+    	/* 5:*/ CONST, encodeSmallInt(42),
+    	/* 7:*/ NEW, encodeDictObject(clazz, dict),
+    	/* 9:*/ STORE, 2, // should not be GCed
+
+    	/*11:*/ LOAD, 2,
+    	/*13:*/ CONST, encodeSmallInt(84),
+    	/*15:*/ NEW, encodeDictObject(clazz, dict),
+    	/*17:*/ PUT, encodeDictObject("field", dict), // modification after creation
+
+  		/*19:*/ CONST, encodeSmallInt(100),
+  	  /*21:*/ STORE, 1,
+
+  	  /*23:*/ LOAD, 1,
+  	  /*25:*/ JUMP_IF_FALSE, 46,
+
+  	  /*27:*/ LOAD, 2,
+  	  /*29:*/ NEW, encodeDictObject(clazz, dict),
+  	  /*31:*/ POP,  // should be GCed
+
+  	  /*32:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*34:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*36:*/ LOAD, 1,
+  	  /*38:*/ CONST, encodeSmallInt(1),
+  	  /*40:*/ FUNCALL, 2,
+  	  /*42:*/ STORE, 1,
+
+  	  /*44:*/ GOTO, 23,
+
+  	  /*46:*/ LOAD, 2,
+  	  /*48:*/ GET, encodeDictObject("field", dict),
+  	  /*50:*/ GET, encodeDictObject("field", dict),
+  	  /*52:*/ PRINT,
+
+  	  /*53:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*31:*/ RET
+  	};
+    assertEquals("84\n", execute(new Code(instrs, 1, 3), dict));
+  }
+
+  @Tag("Q4") @Test
+  public void gcTestWithFields() {
+  	var dict = new Dictionary();
+  	var pointClass = JSObject.newObject(null);
+  	pointClass.register("x", 0);
+  	pointClass.register("y", 1);
+  	var emptyClass = JSObject.newObject(null);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(100),
+  	  /* 2:*/ STORE, 1,
+
+  	  /* 4:*/ LOAD, 1,
+  	  /* 6:*/ JUMP_IF_FALSE, 29,
+
+  	  /* 8:*/ NEW, encodeDictObject(emptyClass, dict),
+  	  /*10:*/ NEW, encodeDictObject(emptyClass, dict),
+  	  /*12:*/ NEW, encodeDictObject(pointClass, dict),
+
+  	  /*14:*/ POP,
+
+  	  /*15:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*17:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*19:*/ LOAD, 1,
+  	  /*21:*/ CONST, encodeSmallInt(1),
+  	  /*23:*/ FUNCALL, 2,
+  	  /*25:*/ STORE, 1,
+
+  	  /*27:*/ GOTO, 4,
+
+  	  /*29:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*31:*/ RET
+  	};
+    execute(new Code(instrs, 1, 2), dict);
+  }
+
+  @Tag("Q5") @Test
+  public void gcTestLikedList() {
+  	var dict = new Dictionary();
+  	var linkClass = JSObject.newObject(null);
+  	linkClass.register("value", 0);
+  	linkClass.register("next", 1);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(100),
+  	  /* 2:*/ STORE, 1,
+  	  /* 4:*/ LOAD, 1,
+  	  /* 6:*/ JUMP_IF_FALSE, 60,
+  	  /* 8:*/ CONST, encodeSmallInt(10),
+  	  /*10:*/ STORE, 2,
+  	  /*12:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*14:*/ STORE, 3,
+  	  /*16:*/ LOAD, 2,
+  	  /*18:*/ JUMP_IF_FALSE, 42,
+  	  /*20:*/ LOAD, 3,
+  	  /*22:*/ LOAD, 2,
+  	  /*24:*/ NEW, encodeDictObject(linkClass, dict),
+  	  /*26:*/ STORE, 3,
+
+  	  /*28:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*30:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*32:*/ LOAD, 2,
+  	  /*34:*/ CONST, encodeSmallInt(1),
+  	  /*36:*/ FUNCALL, 2,
+  	  /*38:*/ STORE, 2,
+
+  	  /*40:*/ GOTO, 16,
+  	  /*42:*/ CONST, encodeDictObject(UNDEFINED, dict),  // free
+  	  /*44:*/ STORE, 3,
+
+  	  /*46:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*48:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*50:*/ LOAD, 1,
+  	  /*52:*/ CONST, encodeSmallInt(1),
+  	  /*54:*/ FUNCALL, 2,
+  	  /*56:*/ STORE, 1,
+  	  /*58:*/ GOTO, 4,
+  	  /*60:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*62:*/ RET
+  	};
+    execute(new Code(instrs, 1, 4), dict);
+  }
+
+  @Tag("Q6") @Test
+  public void gcTestInsideAFunctionCall() {
+  	var dict = new Dictionary();
+  	var clazz = JSObject.newObject(null);
+  	clazz.register("field", 0);
+  	int[] f = {
+  		/* 0:*/ CONST, encodeSmallInt(100),
+  	  /* 2:*/ STORE, 1,
+  	  /* 4:*/ LOAD, 1,
+  	  /* 6:*/ JUMP_IF_FALSE, 27,
+  	  /* 8:*/ LOAD, 1,
+  	  /*10:*/ NEW, encodeDictObject(clazz, dict),
+  	  /*12:*/ POP,  // should be GCed
+  	  /*13:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*15:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*17:*/ LOAD, 1,
+  	  /*19:*/ CONST, encodeSmallInt(1),
+  	  /*21:*/ FUNCALL, 2,
+  	  /*23:*/ STORE, 1,
+  	  /*25:*/ GOTO, 4,
+  	  /*27:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*29:*/ RET
+  	};
+  	var fFunction = JSObject.newFunction("f", (self, receiver, args) -> {
+  		throw new Failure("native call not supported");
+  	});
+  	fFunction.register("__code__", new Code(f, 1, 2));
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(42),
+  	  /* 2:*/ NEW, encodeDictObject(clazz, dict),
+  	  /* 4:*/ STORE, 1, // should not be GCed
+  	  /* 6:*/ LOOKUP, encodeDictObject("+", dict),  // the saved pc (16) looks like a reference
+  	  /* 8:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*10:*/ CONST, encodeDictObject(fFunction, dict),
+  	  /*12:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*14:*/ FUNCALL, 0,
+  	  /*16:*/ POP,
+  	  /*17:*/ POP,
+  	  /*18:*/ POP,
+  	  /*19:*/ LOAD, 1,
+  	  /*21:*/ GET, encodeDictObject("field", dict),
+  	  /*23:*/ PRINT,
+  	  /*24:*/ POP,
+  	  /*25:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*27:*/ RET
+  	};
+    assertEquals("42\n", execute(new Code(instrs, 1, 2), dict));
+  }
+
+  @Tag("Q7") @Test
+  public void gcTestGenerationalOldObjectReferencesAYoungObject() {
+  	var dict = new Dictionary();
+  	var clazz = JSObject.newObject(null);
+  	clazz.register("field", 0);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(21),
+  	  /* 2:*/ NEW, encodeDictObject(clazz, dict),
+  	  /* 4:*/ STORE, 2, // promoted to the old generation by the loop
+
+  	  /* 6:*/ CONST, encodeSmallInt(20),
+  	  /* 8:*/ STORE, 1,
+  	  /*10:*/ LOAD, 1,
+  	  /*12:*/ JUMP_IF_FALSE, 33,
+  	  /*14:*/ CONST, encodeSmallInt(0),
+  	  /*16:*/ NEW, encodeDictObject(clazz, dict),
+  	  /*18:*/ POP,
+  	  /*19:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*21:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*23:*/ LOAD, 1,
+  	  /*25:*/ CONST, encodeSmallInt(1),
+  	  /*27:*/ FUNCALL, 2,
+  	  /*29:*/ STORE, 1,
+  	  /*31:*/ GOTO, 10,
+
+  	  /*33:*/ LOAD, 2,
+  	  /*35:*/ CONST, encodeSmallInt(84),
+  	  /*37:*/ NEW, encodeDictObject(clazz, dict),
+  	  /*39:*/ PUT, encodeDictObject("field", dict), // only reachable from the old generation
+
+  	  /*41:*/ CONST, encodeSmallInt(20),
+  	  /*43:*/ STORE, 1,
+  	  /*45:*/ LOAD, 1,
+  	  /*47:*/ JUMP_IF_FALSE, 68,
+  	  /*49:*/ CONST, encodeSmallInt(0),
+  	  /*51:*/ NEW, encodeDictObject(clazz, dict),
+  	  /*53:*/ POP,
+  	  /*54:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*56:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*58:*/ LOAD, 1,
+  	  /*60:*/ CONST, encodeSmallInt(1),
+  	  /*62:*/ FUNCALL, 2,
+  	  /*64:*/ STORE, 1,
+  	  /*66:*/ GOTO, 45,
+
+  	  /*68:*/ LOAD, 2,
+  	  /*70:*/ GET, encodeDictObject("field", dict),
+  	  /*72:*/ GET, encodeDictObject("field", dict),
+  	  /*74:*/ PRINT,
+
+  	  /*75:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*77:*/ RET
+  	};
+    assertEquals("84\n", execute(new Code(instrs, 1, 3), dict, GC.generational(Heap.ofArray(96), 24)));
+  }
+
+  @Tag("Q7") @Test
+  public void gcTestGenerationalMajorCollection() {
+  	var dict = new Dictionary();
+  	var linkClass = JSObject.newObject(null);
+  	linkClass.register("value", 0);
+  	linkClass.register("next", 1);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(100),
+  	  /* 2:*/ STORE, 1,
+  	  /* 4:*/ LOAD, 1,
+  	  /* 6:*/ JUMP_IF_FALSE, 62,
+  	  /* 8:*/ CONST, encodeSmallInt(10),
+  	  /*10:*/ STORE, 2,
+  	  /*12:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*14:*/ STORE, 3,
+  	  /*16:*/ LOAD, 2,
+  	  /*18:*/ JUMP_IF_FALSE, 42,
+  	  /*20:*/ LOAD, 3,
+  	  /*22:*/ LOAD, 2,
+  	  /*24:*/ NEW, encodeDictObject(linkClass, dict),
+  	  /*26:*/ STORE, 3,
+
+  	  /*28:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*30:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*32:*/ LOAD, 2,
+  	  /*34:*/ CONST, encodeSmallInt(1),
+  	  /*36:*/ FUNCALL, 2,
+  	  /*38:*/ STORE, 2,
+
+  	  /*40:*/ GOTO, 16,
+  	  /*42:*/ LOAD, 3,  // the list survives several minor collections
+  	  /*44:*/ GET, encodeDictObject("next", dict),
+  	  /*46:*/ STORE, 3,
+
+  	  /*48:*/ LOOKUP, encodeDictObject("-", dict),
+  	  /*50:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*52:*/ LOAD, 1,
+  	  /*54:*/ CONST, encodeSmallInt(1),
+  	  /*56:*/ FUNCALL, 2,
+  	  /*58:*/ STORE, 1,
+  	  /*60:*/ GOTO, 4,
+  	  /*62:*/ LOAD, 3,
+  	  /*64:*/ PRINT,
+  	  /*65:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*67:*/ RET
+  	};
+    assertEquals("1\n", execute(new Code(instrs, 1, 4), dict, GC.generational(Heap.ofArray(96), 24)));
+  }
+
+  @Tag("Q8") @Test
+  public void gcTestStackMaps() {
+  	var dict = new Dictionary();
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(1),
+  	  /* 2:*/ STORE, 1,
+  	  /* 4:*/ LOAD, 1,
+  	  /* 6:*/ JUMP_IF_FALSE, 22,
+  	  /* 8:*/ LOOKUP, encodeDictObject("print", dict),
+  	  /*10:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*12:*/ LOAD, 2,
+  	  /*14:*/ FUNCALL, 1,
+  	  /*16:*/ STORE, 2,
+  	  /*18:*/ GOTO, 4,
+  	  /*20:*/ POP,
+  	  /*21:*/ POP,
+  	  /*22:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*24:*/ RET
+  	};
+  	var stackMaps = InstrRewriter.stackMaps(instrs);
+  	assertEquals(BitSet.valueOf(new long[] { 0b110 }), stackMaps[10]);  // after LOOKUP
+  	assertEquals(BitSet.valueOf(new long[] { 0b010 }), stackMaps[16]);  // after FUNCALL, slot 2 is stored
+  	assertNull(stackMaps[12]);
+  }
+
+  @Tag("Q8") @Test
+  public void gcTestDeadLocalIsNotARoot() {
+  	var dict = new Dictionary();
+  	var clazz = JSObject.newObject(null);
+  	clazz.register("field", 0);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(42),
+  	  /* 2:*/ NEW, encodeDictObject(clazz, dict),
+  	  /* 4:*/ STORE, 1,
+  	  /* 6:*/ LOAD, 1,  // last use of the local variable
+  	  /* 8:*/ GET, encodeDictObject("field", dict),
+  	  /*10:*/ PRINT,
+  	  /*11:*/ POP,
+  	  /*12:*/ CONST, encodeSmallInt(0),
+  	  /*14:*/ NEW, encodeDictObject(clazz, dict),  // the heap can only store one object
+  	  /*16:*/ POP,
+  	  /*17:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*19:*/ RET
+  	};
+  	assertEquals("42\n", execute(new Code(instrs, 1, 2, InstrRewriter.stackMaps(instrs)), dict, GC.markCompact(Heap.ofArray(5))));
+  	assertThrows(Failure.class, () -> execute(new Code(instrs, 1, 2), dict, GC.markCompact(Heap.ofArray(5))));
+  }
+
+  @Tag("Q8") @Test
+  public void gcTestLookupAllocatingAboveADeadReference() {
+  	var dict = new Dictionary();
+  	var clazz = JSObject.newObject(null);
+  	clazz.register("field", 0);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeDictObject(1 << 30, dict),
+  	  /* 2:*/ REGISTER, encodeDictObject("big", dict),
+  	  /* 4:*/ CONST, encodeSmallInt(1),
+  	  /* 6:*/ NEW, encodeDictObject(clazz, dict),
+  	  /* 8:*/ POP,  // the dead reference stays just above sp
+  	  /* 9:*/ LOOKUP, encodeDictObject("big", dict),  // boxed, the heap can only store one object
+  	  /*11:*/ PRINT,
+  	  /*12:*/ POP,
+  	  /*13:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*15:*/ RET
+  	};
+  	assertEquals("1073741824\n", execute(new Code(instrs, 1, 1, InstrRewriter.stackMaps(instrs)), dict, GC.markCompact(Heap.ofArray(5))));
+  }
+
+  @Tag("Q8") @Test
+  public void gcTestMissingStackMapFails() {
+  	var dict = new Dictionary();
+  	var clazz = JSObject.newObject(null);
+  	clazz.register("field", 0);
+  	int[] instrs = {
+  		/* 0:*/ CONST, encodeSmallInt(42),
+  	  /* 2:*/ NEW, encodeDictObject(clazz, dict),
+  	  /* 4:*/ POP,
+  	  /* 5:*/ CONST, encodeSmallInt(0),
+  	  /* 7:*/ NEW, encodeDictObject(clazz, dict),  // the heap can only store one object
+  	  /* 9:*/ POP,
+  	  /*10:*/ CONST, encodeDictObject(UNDEFINED, dict),
+  	  /*12:*/ RET
+  	};
+  	var stackMaps = InstrRewriter.stackMaps(instrs);
+  	stackMaps[9] = null;
+  	assertThrows(AssertionError.class, () -> execute(new Code(instrs, 1, 2, stackMaps), dict, GC.markCompact(Heap.ofArray(5))));
+  }
 }
@@ -43,11 +43,14 @@ public class StackInterpreterInstrTests {
 		return fun;
 	}
 	private static String execute(Code mainCode, Dictionary dict) {
+		return execute(mainCode, dict, Heap.ofArray(96));
+	}
+	private static String execute(Code mainCode, Dictionary dict, Heap heap) {
 		var outStream = new ByteArrayOutputStream(8192);
 		var globalEnv = StackInterpreter.createGlobalEnv(new PrintStream(outStream, false, UTF_8));
 		var mainFun = newFunction("main", mainCode);
 		globalEnv.register("main", mainFun);
-		StackInterpreter.execute(mainFun, dict, globalEnv);
+		StackInterpreter.execute(mainFun, dict, globalEnv, heap);
 		return outStream.toString(UTF_8).replace("\r\n", "\n");
 	}
 
@@ -1143,6 +1146,36 @@ public class StackInterpreterInstrTests {
         execute(new Code(instrs, 1, 2), dict));
   }
 
+  @Tag("Q16") @Test
+  public void objectGetAndSetAFieldOffHeap() {
+    // var empty = {};
+    // var obj = { field: 2 };
+    // obj.field = 9;
+    // print(obj.field);
+    var dict = new Dictionary();
+    var emptyClass = JSObject.newObject(null);
+    var clazz = JSObject.newObject(null);
+    clazz.register("field", 0);
+    int[] instrs = {
+        NEW, encodeDictObject(emptyClass, dict),
+        STORE, 1,
+        CONST, encodeSmallInt(2),
+        NEW, encodeDictObject(clazz, dict),
+        STORE, 2,
+        LOAD, 2,
+        CONST, encodeSmallInt(9),
+        PUT, encodeDictObject("field", dict),
+        LOAD, 2,
+        GET, encodeDictObject("field", dict),
+        PRINT,
+        POP,
+        CONST, encodeDictObject(UNDEFINED, dict),
+        RET
+    };
+    assertEquals("9\n",
+        execute(new Code(instrs, 1, 3), dict, Heap.ofDirect(4096)));
+  }
+
   @Tag("Q17") @Test
   public void objectCallAMethod() {
   	// var object = {
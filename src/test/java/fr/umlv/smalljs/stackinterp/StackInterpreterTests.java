@@ -8,12 +8,18 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import fr.umlv.smalljs.ast.TypeInference;
 
 import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("static-method")
 public class StackInterpreterTests {
@@ -23,6 +29,21 @@ public class StackInterpreterTests {
     StackInterpreter.interpret(script, new PrintStream(outStream, false, UTF_8));
     return outStream.toString(UTF_8).replace("\r\n", "\n");
   }
+  private static String execute(String code, GC gc) {
+    var script = createScript(new StringReader(code));
+    var outStream = new ByteArrayOutputStream(8192);
+    StackInterpreter.interpret(script, new PrintStream(outStream, false, UTF_8), gc);
+    return outStream.toString(UTF_8).replace("\r\n", "\n");
+  }
+
+  private static String execute(String code, Dictionary dict, GC gc) {
+    var script = createScript(new StringReader(code));
+    var outStream = new ByteArrayOutputStream(8192);
+    var globalEnv = StackInterpreter.createGlobalEnv(new PrintStream(outStream, false, UTF_8));
+    var function = InstrRewriter.createFunction(Optional.of("main"), List.of(), script.body(), dict, globalEnv, TypeInference.infer(script));
+    StackInterpreter.execute(function, dict, globalEnv, gc);
+    return outStream.toString(UTF_8).replace("\r\n", "\n");
+  }
 
   @Tag("Q2") @Test
   public void helloString() {
@@ -54,6 +75,17 @@ public class StackInterpreterTests {
     assertEquals("1\n", execute("print(3 / 2)\n"));
   }
 
+  @Tag("Q6") @Test
+  public void printNegativeAndLargeIntegers() {
+    assertEquals("-3\n", execute("print(2 - 5)\n"));
+    assertEquals("1073741824\n", execute("print(1073741823 + 1)\n"));
+    assertEquals("-1073741825\n", execute("print(0 - 1073741824 - 1)\n"));
+    assertEquals("1073741823\n", execute("""
+            var big = 1073741823 + 1;
+            print(big - 1);
+            """));
+  }
+
   @Tag("Q7") @Test
   public void printPrint3() {
     assertEquals("3\nundefined\n", execute("print(print(3))\n"));
@@ -291,6 +323,41 @@ public class StackInterpreterTests {
   }
   
 
+  @Tag("Q12") @Test
+  public void callTailRecursiveFunction() {
+    assertEquals("500500\n", execute("""
+            function sum(n, acc) {
+              if (n < 1) {
+                return acc;
+              } else {
+                return sum(n - 1, acc + n);
+              }
+            }
+            print(sum(1000, 0));
+            """));
+  }
+  @Tag("Q12") @Test
+  public void callMutuallyTailRecursiveFunctions() {
+    assertEquals("1\n0\n", execute("""
+            function even(n) {
+              if (n == 0) {
+                return 1;
+              } else {
+                return odd(n - 1);
+              }
+            }
+            function odd(n) {
+              if (n == 0) {
+                return 0;
+              } else {
+                return even(n - 1);
+              }
+            }
+            print(even(1000));
+            print(odd(1000));
+            """));
+  }
+
   @Tag("Q13") @Test
   public void createAnObject() {
     assertEquals("""
@@ -337,7 +404,7 @@ public class StackInterpreterTests {
                   b: print('b')
                 };"""));
   }
-/*
+
   @Tag("Q15") @Test
   public void objectGetAFieldValue() {
     assertEquals(
@@ -394,5 +461,278 @@ public class StackInterpreterTests {
                 object.foo(42);
                 object.foo(42);
                 """));
-  }*/
+  }
+
+  @Tag("Q18") @Test
+  public void nonEscapingObject() {
+    assertEquals(
+        "3\n5\n",
+        execute("""
+                function f(a) {
+                  var p = { x: a, y: 2 };
+                  print(p.x + p.y);
+                  p.x = 3;
+                  return p.x + p.y;
+                }
+                print(f(1));
+                """));
+  }
+  @Tag("Q18") @Test
+  public void escapeAnalysis() {
+    var script = createScript(new StringReader("""
+            var p = { x: 1 };
+            print(p.x);
+            var q = { x: 1 };
+            print(q);
+            var r = { x: 1 };
+            r.y = 2;
+            print(s.x);
+            var s = { x: 1 };
+            var t = {};
+            t = 3;
+            """));
+    assertEquals(Set.of("p"), InstrRewriter.nonEscapingObjects(List.of(), script.body()).keySet());
+  }
+  @Tag("Q18") @Test
+  public void escapingObject() {
+    assertEquals(
+        "1\n2\n",
+        execute("""
+                function g(o) { return o.x; }
+                var p = { x: 1 };
+                print(g(p));
+                var q = { x: 2 };
+                q.x = q;
+                print(2);
+                """));
+  }
+
+  @Tag("Q19") @Test
+  public void closureCapturesAParameter() {
+    assertEquals(
+        "hello 1\nbonjour 2\n",
+        execute("""
+                function greeter(message) {
+                  return function(n) {
+                    print(message, n);
+                  };
+                }
+                var hello = greeter("hello");
+                var bonjour = greeter("bonjour");
+                hello(1);
+                bonjour(2);
+                """));
+  }
+  @Tag("Q19") @Test
+  public void closuresShareACapturedVariable() {
+    assertEquals(
+        "1\n2\n2\n",
+        execute("""
+                function counter() {
+                  var count = 0;
+                  var object = {
+                    inc: function() {
+                      count = count + 1;
+                      return count;
+                    },
+                    get: function() {
+                      return count;
+                    }
+                  };
+                  return object;
+                }
+                var c = counter();
+                print(c.inc());
+                print(c.inc());
+                print(c.get());
+                """));
+  }
+  @Tag("Q19") @Test
+  public void closureCapturesAnUpvalueOfTheEnclosingClosure() {
+    assertEquals(
+        "7\n",
+        execute("""
+                var base = 1;
+                function adder(a) {
+                  return function(b) {
+                    return function(c) {
+                      return base + a + b + c;
+                    };
+                  };
+                }
+                print(adder(1)(2)(3));
+                """));
+  }
+  @Tag("Q19") @Test
+  public void namedClosureIsALocalVariable() {
+    assertEquals(
+        "5050\nundefined\n",
+        execute("""
+                function sum(n) {
+                  var result = 0;
+                  function loop(i) {
+                    if (i == 0) {
+                      return result;
+                    } else {
+                      result = result + i;
+                      return loop(i - 1);
+                    }
+                  }
+                  return loop(n);
+                }
+                print(sum(100));
+                print(loop);
+                """));
+  }
+  @Tag("Q19") @Test
+  public void closuresSurviveTheGC() {
+    var code = """
+        function constant(n) {
+          return function() {
+            return n;
+          };
+        }
+        function sum(n, acc) {
+          if (n == 0) {
+            return acc;
+          } else {
+            return sum(n - 1, acc + constant(n)());
+          }
+        }
+        print(sum(100, 0));
+        """;
+    assertEquals("5050\n", execute(code));
+    assertEquals("5050\n", execute(code, GC.generational(Heap.ofArray(96), 24)));
+  }
+
+  @Tag("Q20") @Test
+  public void whileLoop() {
+    assertEquals("0\n1\n2\n", execute("""
+        var i = 0;
+        while (i < 3) {
+          print(i);
+          i = i + 1;
+        }
+        """));
+  }
+  @Tag("Q20") @Test
+  public void forLoopDeclaringAVariableInItsBody() {
+    assertEquals("385\n", execute("""
+        function sumOfSquares(n) {
+          var total = 0;
+          for (var i = 1; i <= n; i = i + 1) {
+            var square = i * i;
+            total = total + square;
+          }
+          return total;
+        }
+        print(sumOfSquares(10));
+        """));
+  }
+  @Tag("Q20") @Test
+  public void nestedLoops() {
+    assertEquals("0 0\n0 1\n1 0\n1 1\n", execute("""
+        for (var i = 0; i < 2; i = i + 1) {
+          var j = 0;
+          while (j < 2) {
+            print(i, j);
+            j = j + 1;
+          }
+        }
+        """));
+  }
+  @Tag("Q20") @Test
+  public void longLoopDoesNotGrowTheStack() {
+    assertEquals("100000\n", execute("""
+        function count(n) {
+          var i = 0;
+          while (i < n) {
+            i = i + 1;
+          }
+          return i;
+        }
+        print(count(100000));
+        """));
+  }
+
+  @Tag("Q21") @Test
+  public void arrayIsNotSupported() {
+    assertThrows(Failure.class, () -> execute("""
+        var a = [1, 2, 3];
+        print(a[0]);
+        """));
+  }
+
+  @Tag("Q22") @Test
+  public void stringConcatenation() {
+    assertEquals("hello world\nanswer 42\n", execute("""
+        print("hello" + " " + "world");
+        print("answer " + 42);
+        """));
+  }
+  @Tag("Q22") @Test
+  public void longStringBuiltRecursivelyIsComparedAsAString() {
+    assertEquals("abcdefghabcdefghabcdefghabcdefghabcdefgh\n1 0\n", execute("""
+        function repeat(s, n) {
+          if (n == 0) {
+            return "";
+          } else {
+            return s + repeat(s, n - 1);
+          }
+        }
+        var line = repeat("abcdefgh", 5);
+        print(line);
+        print(line == "abcdefgh" + repeat("abcdefgh", 4), line < repeat("abcdefgh", 4));
+        """));
+  }
+  private static String concatenationLoop(int n) {
+    return """
+        var s = "";
+        var t = "";
+        for (var i = 0; i < %d; i = i + 1) {
+          s = "x" + i;
+          t = t + "ab";
+        }
+        print(s, t == "abababababababababab", t < "b");
+        """.formatted(n);
+  }
+  @Tag("Q22") @Test
+  public void concatenationLoopDoesNotGrowTheDictionary() {
+    var dict = new Dictionary();
+    var heap = Heap.ofArray(96);
+    assertEquals("x9 1 1\n", execute(concatenationLoop(10), dict, GC.markCompact(heap)));
+    var dict2 = new Dictionary();
+    var heap2 = Heap.ofArray(96);
+    assertEquals("x999 0 1\n", execute(concatenationLoop(1_000), dict2, GC.markCompact(heap2)));
+    assertEquals(dict.size(), dict2.size());
+    assertTrue(heap2.strings().capacity() < 96, "" + heap2.strings().capacity());
+  }
+  @Tag("Q22") @Test
+  public void concatenationLoopDoesNotGrowTheDictionaryGenerational() {
+    var dict = new Dictionary();
+    var heap = Heap.ofArray(96);
+    assertEquals("x9 1 1\n", execute(concatenationLoop(10), dict, GC.generational(heap, 24)));
+    var dict2 = new Dictionary();
+    var heap2 = Heap.ofArray(96);
+    assertEquals("x999 0 1\n", execute(concatenationLoop(1_000), dict2, GC.generational(heap2, 24)));
+    assertEquals(dict.size(), dict2.size());
+    assertTrue(heap2.strings().capacity() < 96, "" + heap2.strings().capacity());
+  }
+  @Tag("Q23") @Test
+  public void printNonAsciiIsEncodedInUTF8() {
+    assertEquals("h\u00e9llo \u20ac\n\ud83d\ude00 1\n", execute("""
+        print("h\u00e9llo \u20ac");
+        print("\ud83d\ude00", 1);
+        """));
+  }
+  @Tag("Q23") @Test
+  public void printIsWrittenEvenIfTheScriptFails() {
+    var script = createScript(new StringReader("""
+        print("before");
+        print(1 + undefinedVariable);
+        """));
+    var outStream = new ByteArrayOutputStream(8192);
+    assertThrows(Failure.class, () -> StackInterpreter.interpret(script, new PrintStream(outStream, false, UTF_8)));
+    assertEquals("before\n", outStream.toString(UTF_8).replace("\r\n", "\n"));
+  }
 }
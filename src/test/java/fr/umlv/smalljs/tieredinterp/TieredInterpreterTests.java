@@ -0,0 +1,188 @@
+package fr.umlv.smalljs.tieredinterp;
+
+import static fr.umlv.smalljs.ast.ASTBuilder.createScript;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import fr.umlv.smalljs.rt.Failure;
+
+@SuppressWarnings("static-method")
+public class TieredInterpreterTests {
+  private static String execute(String code, int threshold) {
+    var script = createScript(new StringReader(code));
+    var outStream = new ByteArrayOutputStream(8192);
+    TieredInterpreter.interpret(script, new PrintStream(outStream, false, UTF_8), threshold);
+    return outStream.toString(UTF_8).replace("\r\n", "\n");
+  }
+
+  private static String execute(String code) {
+    return execute(code, 100);
+  }
+
+  @Tag("Q4") @Test
+  public void print() {
+    assertEquals("hello\n", execute("print(\"hello\")\n"));
+    assertEquals("3\n", execute("print(3 + 2 - 2)\n"));
+  }
+
+  @Tag("Q10") @Test
+  public void callAUserDefinedFunction() {
+    assertEquals("5\n", execute("""
+        function add(a, b) {
+          return a + b;
+        }
+        print(add(2, 3));
+        """));
+  }
+
+  @Tag("Q10") @Test
+  public void callAUserDefinedFunctionWithTheWrongNumberOfArguments() {
+    assertThrows(Failure.class, () -> execute("""
+        function foo(a, b) {
+        }
+        print(foo(2));
+        """));
+  }
+
+  @Tag("Q11") @Test
+  public void fiboIsCompiledWhenHot() {
+    TieredInterpreter.resetCompilationCount();
+    assertEquals("6765\n", execute("""
+        function fibo(n) {
+          if (n < 2) {
+            return 1;
+          } else {
+            return fibo(n - 1) + fibo(n - 2);
+          }
+        }
+        print(fibo(19));
+        """, 10));
+    assertEquals(1, TieredInterpreter.compilationCount());
+  }
+
+  @Tag("Q11") @Test
+  public void coldFunctionIsNotCompiled() {
+    TieredInterpreter.resetCompilationCount();
+    assertEquals("3\n", execute("""
+        function inc(n) {
+          return n + 1;
+        }
+        print(inc(inc(inc(0))));
+        """, 10));
+    assertEquals(0, TieredInterpreter.compilationCount());
+  }
+
+  @Tag("Q11") @Test
+  public void compiledFunctionCallsAnInterpretedFunction() {
+    TieredInterpreter.resetCompilationCount();
+    assertEquals("5\n7\n", execute("""
+        function twice(f, x) {
+          return f(f(x));
+        }
+        function inc(n) {
+          return n + 1;
+        }
+        print(twice(inc, 3));
+        print(twice(inc, 5));
+        """, 2));
+    assertEquals(2, TieredInterpreter.compilationCount());
+  }
+
+  @Tag("Q11") @Test
+  public void nestedFunctionIsNotCompiled() {
+    TieredInterpreter.resetCompilationCount();
+    assertEquals("hello 1\nhello 2\nhello 3\n", execute("""
+        function greeter(message) {
+          return function(n) {
+            print(message, n);
+          };
+        }
+        var f = greeter("hello");
+        f(1);
+        f(2);
+        f(3);
+        """, 1));
+    assertEquals(0, TieredInterpreter.compilationCount());
+  }
+
+  @Tag("Q11") @Test
+  public void closureGivesTheSameResultCompiledOrNot() {
+    var code = """
+        function counter() {
+          var c = 0;
+          return function() {
+            c = c + 1;
+            return c;
+          };
+        }
+        function test() {
+          var next = counter();
+          next();
+          print(next(), next());
+        }
+        test();
+        test();
+        """;
+    var expected = execute(code, 100);
+    assertEquals(expected, execute(code, 1));
+    assertEquals(expected, execute(code, 2));
+  }
+
+  @Tag("Q17") @Test
+  public void objectCallAMethod() {
+    assertEquals("hello 42\nhello 42\nhello 42\n", execute("""
+        var object = {
+          bar: "hello",
+          foo: function(x) {
+                 print(this.bar, x);
+               }
+        };
+        object.foo(42);
+        object.foo(42);
+        object.foo(42);
+        """, 2));
+  }
+
+  @Tag("Q18") @Test
+  public void longLoopIsCompiledOnStackReplacement() {
+    TieredInterpreter.resetCompilationCount();
+    TieredInterpreter.resetOSRCount();
+    assertEquals("4950 100\n", execute("""
+        function sum(n) {
+          var total = 0;
+          var i = 0;
+          while (i < n) {
+            total = total + i;
+            i = i + 1;
+          }
+          print(total, i);
+        }
+        sum(100);
+        """, 10));
+    assertEquals(1, TieredInterpreter.compilationCount());
+    assertEquals(1, TieredInterpreter.osrCount());
+  }
+  @Tag("Q18") @Test
+  public void shortLoopIsNotCompiled() {
+    TieredInterpreter.resetCompilationCount();
+    TieredInterpreter.resetOSRCount();
+    assertEquals("0\n1\n", execute("""
+        function count(n) {
+          for (var i = 0; i < n; i = i + 1) {
+            print(i);
+          }
+        }
+        count(2);
+        """, 10));
+    assertEquals(0, TieredInterpreter.compilationCount());
+    assertEquals(0, TieredInterpreter.osrCount());
+  }
+}